@@ -13,6 +13,12 @@ plugins {
      */
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("org.danilopianini.gradle-java-qa") version "1.6.0"
+
+    /*
+     * Adds the "jmh" source set (src/jmh/java) and the "jmh" task that runs the
+     * benchmarks of the simulation pipeline.
+     */
+    id("me.champeau.jmh") version "0.7.1"
 }
 
 repositories {
@@ -54,13 +60,35 @@ dependencies {
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$jUnitVersion")
 }
 
+// The Vector API used by the infection kernel is still an incubator module
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile> {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+tasks.withType<Javadoc> {
+    (options as CoreJavadocOptions).addStringOption("-add-modules", "jdk.incubator.vector")
+}
+
 tasks.withType<Test> {
     // Enables JUnit 5 Jupiter module
     useJUnitPlatform()
+    jvmArgs(vectorModule)
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    jvmArgsAppend.addAll(vectorModule)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
 }
 
 application {
     // Define the main class for the application
      mainClass.set("globaloutbreak.Launcher")
+     applicationDefaultJvmArgs = vectorModule
     //mainClass.set("it.unibo.samplejavafx.mvcexample.DrawNumberApp")
 }
@@ -0,0 +1,53 @@
+package globaloutbreak.benchmark;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Optional;
+
+import globaloutbreak.controller.disease.DiseaseController;
+import globaloutbreak.controller.disease.DiseaseControllerImpl;
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.diseasereader.DiseaseReaderImpl;
+import globaloutbreak.model.Model;
+import globaloutbreak.model.ModelImpl;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.simulation.ModelBootstrap;
+
+/**
+ * A model set up like a real game by {@link ModelBootstrap}, over a synthetic
+ * world.
+ */
+final class BenchmarkWorld {
+
+    static final String DISEASE = "Batteri";
+    static final long SEED = 42;
+
+    private final Model model;
+
+    /**
+     * @param regions
+     *                the location of the regions file
+     * @param infected
+     *                share of the population of every region already infected
+     */
+    BenchmarkWorld(final URL regions, final float infected) {
+        this.model = new ModelImpl(new XoroshiroRandomSource(SEED));
+        ModelBootstrap.setWorld(this.model, new RegionControllerImpl(regions));
+        final DiseaseController diseaseController = new DiseaseControllerImpl();
+        diseaseController.readFile(new DiseaseReaderImpl().getDiseases());
+        ModelBootstrap.setDisease(this.model, diseaseController, DISEASE);
+        this.model.setDiseaseName(DISEASE);
+        final List<Region> all = this.model.getRegions();
+        this.model.selectedRegion(Optional.of(all.get(0)));
+        all.forEach(r -> r.incOrDecInfectedPeople((long) (r.getPopTot() * infected)));
+    }
+
+    /**
+     * @return
+     *         the model
+     */
+    Model getModel() {
+        return this.model;
+    }
+}
@@ -0,0 +1,79 @@
+package globaloutbreak.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import globaloutbreak.model.cure.Cure;
+import globaloutbreak.model.cure.CureData;
+import globaloutbreak.model.cure.SimpleCureReaderImpl;
+import globaloutbreak.model.region.Region;
+
+/**
+ * Daily research of the cure, once every region is researching.
+ *
+ * Every day of research changes the cure, so the research is measured in
+ * single shots of {@value #DAYS} days that start from a new cure: every
+ * iteration measures the same days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CureBenchmark {
+
+    static final int DAYS = 100;
+    private static final float DEAD = 0.05f;
+    private static final int DAYS_TO_START = 20;
+
+    @Param({ "58", "1000", "10000" })
+    private int regions;
+
+    private Cure cure;
+
+    /**
+     * Creates a cure whose research has already started, before every batch of
+     * days.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        final BenchmarkWorld world = new BenchmarkWorld(SyntheticRegions.write(this.regions, BenchmarkWorld.SEED),
+                DEAD);
+        final List<Region> all = world.getModel().getRegions();
+        all.forEach(r -> r.incDeathPeople((long) (r.getPopTot() * DEAD), false));
+        this.cure = new SimpleCureReaderImpl().getSimpleCure(all);
+        for (int day = 0; day < DAYS_TO_START; day++) {
+            this.cure.research();
+        }
+    }
+
+    /**
+     * Runs a day of research.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(batchSize = DAYS)
+    @Measurement(batchSize = DAYS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void research() {
+        this.cure.research();
+    }
+
+    /**
+     * @return the status published to the view every tick
+     */
+    @Benchmark
+    public CureData globalStatus() {
+        return this.cure.getGlobalStatus();
+    }
+}
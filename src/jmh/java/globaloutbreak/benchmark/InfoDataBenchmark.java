@@ -0,0 +1,76 @@
+package globaloutbreak.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.infodata.InfoDataImpl;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
+
+/**
+ * Aggregation of the global deaths and infected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InfoDataBenchmark {
+
+    private static final float INFECTED = 0.1f;
+
+    @Param({ "58", "1000", "10000" })
+    private int regions;
+
+    private List<Region> all;
+    private RegionStateStore store;
+    private InfoData infoData;
+
+    /**
+     * Loads the regions and infects them.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final RegionController controller = new RegionControllerImpl(
+                SyntheticRegions.write(this.regions, BenchmarkWorld.SEED));
+        this.all = controller.getRegions();
+        this.store = controller.getStateStore();
+        this.all.forEach(r -> r.incOrDecInfectedPeople((long) (r.getPopTot() * INFECTED)));
+        this.infoData = new InfoDataImpl(this.store.getTotalPopulation());
+    }
+
+    /**
+     * Aggregates by walking the regions.
+     */
+    @Benchmark
+    public void fromRegions() {
+        this.infoData.updateTotalDeathsAndInfected(this.all);
+    }
+
+    /**
+     * Aggregates from the state store columns.
+     */
+    @Benchmark
+    public void fromStore() {
+        this.infoData.updateTotalDeathsAndInfected(this.store.getTotalDeaths(), this.store.getTotalInfected());
+    }
+
+    /**
+     * Checks the limits against the totals kept up to date by the region deltas.
+     */
+    @Benchmark
+    public void fromRunningTotals() {
+        this.infoData.updatePoints();
+    }
+}
@@ -0,0 +1,58 @@
+package globaloutbreak.benchmark;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.diseasereader.DiseaseReaderImpl;
+import globaloutbreak.model.disease.DiseaseData;
+import globaloutbreak.model.region.Region;
+
+/**
+ * Loading of the JSON configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoaderBenchmark {
+
+    @Param({ "58", "1000", "10000" })
+    private int regions;
+
+    private URL world;
+
+    /**
+     * Generates the world.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        this.world = SyntheticRegions.write(this.regions, BenchmarkWorld.SEED);
+    }
+
+    /**
+     * @return the loaded regions
+     */
+    @Benchmark
+    public List<Region> loadRegions() {
+        return new RegionControllerImpl(this.world).getRegions();
+    }
+
+    /**
+     * @return the loaded diseases, which do not depend on the world size
+     */
+    @Benchmark
+    public List<DiseaseData> loadDiseases() {
+        return new DiseaseReaderImpl().getDiseases();
+    }
+}
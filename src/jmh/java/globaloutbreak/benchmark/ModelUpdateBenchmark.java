@@ -0,0 +1,66 @@
+package globaloutbreak.benchmark;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import globaloutbreak.model.Model;
+
+/**
+ * Time of the first ticks of a game.
+ *
+ * Every tick changes the model, so each iteration is a single shot of
+ * {@value #TICKS} ticks that starts from a new game: every iteration
+ * measures the same ticks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(batchSize = ModelUpdateBenchmark.TICKS)
+@Measurement(batchSize = ModelUpdateBenchmark.TICKS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ModelUpdateBenchmark {
+
+    static final int TICKS = 100;
+    private static final float INFECTED = 0.01f;
+
+    @Param({ "58", "1000", "10000" })
+    private int regions;
+
+    private URL world;
+    private Model model;
+
+    /**
+     * Generates the world.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        this.world = SyntheticRegions.write(this.regions, BenchmarkWorld.SEED);
+    }
+
+    /**
+     * Restarts the game before every batch of ticks.
+     */
+    @Setup(Level.Iteration)
+    public void restart() {
+        this.model = new BenchmarkWorld(this.world, INFECTED).getModel();
+    }
+
+    /**
+     * Runs a tick.
+     */
+    @Benchmark
+    public void update() {
+        this.model.update();
+    }
+}
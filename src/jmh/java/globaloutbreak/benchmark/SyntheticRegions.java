@@ -0,0 +1,79 @@
+package globaloutbreak.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates worlds with the format of "configRegion.json" and any number of
+ * regions.
+ *
+ * Regions are laid on a ring: every region borders the previous and the next
+ * one, most of them have a port and an airport.
+ */
+final class SyntheticRegions {
+
+    private static final int MIN_POPULATION = 1_000_000;
+    private static final int MAX_POPULATION = 200_000_000;
+    private static final int MAX_FACILITIES = 20;
+    private static final int NO_AIRPORT_EVERY = 7;
+    private static final int NO_PORT_EVERY = 5;
+    private static final int OPAQUE = 0xFF000000;
+
+    private SyntheticRegions() {
+    }
+
+    /**
+     * Writes a world to a temporary file.
+     *
+     * @param count
+     *              the number of regions
+     * @param seed
+     *              the seed of the region parameters
+     * @return
+     *         the location of the file
+     */
+    static URL write(final int count, final long seed) {
+        final ObjectMapper mapper = new ObjectMapper();
+        final SplittableRandom random = new SplittableRandom(seed);
+        final ArrayNode regions = mapper.createArrayNode();
+        for (int i = 0; i < count; i++) {
+            final ObjectNode region = regions.addObject();
+            region.put("nome", name(i));
+            region.put("colore", OPAQUE | (i + 1));
+            region.put("porti", i % NO_PORT_EVERY == 0 ? 0 : 1);
+            region.put("aereoporti", i % NO_AIRPORT_EVERY == 0 ? 0 : 1);
+            final ArrayNode borders = region.putArray("confini");
+            if (count > 1) {
+                borders.add(name((i + count - 1) % count));
+                borders.add(name((i + 1) % count));
+            }
+            region.put("humid", (float) random.nextDouble());
+            region.put("hot", (float) random.nextDouble());
+            region.put("popTot", random.nextInt(MIN_POPULATION, MAX_POPULATION));
+            region.put("facilities", random.nextInt(1, MAX_FACILITIES));
+            region.put("poor", (float) random.nextDouble());
+            region.put("urban", (float) random.nextDouble());
+            region.put("closeMeans", (float) random.nextDouble(0.2, 0.9));
+        }
+        try {
+            final Path file = Files.createTempFile("configRegion-" + count + "-", ".json");
+            file.toFile().deleteOnExit();
+            mapper.writeValue(file.toFile(), regions);
+            return file.toUri().toURL();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String name(final int index) {
+        return "Region " + index;
+    }
+}
@@ -0,0 +1,79 @@
+package globaloutbreak.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import globaloutbreak.model.region.Region;
+import globaloutbreak.model.voyage.TransportGraph;
+import globaloutbreak.model.voyage.Voyage;
+import globaloutbreak.model.voyage.VoyageBatch;
+import globaloutbreak.model.voyage.Voyages;
+
+/**
+ * Voyage extraction, into a reused batch, over a prebuilt graph and over a
+ * plain region list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoyagesBenchmark {
+
+    private static final float INFECTED = 0.1f;
+    private static final Map<String, Float> POT = Map.of("terra", 0.1f, "porti", 0.1f, "aereoporti", 0.1f);
+
+    @Param({ "58", "1000", "10000" })
+    private int regions;
+
+    private Voyages voyages;
+    private List<Region> all;
+    private TransportGraph graph;
+    private final VoyageBatch batch = new VoyageBatch();
+
+    /**
+     * Builds the world.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final BenchmarkWorld world = new BenchmarkWorld(SyntheticRegions.write(this.regions, BenchmarkWorld.SEED),
+                INFECTED);
+        this.voyages = world.getModel().getVoyage();
+        this.all = world.getModel().getRegions();
+        this.graph = TransportGraph.of(this.all);
+    }
+
+    /**
+     * @return the voyages of a tick
+     */
+    @Benchmark
+    public VoyageBatch extractIntoBatch() {
+        this.voyages.extractMeans(this.graph, this.all, POT, this.batch);
+        return this.batch;
+    }
+
+    /**
+     * @return the voyages of a tick
+     */
+    @Benchmark
+    public List<Voyage> extractFromGraph() {
+        return this.voyages.extractMeans(this.graph, this.all, POT);
+    }
+
+    /**
+     * @return the voyages of a tick
+     */
+    @Benchmark
+    public List<Voyage> extractFromList() {
+        return this.voyages.extractMeans(this.all, POT);
+    }
+}
@@ -3,6 +3,7 @@ package globaloutbreak.controller;
 import java.util.Map;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import globaloutbreak.controller.region.TypeOfInfo;
 import globaloutbreak.gamespeed.GameSpeed;
@@ -67,13 +68,28 @@ public interface Controller {
     InfoData displayInfo();
 
     /**
-     * Display the message notification.
+     * Queue the message notification, without blocking the caller. The game
+     * pauses if the auto pause policy requires it.
      * 
      * @param message
      *                message to display
      */
     void displayMessage(Message message);
 
+    /**
+     * Removes the queued messages, bursts of the same type merged in one.
+     * 
+     * @return
+     *         the messages to display
+     */
+    List<Message> drainMessages();
+
+    /**
+     * Notifies that every displayed message has been closed, resuming the
+     * game if a message paused it.
+     */
+    void messagesDisplayed();
+
     /**
      * Start a Voyage.
      * 
@@ -89,8 +105,12 @@ public interface Controller {
 
     /**
      * Start or stop the game.
+     * 
+     * @return
+     *         a future completed, once the game loop has switched, with
+     *         {@code true} if the game is running
      */
-    void startStop();
+    CompletableFuture<Boolean> startStop();
 
     /**
      * Set the game speed.
@@ -1,12 +1,18 @@
 package globaloutbreak.controller;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,35 +20,40 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.endcauses.EndCauses;
 import globaloutbreak.controller.disease.DiseaseController;
 import globaloutbreak.controller.disease.DiseaseControllerImpl;
-import globaloutbreak.controller.event.EventController;
-import globaloutbreak.controller.event.EventControllerImpl;
+import globaloutbreak.controller.loop.FixedStepClock;
+import globaloutbreak.controller.loop.LoopState;
+import globaloutbreak.controller.loop.LoopStateMachine;
 import globaloutbreak.controller.mutation.MutationController;
 import globaloutbreak.controller.mutation.MutationControllerImpl;
-import globaloutbreak.controller.observer.CatastropheObserver;
-import globaloutbreak.controller.observer.CureObserver;
-import globaloutbreak.controller.observer.NewsObserver;
 import globaloutbreak.controller.region.RegionController;
 import globaloutbreak.controller.region.RegionControllerImpl;
 import globaloutbreak.controller.region.TypeOfInfo;
-import globaloutbreak.controller.voyage.VoyageController;
-import globaloutbreak.controller.voyage.VoyageControllerImpl;
 import globaloutbreak.diseasereader.DiseaseReader;
 import globaloutbreak.diseasereader.DiseaseReaderImpl;
 import globaloutbreak.gamespeed.GameSpeed;
 import globaloutbreak.model.Model;
 import globaloutbreak.model.ModelImpl;
+import globaloutbreak.model.message.AutoPausePolicy;
 import globaloutbreak.model.message.Message;
+import globaloutbreak.model.message.MessageQueue;
+import globaloutbreak.model.message.MessageQueueImpl;
 import globaloutbreak.model.message.MessageType;
+import globaloutbreak.model.metrics.TickMetricsJmx;
 import globaloutbreak.model.mutation.Mutation;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Region;
-import globaloutbreak.model.cure.Cure;
-import globaloutbreak.model.cure.SimpleCureReaderImpl;
 import globaloutbreak.model.disease.Disease;
 import globaloutbreak.model.infodata.InfoData;
 import globaloutbreak.model.voyage.Voyage;
 import globaloutbreak.settings.gamesettings.GameSettings;
 import globaloutbreak.settings.gamesettings.GameSettingsGetter;
 import globaloutbreak.settings.gamesettings.GameSettingsImpl;
+import globaloutbreak.settings.simulationsettings.SimulationSettings;
+import globaloutbreak.settings.simulationsettings.SimulationSettingsReaderImpl;
+import globaloutbreak.simulation.ModelBootstrap;
+import globaloutbreak.simulation.replay.InputJournal;
+import globaloutbreak.simulation.replay.InputJournalImpl;
+import globaloutbreak.simulation.replay.InputType;
 import globaloutbreak.view.View;
 import javafx.application.Platform;
 
@@ -53,15 +64,24 @@ public final class ControllerImpl implements Controller {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final Model model = new ModelImpl();
+    private final SimulationSettings simulationSettings = new SimulationSettingsReaderImpl().getSettings();
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final Model model = new ModelImpl(new XoroshiroRandomSource(this.seed), this.simulationSettings);
+    private final InputJournal journal = new InputJournalImpl(this.seed);
+    private final Lock modelLock = new ReentrantLock();
+    private final FixedStepClock clock = new FixedStepClock(this.simulationSettings.getMaxCatchUpSteps());
+    private volatile Displayed previous = new Displayed(Optional.empty(), 0, 0);
+    private volatile float alpha = 1f;
     private final GameSettings settings = new GameSettingsImpl();
     private final GameLoop gameLoop = new GameLoop();
     private final DiseaseController diseaseController = new DiseaseControllerImpl();
     private final View view;
     private final RegionController regionController = new RegionControllerImpl();
     private final MutationController mutationController;
-    private final VoyageController voyageController = new VoyageControllerImpl();
-    private final EventController eventController = new EventControllerImpl();
+    private final MessageQueue messages = new MessageQueueImpl();
+    private final AutoPausePolicy autoPause = this.simulationSettings.getAutoPausePolicy();
+    private volatile boolean pausedByMessages;
+    private volatile boolean quitAfterMessages;
 
     /**
      * Create a controller.
@@ -78,22 +98,22 @@ public final class ControllerImpl implements Controller {
     public ControllerImpl(final View view) {
         this.mutationController = new MutationControllerImpl();
         this.view = view;
-        this.model.addListener(new NewsObserver(this));
-        this.model.addListener(new CatastropheObserver(this));
-        this.model.addListener(new CureObserver(this));
-        this.model.setRegions(regionController.getRegions());
-        this.model.setVoyages(voyageController.createVoyage());
-        this.model.setEvents(eventController.createEvents());
+        this.model.addListener(this::displayMessage);
+        ModelBootstrap.setWorld(this.model, this.regionController);
+        TickMetricsJmx.register("game", this.model.getMetrics());
+        TickMetricsJmx.register("GameLoop", "game", this.clock);
     }
 
     @Override
     public void selectedRegion(final Optional<Integer> color) {
-        if (color.isPresent()) {
-            this.model.selectedRegion(Optional.of(this.regionController.findRegionByColor(color.get())));
-        } else {
-            this.model.selectedRegion(Optional.empty());
+        final Optional<Region> region = color.map(this.regionController::findRegionByColor);
+        this.modelLock.lock();
+        try {
+            this.model.selectedRegion(region);
+            this.journal.record(InputType.SELECT_REGION, region.map(Region::getName));
+        } finally {
+            this.modelLock.unlock();
         }
-
     }
 
     @Override
@@ -108,7 +128,26 @@ public final class ControllerImpl implements Controller {
 
     @Override
     public void displayMessage(final Message message) {
-        this.view.displayMessage(message);
+        if (this.autoPause.shouldPause(message) && this.gameLoop.pauseLoop()) {
+            this.pausedByMessages = true;
+        }
+        this.messages.offer(message);
+        this.view.messagesPending();
+    }
+
+    @Override
+    public List<Message> drainMessages() {
+        return this.messages.drain();
+    }
+
+    @Override
+    public void messagesDisplayed() {
+        if (this.quitAfterMessages) {
+            this.quit();
+        } else if (this.pausedByMessages) {
+            this.pausedByMessages = false;
+            this.gameLoop.resumeLoop();
+        }
     }
 
     private void createAndDisplayMessage(final EndCauses cause) {
@@ -145,19 +184,15 @@ public final class ControllerImpl implements Controller {
 
     @Override
     public void choosenDisease(final String type) {
-        this.model.setDisease(this.diseaseController.createDisease(type));
+        ModelBootstrap.setDisease(this.model, this.diseaseController, type);
+        this.journal.setDiseaseType(type);
         this.logger.info("Create Disease of Type: {}", type);
-        final Cure cure = new SimpleCureReaderImpl().getSimpleCure(this.model.getRegions());
-        if (cure.isConsistent()) {
-            this.model.setCure(cure);
-        } else {
-            this.logger.warn("Unable to create a Cure instance, something went wrong");
-        }
     }
 
     @Override
     public void choosenDiseaseName(final String name) {
         this.model.setDiseaseName(name);
+        this.journal.setDiseaseName(name);
         logger.info("Completed creation of the new malattia: " + this.model.getDisease().toString());
 
     }
@@ -180,18 +215,19 @@ public final class ControllerImpl implements Controller {
     public void setGameSpeed(final GameSpeed gameSpeed) {
         logger.info("Setted game speed to: {}", gameSpeed.toString());
         this.settings.setGameSpeed(gameSpeed);
+        this.record(InputType.GAME_SPEED, Optional.of(gameSpeed.toString()));
     }
 
     @Override
-    public void startStop() {
-        if (this.model.isDiseaseSet()) {
-            if (!this.gameLoop.isAlive()) {
-                this.gameLoop.start();
-            } else {
-                logger.info(this.gameLoop.isRunning() ? "STOP loop, pause" : "RESTART loop");
-                this.gameLoop.startStop();
-            }
+    public CompletableFuture<Boolean> startStop() {
+        if (!this.model.isDiseaseSet()) {
+            return CompletableFuture.completedFuture(false);
         }
+        this.record(InputType.START_STOP, Optional.empty());
+        // the player took control of the loop, closing the messages must not resume it
+        this.pausedByMessages = false;
+        logger.info(this.gameLoop.isRunning() ? "STOP loop, pause" : "START loop");
+        return this.gameLoop.startStop().thenApply(state -> state == LoopState.RUNNING);
     }
 
     @Override
@@ -201,9 +237,41 @@ public final class ControllerImpl implements Controller {
 
     @Override
     public void quit() {
+        this.saveJournal();
         Platform.exit();
     }
 
+    private void record(final InputType type, final Optional<String> value) {
+        this.modelLock.lock();
+        try {
+            this.journal.record(type, value);
+        } finally {
+            this.modelLock.unlock();
+        }
+    }
+
+    /**
+     * Saves the input journal, so that the game can be replayed by a
+     * {@link globaloutbreak.simulation.replay.ReplayRunner}.
+     */
+    private void saveJournal() {
+        final Optional<Path> directory = this.simulationSettings.getJournalDirectory();
+        if (directory.isEmpty() || this.journal.getDiseaseType().isEmpty()) {
+            return;
+        }
+        final Path file = directory.get().resolve("journal-" + Long.toHexString(this.seed) + ".json");
+        this.modelLock.lock();
+        try {
+            Files.createDirectories(directory.get());
+            this.journal.save(file);
+            this.logger.info("Saved the input journal of {} ticks to {}", this.journal.getTicks(), file);
+        } catch (IOException e) {
+            this.logger.warn("Unable to save the input journal to {}:", file, e);
+        } finally {
+            this.modelLock.unlock();
+        }
+    }
+
     @Override
     public void displayMutationsName() {
         mutationController.displayMutationsName(this);
@@ -230,116 +298,183 @@ public final class ControllerImpl implements Controller {
 
     @Override
     public void update(final String name) {
-        mutationController.update(name, model);
+        this.modelLock.lock();
+        try {
+            mutationController.update(name, model);
+            this.journal.record(InputType.MUTATION, Optional.of(name));
+        } finally {
+            this.modelLock.unlock();
+        }
     }
 
     private final class GameLoop extends Thread {
 
-        private volatile boolean isRunning;
-        private long startTime;
-        private final Lock lock = new ReentrantLock();
-        private final Condition condition = lock.newCondition();
+        private final LoopStateMachine state = new LoopStateMachine();
+        private final long frameNanos = TimeUnit.SECONDS.toNanos(1) / simulationSettings.getRenderRate();
 
         GameLoop() {
             this.setDaemon(true);
         }
 
+        /**
+         * Runs the ticks due at the rate of the game speed, then renders a
+         * frame at the render rate, parking the thread while paused, until the
+         * game is over.
+         */
         @Override
         public void run() {
             logger.info("Start GameLoop");
-            this.lock.lock();
-            try {
-                this.isRunning = true;
-            } finally {
-                this.lock.unlock();
-            }
-            while (this.isRunning()) {
-                this.startTime = System.currentTimeMillis();
+            clock.reset(System.nanoTime());
+            while (this.state.get() != LoopState.STOPPED) {
+                final long frameStart = System.nanoTime();
+                final int steps = clock.advance(frameStart, stepNanos());
+                for (int i = 0; i < steps && this.isRunning() && !model.isGameOver(); i++) {
+                    this.update();
+                }
+                alpha = clock.getAlpha();
                 this.render();
-                this.update();
-                this.remainingTime();
-
-                this.lock.lock();
-                try {
-                    while (!this.isRunning) {
-                        this.condition.await();
+                if (model.isGameOver()) {
+                    quitAfterMessages = true;
+                    this.state.moveTo(LoopState.STOPPED);
+                    createAndDisplayMessage(model.getEndCause().get());
+                    break;
+                }
+                if (this.isRunning()) {
+                    this.remainingTime(frameStart);
+                }
+                if (this.state.transition(LoopState.PAUSING, LoopState.PAUSED)) {
+                    alpha = 1f;
+                    while (this.state.get() == LoopState.PAUSED) {
+                        LockSupport.park(this);
                     }
-                } catch (InterruptedException e) {
-                    logger.warn("Loop problem on await function: ", e);
-                } finally {
-                    this.lock.unlock();
+                    clock.reset(System.nanoTime());
                 }
             }
             logger.info("Quitting GameLoop");
-            quit();
+        }
+
+        private long stepNanos() {
+            return Math.max(1, Math.round(settings.getGameSpeed().getDuration() * TimeUnit.SECONDS.toNanos(1)));
         }
 
         private void update() {
-            model.update();
+            modelLock.lock();
+            try {
+                previous = displayed();
+                model.update();
+                journal.tickCompleted(model);
+            } finally {
+                modelLock.unlock();
+            }
         }
 
         private void render() {
             view.render();
-            if (model.isGameOver()) {
-                createAndDisplayMessage(model.getEndCause().get());
-                view.quit();
-            }
+            clock.frameRendered();
         }
 
-        private void remainingTime() {
-            final long elapsedTime = System.currentTimeMillis() - this.startTime;
-            final int timeUntilNextLoop = Math.round(settings.getGameSpeed().getDuration() * 1000 - elapsedTime);
-            if (timeUntilNextLoop > 0) {
+        private void remainingTime(final long frameStart) {
+            final long elapsed = System.nanoTime() - frameStart;
+            final long wait = Math.min(this.frameNanos - elapsed, clock.getNanosToNextStep());
+            if (wait > 0) {
                 try {
-                    Thread.sleep(timeUntilNextLoop);
+                    TimeUnit.NANOSECONDS.sleep(wait);
                 } catch (InterruptedException e) {
                     logger.warn("Loop problem on sleep function:", e);
                 }
             }
         }
 
-        public void startStop() {
-            this.lock.lock();
-            try {
-                this.isRunning = !this.isRunning;
-                if (this.isRunning) {
-                    this.condition.signal();
-                }
-            } finally {
-                this.lock.unlock();
+        /**
+         * Starts the loop the first time, then pauses or resumes it.
+         * 
+         * @return
+         *         a future completed when the loop is running or paused
+         */
+        CompletableFuture<LoopState> startStop() {
+            if (this.state.transition(LoopState.NEW, LoopState.RUNNING)) {
+                this.start();
+            } else if (!this.pauseLoop()) {
+                this.resumeLoop();
             }
+            return this.state.when(LoopState.RUNNING, LoopState.PAUSED, LoopState.STOPPED);
         }
 
-        public boolean isRunning() {
-            this.lock.lock();
-            try {
-                return this.isRunning;
-            } finally {
-                this.lock.unlock();
+        /**
+         * @return
+         *         {@code true} if the loop was running and is now pausing
+         */
+        boolean pauseLoop() {
+            return this.state.transition(LoopState.RUNNING, LoopState.PAUSING);
+        }
+
+        /**
+         * @return
+         *         {@code true} if the loop was pausing or paused and is now
+         *         running
+         */
+        boolean resumeLoop() {
+            if (this.state.transition(LoopState.PAUSING, LoopState.RUNNING)) {
+                return true;
+            }
+            if (this.state.transition(LoopState.PAUSED, LoopState.RUNNING)) {
+                LockSupport.unpark(this);
+                return true;
             }
+            return false;
+        }
+
+        boolean isRunning() {
+            return this.state.get() == LoopState.RUNNING;
         }
     }
 
     @Override
     public Map<TypeOfInfo, String> getInfoSingleRegion() {
         final Map<TypeOfInfo, String> info = new HashMap<>();
+        final Displayed current = this.displayed();
+        final Displayed from = this.previous;
+        long infected = current.infected;
+        long deaths = current.deaths;
+        if (from.region.equals(current.region)) {
+            infected = from.infected + Math.round((current.infected - from.infected) * (double) this.alpha);
+            deaths = from.deaths + Math.round((current.deaths - from.deaths) * (double) this.alpha);
+        }
+        info.put(TypeOfInfo.INFETTI, Long.toString(infected));
+        info.put(TypeOfInfo.MORTI, Long.toString(deaths));
+        info.put(TypeOfInfo.REGION, current.region.map(Region::getName).orElse("Mondo"));
+        return info;
+    }
+
+    private Displayed displayed() {
         final Optional<Region> r = this.model.getSelectedRegion();
         if (r.isPresent()) {
-            info.put(TypeOfInfo.INFETTI, Long.toString(r.get().getNumInfected()));
-            info.put(TypeOfInfo.MORTI, Long.toString(r.get().getNumDeath()));
-            info.put(TypeOfInfo.REGION, r.get().getName());
-        } else {
-            final InfoData infoData = this.model.getInfo();
-            info.put(TypeOfInfo.INFETTI, Long.toString(infoData.getTotalInfected()));
-            info.put(TypeOfInfo.MORTI, Long.toString(infoData.getTotalDeaths()));
-            info.put(TypeOfInfo.REGION, "Mondo");
+            return new Displayed(r, r.get().getNumInfected(), r.get().getNumDeath());
+        }
+        final InfoData infoData = this.model.getInfo();
+        return new Displayed(r, infoData.getTotalInfected(), infoData.getTotalDeaths());
+    }
+
+    /**
+     * The infected and deaths shown by the view, either of the selected region
+     * or of the world, kept from before the last tick to interpolate them.
+     */
+    private static final class Displayed {
+
+        private final Optional<Region> region;
+        private final long infected;
+        private final long deaths;
+
+        Displayed(final Optional<Region> region, final long infected, final long deaths) {
+            this.region = region;
+            this.infected = infected;
+            this.deaths = deaths;
         }
-        return info;
     }
 
     @Override
     public void setRegions() {
-        this.model.setRegions(regionController.getRegions());
+        this.model.setRegions(regionController.getRegions(), regionController.getStateStore());
     }
 
     @Override
@@ -4,6 +4,7 @@ import java.util.List;
 
 import globaloutbreak.model.disease.Disease;
 import globaloutbreak.model.disease.DiseaseData;
+import globaloutbreak.model.random.RandomSource;
 
 /**
  * Manage Disease data.
@@ -28,4 +29,17 @@ public interface DiseaseController {
      *         Disease
      */
     Disease createDisease(String type);
+
+    /**
+     * Create a new Disease drawing from the given source.
+     * 
+     * @param type
+     *               Disease type.
+     * @param random
+     *               the random source
+     * 
+     * @return
+     *         Disease
+     */
+    Disease createDisease(String type, RandomSource random);
 }
@@ -11,6 +11,8 @@ import globaloutbreak.model.disease.DiseaseData;
 import globaloutbreak.model.disease.DiseaseDataList;
 import globaloutbreak.model.disease.DiseaseFactory;
 import globaloutbreak.model.disease.DiseaseFactoryImpl;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 
 /**
  * class that manage disease controller.
@@ -27,10 +29,15 @@ public final class DiseaseControllerImpl implements DiseaseController {
 
     @Override
     public Disease createDisease(final String type) {
+        return this.createDisease(type, new XoroshiroRandomSource());
+    }
+
+    @Override
+    public Disease createDisease(final String type, final RandomSource random) {
         final DiseaseData diseaseData = diseaseList.getDisease().stream().filter(e -> e.getType().equals(type))
                 .findFirst()
                 .orElse(null);
-        final DiseaseFactory diseaseFactory = new DiseaseFactoryImpl();
+        final DiseaseFactory diseaseFactory = new DiseaseFactoryImpl(random);
         if (diseaseData != null) {
             return diseaseFactory.createDisease(diseaseData.getType(),
                     this.getIfValid(diseaseData.getInfectivity(), "Infectivity"),
@@ -0,0 +1,145 @@
+package globaloutbreak.controller.loop;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Accumulator of a fixed timestep loop.
+ *
+ * The time elapsed between two calls of {@link #advance} is added to an
+ * accumulator, which is consumed in whole steps, so the simulation runs at the
+ * same rate whatever the render rate. When the loop falls behind, at most a
+ * given number of steps are run at once and the rest of the backlog is
+ * dropped, so a slow machine slows the game down instead of freezing it. The
+ * time left in the accumulator is the fraction of the next step already
+ * elapsed, used by the view to interpolate.
+ *
+ * Only the loop thread advances the clock, the metrics can be read from any
+ * thread.
+ */
+// @formatter:off
+@SuppressFBWarnings(
+    value = "VO_VOLATILE_INCREMENT",
+    justification = "Only the loop thread writes the counters, volatile just publishes them to JMX"
+)
+// @formatter:on
+public final class FixedStepClock implements FixedStepClockMXBean {
+
+    private final int maxCatchUpSteps;
+    private long last;
+    private long accumulator;
+    private long stepNanos = 1;
+    private volatile long steps;
+    private volatile long droppedSteps;
+    private volatile long frames;
+    private volatile long lagNanos;
+    private volatile long maxLagNanos;
+
+    /**
+     * @param maxCatchUpSteps
+     *                        the highest number of steps run by a single
+     *                        advance
+     */
+    public FixedStepClock(final int maxCatchUpSteps) {
+        if (maxCatchUpSteps < 1) {
+            throw new IllegalArgumentException("At least one step must be allowed");
+        }
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    /**
+     * Restarts the clock, forgetting the time elapsed so far, for example after
+     * a pause.
+     * 
+     * @param now
+     *            the current time in nanoseconds
+     */
+    public void reset(final long now) {
+        this.last = now;
+        this.accumulator = 0;
+    }
+
+    /**
+     * Adds the time elapsed since the last call and consumes it in steps.
+     * 
+     * @param now
+     *                  the current time in nanoseconds
+     * @param stepNanos
+     *                  the duration of a step, which may change between calls
+     * @return
+     *         the number of steps to run now
+     */
+    public int advance(final long now, final long stepNanos) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("The step must last more than 0 nanoseconds");
+        }
+        this.stepNanos = stepNanos;
+        this.accumulator += now - this.last;
+        this.last = now;
+        if (this.accumulator < stepNanos) {
+            return 0;
+        }
+        final long due = this.accumulator / stepNanos;
+        final long lag = this.accumulator - stepNanos;
+        this.lagNanos = lag;
+        if (lag > this.maxLagNanos) {
+            this.maxLagNanos = lag;
+        }
+        final int run = (int) Math.min(due, this.maxCatchUpSteps);
+        if (due > run) {
+            this.droppedSteps += due - run;
+            this.accumulator %= stepNanos;
+        } else {
+            this.accumulator -= run * stepNanos;
+        }
+        this.steps += run;
+        return run;
+    }
+
+    /**
+     * @return
+     *         the fraction of the next step already elapsed, between 0 and 1
+     */
+    public float getAlpha() {
+        return Math.min(1f, (float) this.accumulator / this.stepNanos);
+    }
+
+    /**
+     * @return
+     *         the nanoseconds left before the next step is due
+     */
+    public long getNanosToNextStep() {
+        return Math.max(0, this.stepNanos - this.accumulator);
+    }
+
+    /**
+     * Counts a rendered frame.
+     */
+    public void frameRendered() {
+        this.frames++;
+    }
+
+    @Override
+    public long getSteps() {
+        return this.steps;
+    }
+
+    @Override
+    public long getDroppedSteps() {
+        return this.droppedSteps;
+    }
+
+    @Override
+    public long getFrames() {
+        return this.frames;
+    }
+
+    @Override
+    public long getLagNanos() {
+        return this.lagNanos;
+    }
+
+    @Override
+    public long getMaxLagNanos() {
+        return this.maxLagNanos;
+    }
+}
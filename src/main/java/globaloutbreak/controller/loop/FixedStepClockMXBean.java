@@ -0,0 +1,38 @@
+package globaloutbreak.controller.loop;
+
+/**
+ * Timing of the game loop, exported through JMX.
+ */
+public interface FixedStepClockMXBean {
+
+    /**
+     * @return
+     *         the number of simulation steps run
+     */
+    long getSteps();
+
+    /**
+     * @return
+     *         the number of steps skipped because the loop fell too far behind
+     */
+    long getDroppedSteps();
+
+    /**
+     * @return
+     *         the number of rendered frames
+     */
+    long getFrames();
+
+    /**
+     * @return
+     *         how late, in nanoseconds, the last step ran compared to its due
+     *         time
+     */
+    long getLagNanos();
+
+    /**
+     * @return
+     *         the highest lag measured, in nanoseconds
+     */
+    long getMaxLagNanos();
+}
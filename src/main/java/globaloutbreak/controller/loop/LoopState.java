@@ -0,0 +1,27 @@
+package globaloutbreak.controller.loop;
+
+/**
+ * States of the game loop.
+ */
+public enum LoopState {
+    /**
+     * The loop has not been started yet.
+     */
+    NEW,
+    /**
+     * The loop is running ticks.
+     */
+    RUNNING,
+    /**
+     * A pause was requested, the loop pauses at the end of the current frame.
+     */
+    PAUSING,
+    /**
+     * The loop is parked until it is resumed.
+     */
+    PAUSED,
+    /**
+     * The game is over, the loop ended.
+     */
+    STOPPED
+}
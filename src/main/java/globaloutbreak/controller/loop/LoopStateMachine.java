@@ -0,0 +1,96 @@
+package globaloutbreak.controller.loop;
+
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free state of the game loop.
+ *
+ * Transitions are compare-and-set operations, so the state can be read from
+ * any thread without locking, and whoever needs to react to a transition
+ * subscribes a {@link CompletableFuture} instead of polling.
+ */
+public final class LoopStateMachine {
+
+    private final AtomicReference<LoopState> state = new AtomicReference<>(LoopState.NEW);
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @return
+     *         the current state
+     */
+    public LoopState get() {
+        return this.state.get();
+    }
+
+    /**
+     * Moves to a new state if the current one is the expected one, completing
+     * the futures waiting for the new state.
+     * 
+     * @param expected
+     *                 the state the loop must be in
+     * @param next
+     *                 the new state
+     * @return
+     *         {@code true} if the transition happened
+     */
+    public boolean transition(final LoopState expected, final LoopState next) {
+        if (!this.state.compareAndSet(expected, next)) {
+            return false;
+        }
+        this.waiters.removeIf(waiter -> waiter.complete(next));
+        return true;
+    }
+
+    /**
+     * Moves to a new state whatever the current one is, completing the futures
+     * waiting for the new state.
+     * 
+     * @param next
+     *             the new state
+     */
+    public void moveTo(final LoopState next) {
+        this.state.set(next);
+        this.waiters.removeIf(waiter -> waiter.complete(next));
+    }
+
+    /**
+     * @param first
+     *               a state to wait for
+     * @param others
+     *               the other states to wait for
+     * @return
+     *         a future completed with the state as soon as the loop is in one
+     *         of the given states, already completed if it is in one now
+     */
+    public CompletableFuture<LoopState> when(final LoopState first, final LoopState... others) {
+        final Waiter waiter = new Waiter(EnumSet.of(first, others));
+        this.waiters.add(waiter);
+        if (waiter.complete(this.state.get())) {
+            this.waiters.remove(waiter);
+        }
+        return waiter.future;
+    }
+
+    private static final class Waiter {
+
+        private final Set<LoopState> states;
+        private final CompletableFuture<LoopState> future = new CompletableFuture<>();
+
+        Waiter(final Set<LoopState> states) {
+            this.states = states;
+        }
+
+        boolean complete(final LoopState state) {
+            if (!this.states.contains(state)) {
+                return false;
+            }
+            this.future.complete(state);
+            return true;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package globaloutbreak.controller.region;
 import java.util.List;
 
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
 
 /**
  * Controller for Region.
@@ -22,4 +23,11 @@ public interface RegionController {
      *          region
      */
     Region findRegionByColor(int color);
+
+    /**
+     * 
+     * @return
+     *          the store that keeps the state of the loaded regions
+     */
+    RegionStateStore getStateStore();
 }
@@ -5,33 +5,60 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Map.Entry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.pair.Pair;
 import globaloutbreak.model.region.Region;
 import globaloutbreak.model.region.RegionImpl;
+import globaloutbreak.model.region.RegionIndex;
+import globaloutbreak.model.region.RegionStateStore;
 
 /**
  * Implement. of RegionControllerInt.
  */
 public final class RegionControllerImpl implements RegionController {
-    private final List<Region> regions = new LinkedList<>();
+    private final List<Region> regions = new ArrayList<>();
+    private final RegionStateStore store = new RegionStateStore();
+    private RegionIndex index = new RegionIndex(0);
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final URL source;
+
+    /**
+     * Creates a controller that reads the regions of "configRegion.json".
+     */
+    public RegionControllerImpl() {
+        this(ClassLoader.getSystemResource("region/configRegion.json"));
+    }
+
+    /**
+     * Creates a controller that reads the regions from the given file, with the
+     * same format of "configRegion.json".
+     * 
+     * @param source
+     *               the location of the file
+     */
+    public RegionControllerImpl(final URL source) {
+        this.source = source;
+    }
 
     @Override
     public List<Region> getRegions() {
-        final String path = "region/configRegion.json";
         JsonNode node;
         try {
-            node = getJsonNode(path);
+            node = getJsonNode();
             node.forEach(k -> {
                 long popTot = 0;
                 String name = "";
@@ -87,18 +114,34 @@ public final class RegionControllerImpl implements RegionController {
                             break;
                     }
                 }
-                regions.add(
-                        new RegionImpl(popTot, name, means, urban, poor, color, facilities, hot, humid, closeMeans));
+                regions.add(new RegionImpl(store, popTot, name, means, urban, poor, color, facilities, hot, humid,
+                        closeMeans));
             });
         } catch (IOException e) {
             logger.error("Failed creation of events", e);
         }
-        return new LinkedList<>(regions);
+        this.index = RegionIndex.of(this.store);
+        return new ArrayList<>(regions);
     }
 
     @Override
     public Region findRegionByColor(final int color) {
-        return this.regions.stream().filter(k -> k.getColor() == color).findFirst().get();
+        final int id = this.index.get(color);
+        if (id == RegionIndex.NOT_FOUND) {
+            throw new NoSuchElementException("No region with color " + color);
+        }
+        return this.regions.get(id);
+    }
+
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The model must work on the same store the regions are views of"
+    )
+    // @formatter:on
+    @Override
+    public RegionStateStore getStateStore() {
+        return this.store;
     }
 
     private List<String> getTypeOfMeans(final JsonNode node) {
@@ -113,9 +156,9 @@ public final class RegionControllerImpl implements RegionController {
         return reach;
     }
 
-    private JsonNode getJsonNode(final String path) throws IOException {
+    private JsonNode getJsonNode() throws IOException {
         final ObjectMapper map = new ObjectMapper();
-        return map.readTree(new BufferedReader(new InputStreamReader(ClassLoader.getSystemResourceAsStream(path),
+        return map.readTree(new BufferedReader(new InputStreamReader(this.source.openStream(),
                 StandardCharsets.UTF_8)));
     }
 
@@ -1,5 +1,6 @@
 package globaloutbreak.controller.voyage;
 
+import globaloutbreak.model.random.RandomSource;
 import globaloutbreak.model.voyage.Voyages;
 /**
  * Interface of Voyage Controller.
@@ -12,4 +13,14 @@ public interface VoyageController {
      *         Voyage
      */
     Voyages createVoyage();
+
+    /**
+     * This method create class Voyage drawing from the given source.
+     * 
+     * @param random
+     *               the random source
+     * @return
+     *         Voyage
+     */
+    Voyages createVoyage(RandomSource random);
 }
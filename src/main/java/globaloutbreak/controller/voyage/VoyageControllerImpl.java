@@ -11,6 +11,8 @@ import java.util.Map.Entry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import globaloutbreak.model.pair.Pair;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.voyage.Voyages;
 import globaloutbreak.model.voyage.VoyagesImpl;
 import org.slf4j.Logger;
@@ -24,6 +26,11 @@ public final class VoyageControllerImpl implements VoyageController {
 
     @Override
     public Voyages createVoyage() {
+        return this.createVoyage(new XoroshiroRandomSource());
+    }
+
+    @Override
+    public Voyages createVoyage(final RandomSource random) {
         final ObjectMapper map = new ObjectMapper();
         final String path = "voyage/ConfigMeans.json";
         JsonNode node;
@@ -57,7 +64,7 @@ public final class VoyageControllerImpl implements VoyageController {
         } catch (IOException e) {
             logger.error("Failed creation of events", e);
         }
-        return new VoyagesImpl(sizeAndNameOfMeans);
+        return new VoyagesImpl(sizeAndNameOfMeans, random);
 
     }
 }
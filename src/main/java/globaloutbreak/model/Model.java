@@ -1,6 +1,5 @@
 package globaloutbreak.model;
 
-import java.beans.PropertyChangeListener;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,7 +8,11 @@ import globaloutbreak.model.cure.Cure;
 import globaloutbreak.model.disease.Disease;
 import globaloutbreak.model.events.Event;
 import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.metrics.TickMetrics;
+import globaloutbreak.model.observer.MessageListener;
+import globaloutbreak.model.random.RandomSource;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
 import globaloutbreak.model.voyage.Voyage;
 import globaloutbreak.model.voyage.Voyages;
 
@@ -68,6 +71,15 @@ public interface Model {
      */
     List<Region> getRegions();
 
+    /**
+     * The store the state of the regions is kept in, indexed like
+     * {@link #getRegions()}. It must be read only.
+     * 
+     * @return
+     *         the store of the regions
+     */
+    RegionStateStore getRegionStates();
+
     /**
      * Get the InfoData contains the info on the current focussed Region.
      * 
@@ -100,19 +112,22 @@ public interface Model {
     boolean isGameOver();
 
     /**
-     * Add a listener for the News.
+     * Add a listener for the messages of the model.
      * 
      * @param listener
      *                 listener
      */
-    void addListener(PropertyChangeListener listener);
+    void addListener(MessageListener listener);
 
     /**
+     * Set the regions and the store their state is kept in.
      * 
      * @param regions
-     *                regions
+     *                regions, ordered by their id in the store
+     * @param store
+     *                the store the regions are views of
      */
-    void setRegions(List<Region> regions);
+    void setRegions(List<Region> regions, RegionStateStore store);
 
     /**
      * 
@@ -157,4 +172,21 @@ public interface Model {
      */
     List<String> getMeans();
 
+    /**
+     * Returns the random source of the model. Components created outside the
+     * model should draw from a {@link RandomSource#split()} of it.
+     * 
+     * @return
+     *         the random source
+     */
+    RandomSource getRandomSource();
+
+    /**
+     * Returns the timings and counters of the ticks of the model.
+     * 
+     * @return
+     *         the tick metrics
+     */
+    TickMetrics getMetrics();
+
 }
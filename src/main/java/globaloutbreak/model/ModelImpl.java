@@ -10,55 +10,127 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.endcauses.EndCauses;
 import globaloutbreak.model.cure.Cure;
-import globaloutbreak.model.dataanalyzer.DataAnalyzer;
 import globaloutbreak.model.dataanalyzer.DeathNumberAnalyzer;
 import globaloutbreak.model.cure.RegionCureStatus;
 import globaloutbreak.model.cure.observer.DiseaseObserver;
+import globaloutbreak.model.cure.SimpleCure;
 import globaloutbreak.model.disease.Disease;
+import globaloutbreak.model.disease.DiseaseFactoryImpl;
+import globaloutbreak.model.disease.InfectionKernel;
+import globaloutbreak.model.disease.InfectionKernels;
 import globaloutbreak.model.events.CauseEvent;
 import globaloutbreak.model.events.CauseEventsImpl;
 import globaloutbreak.model.events.Event;
+import globaloutbreak.model.events.EventImpl;
 import globaloutbreak.model.events.ExtractedEvent;
 import globaloutbreak.model.message.Message;
+import globaloutbreak.model.metrics.TickMetrics;
+import globaloutbreak.model.metrics.TickMetricsImpl;
+import globaloutbreak.model.metrics.TickPhase;
 import globaloutbreak.model.message.MessageType;
+import globaloutbreak.model.observer.InfectedListener;
 import globaloutbreak.model.observer.InfoDataRegionObserver;
+import globaloutbreak.model.observer.MessageListener;
+import globaloutbreak.model.observer.SimulationEventBus;
 import globaloutbreak.model.infodata.InfoData;
 import globaloutbreak.model.infodata.InfoDataImpl;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+import globaloutbreak.model.region.MeansState;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionDeltaListener;
+import globaloutbreak.model.region.RegionImpl;
+import globaloutbreak.model.region.RegionIndex;
+import globaloutbreak.model.region.RegionStateStore;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
+import globaloutbreak.model.voyage.TransportGraph;
 import globaloutbreak.model.voyage.Voyage;
+import globaloutbreak.model.voyage.VoyageBatch;
 import globaloutbreak.model.voyage.Voyages;
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
+import globaloutbreak.model.voyage.VoyagesImpl;
+import globaloutbreak.settings.simulationsettings.SimulationSettings;
+import globaloutbreak.settings.simulationsettings.SimulationSettingsReaderImpl;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.function.IntConsumer;
 
 /**
  * Impl of Model interface.
  */
 
-public final class ModelImpl implements Model {
+public final class ModelImpl implements Model, Snapshottable {
 
-    private List<Voyage> voyages = new ArrayList<>();
+    private final VoyageBatch voyages = new VoyageBatch();
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private Disease disease;
-    private List<Region> regions = new LinkedList<>();
+    private List<Region> regions = new ArrayList<>();
+    private RegionStateStore regionStates = new RegionStateStore();
+    private RegionIndex regionIndex = new RegionIndex(0);
+    private TransportGraph transportGraph = TransportGraph.of(List.of());
+    private IntConsumer meansClosedListener;
+    private RegionDeltaListener totalsListener;
+    private InfectedListener infoDataObserver;
     private Optional<Region> selectedRegion = Optional.empty();
     private Voyages voyageC;
     private Optional<Cure> cure = Optional.empty();
-    private final DataAnalyzer<Long> deathAnalyzer;
-    private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
-    private Optional<Message> message = Optional.empty();
+    private final DeathNumberAnalyzer deathAnalyzer;
+    private final SimulationEventBus events = new SimulationEventBus();
     private CauseEvent causeEvents;
+    private List<Event> eventDefinitions = List.of();
     private InfoData infoData;
     private static final long INITIAL_INC = 1;
     private boolean isDiseaseSpreading;
     private Optional<EndCauses> endCause = Optional.empty();
+    private final RandomSource random;
+    private final Optional<InfectionKernel> infectionKernel;
+    private final RandomSource kernelRandom;
+    private long[] kernelOutput = new long[0];
+    private List<Region> eventRegions = List.of();
+    private long eventRegionsVersion = -1;
+    private final TickMetricsImpl metrics;
 
     /**
-     * Creates a model.
+     * Creates a model with a randomly seeded source.
      */
     public ModelImpl() {
+        this(new XoroshiroRandomSource());
+    }
+
+    /**
+     * Creates a model whose stochastic components draw from the given source.
+     * 
+     * @param random
+     *               the random source
+     */
+    public ModelImpl(final RandomSource random) {
+        this(random, new SimulationSettingsReaderImpl().getSettings());
+    }
+
+    /**
+     * Creates a model with the given source and engine settings.
+     * 
+     * @param random
+     *                 the random source
+     * @param settings
+     *                 the simulation settings
+     */
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The source is owned by the model, callers only hand it over"
+    )
+    // @formatter:on
+    public ModelImpl(final RandomSource random, final SimulationSettings settings) {
+        this.random = random;
+        this.kernelRandom = random.split();
+        this.infectionKernel = InfectionKernels.create(settings.getInfectionKernel(),
+                settings.getGridCellSize());
+        this.metrics = new TickMetricsImpl(settings.getMetricsLogInterval());
         this.deathAnalyzer = new DeathNumberAnalyzer((key, value) -> {
             final Message msg = new Message() {
                 @Override
@@ -71,14 +143,13 @@ public final class ModelImpl implements Model {
                     return disease.getName() + " killed more than: " + key + "\nMore than " + value + " people.";
                 }
             };
-            pcs.firePropertyChange(MessageType.NEWS.getTitle(), message, msg);
-            message = Optional.of(msg);
+            events.fireMessage(msg);
         });
     }
 
     @Override
-    public void addListener(final PropertyChangeListener listener) {
-        this.pcs.addPropertyChangeListener(listener);
+    public void addListener(final MessageListener listener) {
+        this.events.addMessageListener(listener);
     }
 
     @Override
@@ -86,13 +157,22 @@ public final class ModelImpl implements Model {
         return new LinkedList<>(this.regions);
     }
 
+    @Override
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Listeners read the columns of the store every tick, copying it would defeat its purpose"
+    )
+    // @formatter:on
+    public RegionStateStore getRegionStates() {
+        return this.regionStates;
+    }
+
     @Override
     public void selectedRegion(final Optional<Region> region) {
         this.selectedRegion = region;
         if (this.selectedRegion.isPresent() && !this.isDiseaseSpreading) {
-            final Region updateR = this.regions.stream()
-                    .filter(k -> k.getColor() == region.get().getColor())
-                    .findFirst().get();
+            final Region updateR = this.getUpdateRegion(region.get().getColor()).get();
             updateR.incOrDecInfectedPeople(INITIAL_INC);
             this.isDiseaseSpreading = !this.isDiseaseSpreading;
             this.logger.info("Disease started spreading");
@@ -108,7 +188,7 @@ public final class ModelImpl implements Model {
     @Override
     public void setDisease(final Disease disease) {
         this.disease = disease;
-        this.cure.ifPresent(cure -> this.disease.initializeCureObserver(new DiseaseObserver(cure)));
+        this.disease.setEventBus(this.events);
     }
 
     @Override
@@ -149,19 +229,67 @@ public final class ModelImpl implements Model {
             }
         });
 
-        final List<Voyage> voyages = this.voyageC.extractMeans(this.getRegions(), pot);
-        this.voyages = List.copyOf(voyages);
-        if (!voyages.isEmpty()) {
-            voyages.forEach(k -> {
-                this.incOrDecInfectedPeople(k.getInfected(), this.getUpdateRegion(k.getDest()).get());
-            });
+        this.voyageC.extractMeans(this.transportGraph, this.regions, pot, this.voyages);
+        for (int i = 0; i < this.voyages.size(); i++) {
+            this.incOrDecInfectedPeople(this.voyages.getInfected(i), this.regions.get(this.voyages.getDestination(i)));
         }
     }
 
     private Optional<Region> getUpdateRegion(final int region) {
-        return this.getRegions().stream()
-                .filter(k -> k.getColor() == region)
-                .findFirst();
+        final int id = this.regionIndex.get(region);
+        return id == RegionIndex.NOT_FOUND ? Optional.empty() : Optional.of(this.regions.get(id));
+    }
+
+    private void killPeopleRegions() {
+        if (this.infectionKernel.isPresent()) {
+            this.infectionKernel.get().computeNewDeaths(this.regionStates, this.disease, this.kernelOutput);
+            for (int id = this.regionStates.nextInfected(0); id >= 0; id = this.regionStates.nextInfected(id + 1)) {
+                this.regions.get(id).incDeathPeople(this.kernelOutput[id], false);
+            }
+        } else {
+            this.disease.killPeopleRegions(this.infectedRegions());
+        }
+    }
+
+    private void infectRegions() {
+        if (this.infectionKernel.isPresent()) {
+            this.infectionKernel.get().computeNewInfected(this.regionStates, this.disease, this.kernelRandom,
+                    this.kernelOutput);
+            for (int id = 0; id < this.regionStates.size(); id++) {
+                if (this.kernelOutput[id] > 0) {
+                    this.regions.get(id).incOrDecInfectedPeople(this.kernelOutput[id]);
+                }
+            }
+        } else {
+            this.disease.infectRegions(this.infectedRegions());
+        }
+    }
+
+    private List<Region> infectedRegions() {
+        final List<Region> infected = new ArrayList<>(this.regionStates.countInfected());
+        for (int id = this.regionStates.nextInfected(0); id >= 0; id = this.regionStates.nextInfected(id + 1)) {
+            infected.add(this.regions.get(id));
+        }
+        return infected;
+    }
+
+    /**
+     * @return
+     *         the regions that are not finished, rebuilt only when a cure
+     *         status changed
+     */
+    private List<Region> eventRegions() {
+        if (this.eventRegionsVersion != this.regionStates.getCureStatusVersion()) {
+            final List<Region> alive = new ArrayList<>(this.regions.size());
+            for (int id = 0; id < this.regions.size(); id++) {
+                if (this.regionStates.getCureStatus(id) != RegionCureStatus.FINISHED) {
+                    alive.add(this.regions.get(id));
+                }
+            }
+            this.eventRegions = Collections.unmodifiableList(alive);
+            this.eventRegionsVersion = this.regionStates.getCureStatusVersion();
+        }
+        return this.eventRegions;
     }
 
     private void incOrDecInfectedPeople(final long newinfected, final Region region) {
@@ -169,12 +297,7 @@ public final class ModelImpl implements Model {
     }
 
     private void causeEvent() {
-        final Optional<ExtractedEvent> event = this.causeEvents.causeEvent(this.getRegions()
-                .stream()
-                .filter(k -> !k.getCureStatus().equals(RegionCureStatus.FINISHED))
-                .toList());
-        if (event.isPresent()) {
-            final ExtractedEvent exEvent = event.get();
+        for (final ExtractedEvent exEvent : this.causeEvents.causeEvents(this.eventRegions())) {
             final Region exRegion = getUpdateRegion(exEvent.getRegion()).get();
             exRegion.incDeathPeople(exEvent.getDeath(), true);
             final Message msg = new Message() {
@@ -189,25 +312,44 @@ public final class ModelImpl implements Model {
                             + exEvent.getDeath() + " morti.";
                 }
             };
-            pcs.firePropertyChange(MessageType.CATASTROPHE.getTitle(), message, msg);
-            message = Optional.of(msg);
+            this.events.fireMessage(msg);
         }
     }
 
     @Override
-    public void setRegions(final List<Region> regions) {
-        this.regions = new LinkedList<>(regions);
-        this.initializeInfoData();
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The regions are views of the store, so the model must use the same instance"
+    )
+    // @formatter:on
+    public void setRegions(final List<Region> regions, final RegionStateStore store) {
+        // the listeners of the previous regions must not see the deltas anymore
+        if (this.meansClosedListener != null) {
+            this.regionStates.removeMeansClosedListener(this.meansClosedListener);
+            this.regionStates.removeDeltaListener(this.totalsListener);
+            this.events.removeInfectedListener(this.infoDataObserver);
+        }
+        this.regions = new ArrayList<>(regions);
+        this.regionStates = store;
+        this.regionIndex = RegionIndex.of(store);
+        this.kernelOutput = new long[store.size()];
+        this.eventRegionsVersion = -1;
+        this.voyages.clear();
+        this.transportGraph = TransportGraph.of(this.regions);
+        this.initializeInfoData(store);
     }
 
     @Override
     public void setEvents(final List<Event> events) {
-        this.causeEvents = new CauseEventsImpl(events);
+        this.eventDefinitions = List.copyOf(events);
+        this.causeEvents = new CauseEventsImpl(events, this.random.split());
     }
 
     @Override
     public void setCure(final Cure cure) {
         this.cure = Optional.of(cure);
+        this.events.addCureResistanceListener(new DiseaseObserver(cure));
         this.cure.get().addAction((value) -> {
             final Message msg = new Message() {
                 @Override
@@ -220,8 +362,7 @@ public final class ModelImpl implements Model {
                     return "Cure reach " + value + "%";
                 }
             };
-            pcs.firePropertyChange(MessageType.CURE.getTitle(), message, msg);
-            message = Optional.of(msg);
+            this.events.fireMessage(msg);
         });
     }
 
@@ -267,34 +408,178 @@ public final class ModelImpl implements Model {
         this.voyageC = voyages;
     }
 
-    private void initializeInfoData() {
-        this.infoData = new InfoDataImpl(this.regions.stream()
-                .map(Region::getPopTot)
-                .reduce(0L, (e0, e1) -> e0 + e1));
-        this.regions.forEach(region -> {
-            region.initializeObserver(new InfoDataRegionObserver(this.infoData));
-        });
+    private void initializeInfoData(final RegionStateStore store) {
+        final InfoData totals = new InfoDataImpl(store.getTotalPopulation(), this.random.split());
+        totals.addDeltas(store.getTotalDeaths(), store.getTotalInfected());
+        this.meansClosedListener = this.transportGraph::close;
+        store.addMeansClosedListener(this.meansClosedListener);
+        this.totalsListener = (id, deathsDelta, infectedDelta) -> totals.addDeltas(deathsDelta, infectedDelta);
+        store.addDeltaListener(this.totalsListener);
+        this.infoData = totals;
+        this.infoDataObserver = new InfoDataRegionObserver(this.infoData, this.random.split());
+        this.events.addInfectedListener(this.infoDataObserver);
+        this.regions.forEach(region -> region.setEventBus(this.events));
     }
 
     @Override
     public List<Voyage> getVoyages() {
-        return new LinkedList<>(this.voyages);
+        return new LinkedList<>(this.voyages.toList(this.regions));
     }
 
     @Override
     public void update() {
+        this.metrics.tickStarted();
         this.extractVoyages();
-        this.disease.killPeopleRegions(this.regions);
-        this.disease.infectRegions(this.regions);
+        this.metrics.phaseCompleted(TickPhase.VOYAGES);
+        this.killPeopleRegions();
+        this.metrics.phaseCompleted(TickPhase.DEATHS);
+        this.infectRegions();
+        this.metrics.phaseCompleted(TickPhase.INFECTIONS);
         this.causeEvent();
+        this.metrics.phaseCompleted(TickPhase.EVENTS);
         this.deathAnalyzer.analyze(this.infoData.getTotalDeaths());
+        this.metrics.phaseCompleted(TickPhase.DEATH_ANALYSIS);
         this.cure.ifPresent(cure -> cure.research());
-        this.infoData.updateTotalDeathsAndInfected(this.regions);
+        this.metrics.phaseCompleted(TickPhase.CURE);
+        this.infoData.updatePoints();
         this.infoData.updateCureData(this.cure.get().getGlobalStatus());
+        this.metrics.phaseCompleted(TickPhase.INFO_DATA);
+        this.metrics.tickCompleted(this.voyages.size());
     }
 
     @Override
     public List<String> getMeans() {
        return new LinkedList<>(voyageC.getMeans());
     }
+
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Components must split the same source to keep the run reproducible"
+    )
+    // @formatter:on
+    @Override
+    public RandomSource getRandomSource() {
+        return this.random;
+    }
+
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The metrics are meant to be read live while the model runs"
+    )
+    // @formatter:on
+    @Override
+    public TickMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Writes the regions, the disease, the cure, the info data, the voyages,
+     * the events and the announced causes of death. The random sources are not part of the snapshot.
+     */
+    @Override
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putInt(this.regions.size());
+        for (final Region region : this.regions) {
+            snapshottable(region).writeSnapshot(out);
+        }
+        this.regionStates.writeSnapshot(out);
+        out.putBoolean(this.disease != null);
+        if (this.disease != null) {
+            out.putString(Objects.toString(this.disease.getName(), ""));
+            out.putString(this.disease.getType());
+            out.putFloat(this.disease.getInfectivity());
+            out.putFloat(this.disease.getLethality());
+            out.putFloat(this.disease.getAirInfectivity());
+            out.putFloat(this.disease.getSeaInfectivity());
+            out.putFloat(this.disease.getLandInfectivity());
+            out.putFloat(this.disease.getHeatInfectivity());
+            out.putFloat(this.disease.getColdInfectivity());
+            out.putFloat(this.disease.getCureResistance());
+            out.putFloat(this.disease.getHumidityInfectivity());
+            out.putFloat(this.disease.getAridityInfectivity());
+            out.putFloat(this.disease.getPovertyInfectivity());
+        }
+        out.putBoolean(this.cure.isPresent());
+        if (this.cure.isPresent()) {
+            snapshottable(this.cure.get()).writeSnapshot(out);
+        }
+        snapshottable(this.infoData).writeSnapshot(out);
+        out.putBoolean(this.voyageC != null);
+        if (this.voyageC != null) {
+            snapshottable(this.voyageC).writeSnapshot(out);
+        }
+        out.putInt(this.eventDefinitions.size());
+        for (final Event event : this.eventDefinitions) {
+            out.putString(event.getName());
+            out.putFloat(event.getProbOfHapp());
+            out.putFloat(event.getPercOfDeath());
+        }
+        out.putBoolean(this.isDiseaseSpreading);
+        this.deathAnalyzer.writeSnapshot(out);
+    }
+
+    private static Snapshottable snapshottable(final Object component) {
+        if (component instanceof Snapshottable) {
+            return (Snapshottable) component;
+        }
+        throw new IllegalStateException(component.getClass().getName() + " can't be written in a snapshot");
+    }
+
+    /**
+     * Rebuilds a model written by {@link #writeSnapshot}, without reading any
+     * configuration file.
+     * 
+     * @param in
+     *                 the snapshot being read
+     * @param random
+     *                 the random source of the restored model
+     * @param settings
+     *                 the simulation settings
+     * @return
+     *         the model
+     */
+    public static ModelImpl readSnapshot(final SnapshotReader in, final RandomSource random,
+            final SimulationSettings settings) {
+        final ModelImpl model = new ModelImpl(random, settings);
+        final RegionStateStore store = new RegionStateStore();
+        final int size = in.getInt();
+        final List<Region> regions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            regions.add(RegionImpl.readSnapshot(store, in));
+        }
+        store.readSnapshot(in);
+        for (int id = 0; id < size; id++) {
+            if (!store.isMeansOpen(id)) {
+                regions.get(id).getTrasmissionMeans().forEach(mean -> mean.setState(MeansState.CLOSE));
+            }
+        }
+        model.setRegions(regions, store);
+        if (in.getBoolean()) {
+            final String name = in.getString();
+            final Disease disease = new DiseaseFactoryImpl(random.split()).createDisease(in.getString(),
+                    in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+            disease.setName(name);
+            model.setDisease(disease);
+        }
+        if (in.getBoolean()) {
+            model.setCure(SimpleCure.readSnapshot(in, regions, store));
+        }
+        ((InfoDataImpl) model.infoData).readSnapshot(in);
+        if (in.getBoolean()) {
+            model.setVoyages(VoyagesImpl.readSnapshot(in, random.split()));
+        }
+        final int eventCount = in.getInt();
+        final List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(new EventImpl(in.getString(), in.getFloat(), in.getFloat()));
+        }
+        model.setEvents(events);
+        model.isDiseaseSpreading = in.getBoolean();
+        model.deathAnalyzer.readSnapshot(in);
+        model.cure.ifPresent(cure -> model.infoData.updateCureData(cure.getGlobalStatus()));
+        return model;
+    }
 }
@@ -0,0 +1,64 @@
+package globaloutbreak.model.cure;
+
+import java.util.List;
+import java.util.Optional;
+
+import globaloutbreak.model.cure.prioriry.Priority;
+import globaloutbreak.model.region.Region;
+
+/**
+ * Immutable {@link CureData}, computed once per tick, that any thread can read
+ * while the cure goes on.
+ */
+final class CureDataImpl implements CureData {
+
+    private final int progress;
+    private final Optional<Integer> remainingDays;
+    private final List<Region> majorContributors;
+    private final Priority priority;
+
+    /**
+     * @param progress
+     *                          progress of the cure
+     * @param remainingDays
+     *                          days before the cure is completed, if it is
+     *                          researched
+     * @param majorContributors
+     *                          regions with the major contribution
+     * @param priority
+     *                          current priority
+     */
+    CureDataImpl(final int progress, final Optional<Integer> remainingDays, final List<Region> majorContributors,
+            final Priority priority) {
+        this.progress = progress;
+        this.remainingDays = remainingDays;
+        this.majorContributors = List.copyOf(majorContributors);
+        this.priority = priority;
+    }
+
+    @Override
+    public int getProgress() {
+        return this.progress;
+    }
+
+    @Override
+    public Optional<Integer> getRemainingDays() {
+        return this.remainingDays;
+    }
+
+    @Override
+    public List<Region> getMajorContributors() {
+        return this.majorContributors;
+    }
+
+    @Override
+    public Priority gePriority() {
+        return this.priority;
+    }
+
+    @Override
+    public String toString() {
+        return "CureData [" + this.priority + ", progress=" + this.progress + ", contrib="
+                + this.majorContributors + ", days=" + this.remainingDays + "]";
+    }
+}
@@ -1,59 +1,104 @@
 package globaloutbreak.model.cure;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Map.Entry;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
+import globaloutbreak.model.cure.prioriry.CurePriority;
 import globaloutbreak.model.cure.prioriry.Priority;
+import globaloutbreak.model.dataanalyzer.ThresholdTrigger;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
 
 /**
  * SimpleCure is a basic implementation of {@link Cure}.
+ *
+ * The contribution of each region is kept in an array, indexed by the order
+ * of the regions, with their running sum, and the major contributors are kept
+ * ranked while contributions grow. Every day of research the research budget
+ * is set back to the sum of the contributions, so a reduction of the progress
+ * lasts until the next day.
+ *
+ * {@link #getGlobalStatus()} returns immutable data, computed after every
+ * day of research, so the view can read it while the research goes on.
+ *
+ * The regions that discovered the disease, that research the cure and whose
+ * mortality is over the detection rate are kept in bit sets, indexed by the
+ * order of the regions, so each step of the research visits only the regions
+ * it acts on. When the regions are views of a {@link RegionStateStore} the
+ * mortality is checked only in the regions with deaths.
  */
-public final class SimpleCure implements Cure {
+public final class SimpleCure implements Cure, Snapshottable {
 
     private final Logger logger = LoggerFactory.getLogger(SimpleCure.class);
 
-    private final Map<Region, Float> contributions;
-    private final Set<Integer> rilevantProgress;
+    private final Region[] regions;
+    private final Optional<RegionStateStore> regionStates;
+    private final float[] contributions;
+    private final TopContributors majorContributors;
+    private final BitSet discovered = new BitSet();
+    private final BitSet started = new BitSet();
+    private final BitSet detected = new BitSet();
+    private float detectedRate = Float.NaN;
+    private final ThresholdTrigger<Integer> rilevantProgress;
     private final List<Priority> priorities;
     private final float researchersEfficiency;
     private final float dailyBudget;
     private final int numberOfMajorContributors;
     private float necessaryBudget;
     private float researchBudget;
+    private float contributionsTotal;
     private int daysBeforeStartResearch;
     private int currentPriority;
     private boolean isStarted;
     private boolean isComplete;
-    private Optional<Consumer<Integer>> action;
+    private Optional<Consumer<Integer>> action = Optional.empty();
+    private volatile CureData status;
 
     private SimpleCure(final float dailyBudget, final int numberOfMajorContributors,
-            final Map<Region, Float> contributions, final float researchersEfficiency, final List<Priority> priorities,
+            final Region[] regions, final Optional<RegionStateStore> regionStates, final float[] contributions,
+            final float researchersEfficiency, final List<Priority> priorities,
             final float necessaryBudget, final float researchBudget, final int currentPriority,
             final int daysBeforeStartResearch, final Set<Integer> rilevantProgress) {
         this.dailyBudget = dailyBudget;
         this.numberOfMajorContributors = numberOfMajorContributors;
+        this.regions = regions;
+        this.regionStates = regionStates;
         this.contributions = contributions;
+        for (final float contribution : contributions) {
+            this.contributionsTotal += contribution;
+        }
+        this.majorContributors = new TopContributors(contributions, numberOfMajorContributors);
+        this.majorContributors.rebuild();
         this.researchersEfficiency = researchersEfficiency;
         this.priorities = priorities;
         this.necessaryBudget = necessaryBudget;
         this.researchBudget = researchBudget;
         this.currentPriority = currentPriority;
         this.daysBeforeStartResearch = daysBeforeStartResearch;
-        this.rilevantProgress = rilevantProgress;
+        final ThresholdTrigger.Builder<Integer> milestones = new ThresholdTrigger.Builder<>();
+        rilevantProgress.forEach(progress -> milestones.add(progress, progress));
+        this.rilevantProgress = milestones.build((progress, threshold) -> this.action.ifPresent(
+                a -> a.accept(progress)));
         this.isStarted = false;
         this.isComplete = false;
+        for (int i = 0; i < this.regions.length; i++) {
+            this.discovered.set(i, this.regions[i].getCureStatus() == RegionCureStatus.DISCOVERED);
+            this.started.set(i, this.regions[i].getCureStatus() == RegionCureStatus.STARTED);
+        }
     }
 
     @Override
@@ -63,44 +108,33 @@ public final class SimpleCure implements Cure {
 
     @Override
     public CureData getGlobalStatus() {
-        return new CureData() {
-
-            @Override
-            public int getProgress() {
-                return cureProgress();
-            }
-
-            @Override
-            public Optional<Integer> getRemainingDays() {
-                final float dailyInvestment = contributions.entrySet().stream()
-                        .filter(el -> el.getKey().getCureStatus() == RegionCureStatus.STARTED)
-                        .map(el -> dailyRegionContribution(el.getKey()))
-                        .reduce(0f, (f0, f1) -> f0 + f1);
-                return dailyInvestment != 0
-                        ? Optional.of(Math.round((necessaryBudget - researchBudget) / dailyInvestment))
-                        : Optional.empty();
-            }
-
-            @Override
-            public List<Region> getMajorContributors() {
-                return isStarted ? contributions.entrySet().stream()
-                        .sorted((e0, e1) -> Float.compare(e1.getValue(), e0.getValue()))
-                        .map(el -> el.getKey())
-                        .limit(numberOfMajorContributors)
-                        .toList() : new ArrayList<>();
-            }
-
-            @Override
-            public Priority gePriority() {
-                return priorities.get(currentPriority);
-            }
+        final CureData current = this.status;
+        return current == null ? this.publish() : current;
+    }
 
-            @Override
-            public String toString() {
-                return "CureData [" + gePriority() + ", progress=" + getProgress() + ", contrib="
-                        + getMajorContributors() + ", days=" + getRemainingDays() + "]";
+    /**
+     * Computes the data of the cure once, for every reader until the next
+     * change.
+     */
+    private CureData publish() {
+        float dailyInvestment = 0f;
+        final BitSet researching = this.withStatus(this.started, RegionCureStatus.STARTED);
+        for (int i = researching.nextSetBit(0); i >= 0; i = researching.nextSetBit(i + 1)) {
+            dailyInvestment += this.dailyRegionContribution(this.regions[i]);
+        }
+        final List<Region> major = new ArrayList<>();
+        if (this.isStarted) {
+            for (final int region : this.majorContributors.ranked()) {
+                major.add(this.regions[region]);
             }
-        };
+        }
+        final CureData data = new CureDataImpl(this.cureProgress(),
+                dailyInvestment != 0
+                        ? Optional.of(Math.round((this.necessaryBudget - this.researchBudget) / dailyInvestment))
+                        : Optional.empty(),
+                major, this.priorities.get(this.currentPriority));
+        this.status = data;
+        return data;
     }
 
     @Override
@@ -116,17 +150,22 @@ public final class SimpleCure implements Cure {
         if (this.cureProgress() >= 100) {
             this.isComplete = true;
         }
+        this.publish();
     }
 
     private void updateResearch() {
         // if the research has started every region contributes to the research
-        this.contributions.entrySet().stream()
-                .filter(el -> el.getKey().getCureStatus() == RegionCureStatus.STARTED)
-                .forEach(el -> this.contributions.compute(
-                        el.getKey(),
-                        (key, val) -> val + this.dailyRegionContribution(key)));
-        this.updateResearchBudget();
-        if (this.highMortalityRateRegions().count() > 0) {
+        final BitSet researching = this.withStatus(this.started, RegionCureStatus.STARTED);
+        float dailyInvestment = 0f;
+        for (int i = researching.nextSetBit(0); i >= 0; i = researching.nextSetBit(i + 1)) {
+            final float contribution = this.dailyRegionContribution(this.regions[i]);
+            this.contributions[i] += contribution;
+            this.majorContributors.update(i);
+            dailyInvestment += contribution;
+        }
+        this.contributionsTotal += dailyInvestment;
+        this.researchBudget = this.contributionsTotal;
+        if (!this.highMortalityRateRegions().isEmpty()) {
             this.increasePriority();
         }
     }
@@ -145,28 +184,31 @@ public final class SimpleCure implements Cure {
         this.logger.info("Start Cure research");
         this.isStarted = true;
         this.increasePriority();
-        this.contributions.entrySet().stream()
-                .filter(el -> el.getKey().getDeathByVirus() != el.getKey().getPopTot())
-                .forEach(el -> el.getKey().setCureStatus(RegionCureStatus.STARTED));
+        for (int i = 0; i < this.regions.length; i++) {
+            if (this.regions[i].getDeathByVirus() != this.regions[i].getPopTot()) {
+                this.regions[i].setCureStatus(RegionCureStatus.STARTED);
+                this.started.set(i);
+                this.discovered.clear(i);
+            }
+        }
     }
 
     private void checkRegionStatus() {
-        if (this.highMortalityRateRegions().count() > 0) {
+        final BitSet mortal = this.highMortalityRateRegions();
+        if (!mortal.isEmpty()) {
             this.daysBeforeStartResearch--;
-            this.highMortalityRateRegions()
-                    .filter(el -> el.getKey().getDeathByVirus() != el.getKey().getPopTot())
-                    .forEach(el -> el.getKey().setCureStatus(RegionCureStatus.DISCOVERED));
+            for (int i = mortal.nextSetBit(0); i >= 0; i = mortal.nextSetBit(i + 1)) {
+                if (this.regions[i].getDeathByVirus() != this.regions[i].getPopTot()) {
+                    this.regions[i].setCureStatus(RegionCureStatus.DISCOVERED);
+                    this.discovered.set(i);
+                    this.started.clear(i);
+                }
+            }
         }
     }
 
     private void notifyIfNecessary() {
-        final Optional<Integer> min = this.rilevantProgress.stream()
-                .min(Integer::compareTo)
-                .filter(el -> el <= this.cureProgress());
-        if (min.isPresent()) {
-            action.ifPresent(a -> a.accept(min.get()));
-            this.rilevantProgress.remove(min.get());
-        }
+        this.rilevantProgress.fireNext(this.cureProgress());
     }
 
     @Override
@@ -177,11 +219,13 @@ public final class SimpleCure implements Cure {
     @Override
     public void increaseResearchDifficulty(final float changeFactor) {
         this.necessaryBudget *= 1 + changeFactor;
+        this.publish();
     }
 
     @Override
     public void reduceResearchProgress(final float changeFactor) {
         this.researchBudget *= 1 + changeFactor;
+        this.publish();
     }
 
     private float dailyRegionContribution(final Region region) {
@@ -202,9 +246,7 @@ public final class SimpleCure implements Cure {
     }
 
     private int numberOfRegionsTahtDiscoveredDisease() {
-        return Math.toIntExact(this.contributions.entrySet().stream()
-                .filter(el -> el.getKey().getCureStatus() == RegionCureStatus.DISCOVERED)
-                .count());
+        return this.withStatus(this.discovered, RegionCureStatus.DISCOVERED).cardinality();
     }
 
     private void increasePriority() {
@@ -216,17 +258,53 @@ public final class SimpleCure implements Cure {
                 });
     }
 
-    private void updateResearchBudget() {
-        this.researchBudget = this.contributions.entrySet().stream()
-                .map(el -> el.getValue())
-                .reduce(Float.valueOf(0), (f0, f1) -> f0 + f1);
+    /**
+     * Deaths only grow, so a region over the detection rate stays over it
+     * until the rate changes: only the regions below it are checked again,
+     * and among them only the ones with deaths if the store is known.
+     */
+    private BitSet highMortalityRateRegions() {
+        final float rate = this.priorities.get(this.currentPriority).getDetectionRate();
+        if (Float.compare(rate, this.detectedRate) != 0) {
+            this.detected.clear();
+            this.detectedRate = rate;
+        }
+        for (int i = this.nextUndetected(0); i >= 0 && i < this.regions.length; i = this.nextUndetected(i + 1)) {
+            if (Float.valueOf(this.regions[i].getDeathByVirus()) / this.regions[i].getPopTot() > rate) {
+                this.detected.set(i);
+            }
+        }
+        return this.detected;
+    }
+
+    /**
+     * @return
+     *         the first region below the detection rate, with deaths if the
+     *         store is known, with an id not lower than from, -1 if there is
+     *         none
+     */
+    private int nextUndetected(final int from) {
+        if (this.regionStates.isEmpty()) {
+            return this.detected.nextClearBit(from);
+        }
+        int next = from;
+        do {
+            next = this.regionStates.get().nextWithDeaths(this.detected.nextClearBit(next));
+        } while (next >= 0 && this.detected.get(next));
+        return next;
     }
 
-    private Stream<Entry<Region, Float>> highMortalityRateRegions() {
-        return this.contributions.entrySet().stream()
-                .filter(el -> Float.valueOf(el.getKey().getDeathByVirus())
-                        / el.getKey().getPopTot() > this.priorities.get(this.currentPriority)
-                                .getDetectionRate());
+    /**
+     * Drops from a set the regions whose status was changed by someone else,
+     * like a region that died out.
+     */
+    private BitSet withStatus(final BitSet set, final RegionCureStatus status) {
+        for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+            if (this.regions[i].getCureStatus() != status) {
+                set.clear(i);
+            }
+        }
+        return set;
     }
 
     @Override
@@ -235,10 +313,15 @@ public final class SimpleCure implements Cure {
             logger.warn("Priority list can't be empty");
             return false;
         }
-        if (this.contributions.isEmpty()) {
+        if (this.regions.length == 0) {
             logger.warn("Regions list can't be empty");
             return false;
         }
+        if (this.regionStates.isPresent() && this.regionStates.get().size() != this.regions.length) {
+            logger.warn("The store has {} regions, the cure {}", this.regionStates.get().size(),
+                    this.regions.length);
+            return false;
+        }
         if (this.priorities.stream()
                 .filter(el -> el.getPriority() == this.currentPriority).count() != 1) {
             logger.warn("Invalid current prioriry: current priority '{}' is not found in the priorities '{}'",
@@ -260,6 +343,99 @@ public final class SimpleCure implements Cure {
                 && this.checkIfPositive(this.daysBeforeStartResearch, "daysBeforeStartResearch");
     }
 
+    /**
+     * Writes the whole state of the cure, the contributions in the order of
+     * the regions it was built with.
+     */
+    @Override
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putFloat(this.dailyBudget);
+        out.putInt(this.numberOfMajorContributors);
+        out.putFloat(this.researchersEfficiency);
+        out.putFloat(this.necessaryBudget);
+        out.putFloat(this.researchBudget);
+        out.putInt(this.currentPriority);
+        out.putInt(this.daysBeforeStartResearch);
+        out.putBoolean(this.isStarted);
+        out.putBoolean(this.isComplete);
+        out.putInt(this.priorities.size());
+        for (final Priority priority : this.priorities) {
+            out.putInt(priority.getPriority());
+            out.putString(priority.getDescription());
+            out.putFloat(priority.getResourcesPercentage());
+            out.putFloat(priority.getDetectionRate());
+        }
+        final long[] thresholds = this.rilevantProgress.getThresholds();
+        out.putInt(thresholds.length);
+        for (final long progress : thresholds) {
+            out.putInt((int) progress);
+        }
+        out.putInt(this.rilevantProgress.getReachedCount());
+        out.putInt(this.contributions.length);
+        for (final float contribution : this.contributions) {
+            out.putFloat(contribution);
+        }
+    }
+
+    /**
+     * Reads a cure written by {@link #writeSnapshot}.
+     * 
+     * @param in
+     *                the snapshot being read
+     * @param regions
+     *                the regions the cure was built with, in the same order
+     * @param store
+     *                the store the regions are views of
+     * @return
+     *         the cure
+     */
+    public static SimpleCure readSnapshot(final SnapshotReader in, final List<Region> regions,
+            final RegionStateStore store) {
+        final float dailyBudget = in.getFloat();
+        final int numberOfMajorContributors = in.getInt();
+        final float researchersEfficiency = in.getFloat();
+        final float necessaryBudget = in.getFloat();
+        final float researchBudget = in.getFloat();
+        final int currentPriority = in.getInt();
+        final int daysBeforeStartResearch = in.getInt();
+        final boolean isStarted = in.getBoolean();
+        final boolean isComplete = in.getBoolean();
+        final int priorityCount = in.getInt();
+        final List<Priority> priorities = new ArrayList<>(priorityCount);
+        final CurePriority.Builder priorityBuilder = new CurePriority.Builder();
+        for (int i = 0; i < priorityCount; i++) {
+            priorities.add(priorityBuilder
+                    .setPriority(in.getInt())
+                    .setDescription(in.getString())
+                    .setResourcesPercentage(in.getFloat())
+                    .setDetectionRate(in.getFloat())
+                    .build());
+        }
+        final int progressCount = in.getInt();
+        final Set<Integer> rilevantProgress = new HashSet<>();
+        for (int i = 0; i < progressCount; i++) {
+            rilevantProgress.add(in.getInt());
+        }
+        final int reachedProgress = in.getInt();
+        final int contributionCount = in.getInt();
+        if (contributionCount != regions.size()) {
+            throw new IllegalStateException("The snapshot has " + contributionCount + " contributions for "
+                    + regions.size() + " regions");
+        }
+        final float[] contributions = new float[regions.size()];
+        for (int i = 0; i < contributions.length; i++) {
+            contributions[i] = in.getFloat();
+        }
+        final SimpleCure cure = new SimpleCure(dailyBudget, numberOfMajorContributors,
+                regions.toArray(new Region[0]), Optional.of(store), contributions,
+                researchersEfficiency, priorities, necessaryBudget, researchBudget, currentPriority,
+                daysBeforeStartResearch, rilevantProgress);
+        cure.isStarted = isStarted;
+        cure.isComplete = isComplete;
+        cure.rilevantProgress.setReachedCount(reachedProgress);
+        return cure;
+    }
+
     private boolean checkIfPositive(final float number, final String name) {
         if (number < 0) {
             logger.warn("Value {} can't be negative", name);
@@ -303,7 +479,8 @@ public final class SimpleCure implements Cure {
         private int daysBeforeStartResearch = DAYS_BEFORE_START_RESEARCH;
         private Set<Integer> rilevantProgreass = RILEVANT_PROGRESS;
         private final List<Priority> priorities;
-        private final Map<Region, Float> contributions = new HashMap<>();
+        private final Set<Region> regions = new LinkedHashSet<>();
+        private Optional<RegionStateStore> regionStates = Optional.empty();
         private boolean consumed;
 
         /**
@@ -318,7 +495,7 @@ public final class SimpleCure implements Cure {
          */
         public Builder(final List<Region> regions, final List<Priority> priorities) {
             if (!regions.isEmpty()) {
-                regions.forEach(el -> this.contributions.put(el, 0f));
+                this.regions.addAll(regions);
             }
             this.priorities = new ArrayList<>(priorities);
         }
@@ -396,6 +573,22 @@ public final class SimpleCure implements Cure {
             return this;
         }
 
+        /**
+         * @param regionStates the store the regions are views of, in the same
+         *                     order
+         * @return this builder, for method chaining
+         */
+        // @formatter:off
+        @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP2",
+            justification = "The store is read by the cure while the simulation updates it"
+        )
+        // @formatter:on
+        public Builder setRegionStates(final RegionStateStore regionStates) {
+            this.regionStates = Optional.of(regionStates);
+            return this;
+        }
+
         /**
          * @return a SimpleCure
          */
@@ -405,7 +598,8 @@ public final class SimpleCure implements Cure {
             }
             consumed = true;
 
-            return new SimpleCure(dailyBudget, numberOfMajorContributors, contributions, researchersEfficiency,
+            return new SimpleCure(dailyBudget, numberOfMajorContributors, regions.toArray(new Region[0]),
+                    regionStates, new float[regions.size()], researchersEfficiency,
                     priorities, necessaryBudget, researchBudget, currentPriority, daysBeforeStartResearch,
                     rilevantProgreass);
         }
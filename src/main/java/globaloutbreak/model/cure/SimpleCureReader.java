@@ -3,6 +3,7 @@ package globaloutbreak.model.cure;
 import java.util.List;
 
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
 
 /**
  * An interface for a reader of simplecure.
@@ -19,4 +20,16 @@ public interface SimpleCureReader {
      */
     SimpleCure getSimpleCure(List<Region> regions);
 
+    /**
+     * Returns a SimpleCure over regions that are views of a store.
+     * 
+     * @param regions
+     *                list of regions that contribute
+     * @param store
+     *                the store the regions are views of, in the same order
+     * @return
+     *         simplecure
+     */
+    SimpleCure getSimpleCure(List<Region> regions, RegionStateStore store);
+
 }
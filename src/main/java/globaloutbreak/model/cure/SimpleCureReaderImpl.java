@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.Map.Entry;
 
@@ -19,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import globaloutbreak.model.cure.prioriry.CurePriorityReaderImpl;
 import globaloutbreak.model.cure.prioriry.Priority;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
 
 /**
  * A simple cure reader based on "cure.json".
@@ -29,10 +31,20 @@ public final class SimpleCureReaderImpl implements SimpleCureReader {
 
     @Override
     public SimpleCure getSimpleCure(final List<Region> regions) {
+        return this.read(regions, Optional.empty());
+    }
+
+    @Override
+    public SimpleCure getSimpleCure(final List<Region> regions, final RegionStateStore store) {
+        return this.read(regions, Optional.of(store));
+    }
+
+    private SimpleCure read(final List<Region> regions, final Optional<RegionStateStore> store) {
         final List<Priority> priorities = new CurePriorityReaderImpl().getPriorities();
         SimpleCure cure;
         try {
             final SimpleCure.Builder cureBuilder = new SimpleCure.Builder(regions, priorities);
+            store.ifPresent(cureBuilder::setRegionStates);
 
             final ObjectMapper mapper = new ObjectMapper();
             final JsonNode node = mapper.readTree(new BufferedReader(new InputStreamReader(
@@ -82,7 +94,9 @@ public final class SimpleCureReaderImpl implements SimpleCureReader {
             cure = cureBuilder.build();
         } catch (IOException e) {
             logger.warn("Unable to read {}:", FILE_PATH, e);
-            cure = new SimpleCure.Builder(regions, priorities).build();
+            final SimpleCure.Builder cureBuilder = new SimpleCure.Builder(regions, priorities);
+            store.ifPresent(cureBuilder::setRegionStates);
+            cure = cureBuilder.build();
         }
         return cure;
     }
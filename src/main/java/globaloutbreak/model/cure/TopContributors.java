@@ -0,0 +1,130 @@
+package globaloutbreak.model.cure;
+
+import java.util.Arrays;
+
+/**
+ * The regions with the highest contributions to the cure, kept in a min-heap
+ * of bounded size whose root is the weakest of them.
+ *
+ * Contributions only grow, so a region updated while in the heap can only
+ * move away from the root, and a region outside of it can only enter by
+ * taking the place of the root.
+ */
+final class TopContributors {
+
+    private final float[] values;
+    private final int[] heap;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * @param values
+     *                 the contribution of every region, read in place
+     * @param capacity
+     *                 the number of regions to keep
+     */
+    TopContributors(final float[] values, final int capacity) {
+        this.values = values;
+        this.heap = new int[Math.max(0, Math.min(capacity, values.length))];
+        this.positions = new int[values.length];
+        Arrays.fill(this.positions, -1);
+    }
+
+    /**
+     * Ranks again every region, after the contributions were overwritten.
+     */
+    void rebuild() {
+        this.size = 0;
+        Arrays.fill(this.positions, -1);
+        for (int region = 0; region < this.values.length; region++) {
+            this.update(region);
+        }
+    }
+
+    /**
+     * @param region
+     *               the region whose contribution grew
+     */
+    void update(final int region) {
+        final int position = this.positions[region];
+        if (position >= 0) {
+            this.siftDown(position);
+        } else if (this.size < this.heap.length) {
+            this.place(region, this.size);
+            this.size++;
+            this.siftUp(this.size - 1);
+        } else if (this.size > 0 && this.above(region, this.heap[0])) {
+            this.positions[this.heap[0]] = -1;
+            this.place(region, 0);
+            this.siftDown(0);
+        }
+    }
+
+    /**
+     * @return
+     *         the kept regions, from the highest contribution
+     */
+    int[] ranked() {
+        final int[] ranked = Arrays.copyOf(this.heap, this.size);
+        // few regions are kept, insertion sort is enough
+        for (int i = 1; i < ranked.length; i++) {
+            final int region = ranked[i];
+            int j = i - 1;
+            while (j >= 0 && this.above(region, ranked[j])) {
+                ranked[j + 1] = ranked[j];
+                j--;
+            }
+            ranked[j + 1] = region;
+        }
+        return ranked;
+    }
+
+    /**
+     * Same order of a stable sort by decreasing contribution: on a tie the
+     * region that comes first wins.
+     */
+    private boolean above(final int first, final int second) {
+        final int compare = Float.compare(this.values[first], this.values[second]);
+        return compare > 0 || compare == 0 && first < second;
+    }
+
+    private void siftUp(final int from) {
+        int child = from;
+        while (child > 0) {
+            final int parent = (child - 1) / 2;
+            if (!this.above(this.heap[parent], this.heap[child])) {
+                return;
+            }
+            this.swap(parent, child);
+            child = parent;
+        }
+    }
+
+    private void siftDown(final int from) {
+        int parent = from;
+        while (true) {
+            final int left = parent * 2 + 1;
+            if (left >= this.size) {
+                return;
+            }
+            final int right = left + 1;
+            final int weakest = right < this.size && this.above(this.heap[left], this.heap[right]) ? right : left;
+            if (!this.above(this.heap[parent], this.heap[weakest])) {
+                return;
+            }
+            this.swap(parent, weakest);
+            parent = weakest;
+        }
+    }
+
+    private void swap(final int first, final int second) {
+        final int region = this.heap[first];
+        this.place(this.heap[second], first);
+        this.place(region, second);
+    }
+
+    private void place(final int region, final int position) {
+        this.heap[position] = region;
+        this.positions[region] = position;
+    }
+}
@@ -1,17 +1,15 @@
 package globaloutbreak.model.cure.observer;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.cure.Cure;
+import globaloutbreak.model.observer.CureResistanceListener;
 
 /**
  * An observer which notify the {@link Cure} if
  * {@link globaloutbreak.model.api.Disease} mutations
  * affect it's research.
  */
-public final class DiseaseObserver implements PropertyChangeListener {
+public final class DiseaseObserver implements CureResistanceListener {
 
     private final Cure cure;
 
@@ -32,16 +30,7 @@ public final class DiseaseObserver implements PropertyChangeListener {
     }
 
     @Override
-    public void propertyChange(final PropertyChangeEvent property) {
-        switch (property.getPropertyName()) {
-            case "resist":
-                this.cure.increaseResearchDifficulty((float) property.getNewValue());
-                break;
-            case "decre":
-                this.cure.reduceResearchProgress((float) property.getNewValue());
-                break;
-            default:
-                break;
-        }
+    public void onCureResistance(final float old, final float now) {
+        this.cure.increaseResearchDifficulty(now);
     }
 }
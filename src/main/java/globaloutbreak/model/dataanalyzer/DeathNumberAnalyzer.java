@@ -5,29 +5,27 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.BiConsumer;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
+
 /**
  * A DataAnalyzer based on the mainly cause of death.
  */
-public final class DeathNumberAnalyzer implements DataAnalyzer<Long> {
+public final class DeathNumberAnalyzer implements DataAnalyzer<Long>, Snapshottable {
 
     private static final String FILE_PATH = "diseases/deaths.csv";
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private Optional<Map<String, Long>> causeOfDeahs = Optional.empty();
-    private final BiConsumer<String, Long> action;
+    private final ThresholdTrigger<String> causesOfDeath;
 
     /**
      * Create an analyzer based on data from deaths.csv.
@@ -38,24 +36,20 @@ public final class DeathNumberAnalyzer implements DataAnalyzer<Long> {
      *               death
      */
     public DeathNumberAnalyzer(final BiConsumer<String, Long> action) {
-        this.action = action;
-        this.readCsv();
+        final ThresholdTrigger.Builder<String> builder = new ThresholdTrigger.Builder<>();
+        this.readCsv(builder);
+        this.causesOfDeath = builder.build(action);
     }
 
-    private void readCsv() {
+    private void readCsv(final ThresholdTrigger.Builder<String> builder) {
         try (var dataFile = new BufferedReader(
                 new InputStreamReader(ClassLoader.getSystemResourceAsStream(FILE_PATH), StandardCharsets.UTF_8))) {
             final List<List<String>> l = dataFile.lines().map(line -> Arrays.asList(line.split(","))).toList();
-            final Map<String, Long> cause = new HashMap<>();
-
-            IntStream.range(0, l.get(0).size())
-                    .forEach(i -> cause.put(l.get(0).get(i), Long.parseLong(l.get(1).get(i))));
-
-            this.causeOfDeahs = Optional.of(cause.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Entry::getKey,
-                            Entry::getValue,
-                            (oldV, newV) -> oldV, LinkedHashMap::new)));
+            final Map<String, Long> causes = new LinkedHashMap<>();
+            for (int i = 0; i < l.get(0).size(); i++) {
+                causes.put(l.get(0).get(i), Long.parseLong(l.get(1).get(i)));
+            }
+            causes.forEach((cause, deaths) -> builder.add(deaths, cause));
         } catch (IOException e) {
             this.logger.warn("Error trying to read {}", FILE_PATH, e);
         } catch (NumberFormatException | IndexOutOfBoundsException e) {
@@ -65,16 +59,31 @@ public final class DeathNumberAnalyzer implements DataAnalyzer<Long> {
 
     @Override
     public void analyze(final Long data) {
-        this.causeOfDeahs.ifPresent(e -> e.entrySet().stream()
-                .filter(el -> el.getValue() <= data)
-                .min((e0, e1) -> Long.compare(e0.getValue(), e1.getValue()))
-                .ifPresent(el -> {
-                    performAction(el, this.action);
-                    this.causeOfDeahs.get().remove(el.getKey());
-                }));
+        this.causesOfDeath.fireNext(data);
+    }
+
+    /**
+     * Writes how many causes of death were already announced, so that the
+     * ones reached but still waiting for their turn are announced after a
+     * restore.
+     */
+    @Override
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putInt(this.causesOfDeath.getReachedCount());
     }
 
-    private void performAction(final Entry<String, Long> entry, final BiConsumer<String, Long> c) {
-        c.accept(entry.getKey(), entry.getValue());
+    /**
+     * Restores the state written by {@link #writeSnapshot}.
+     * 
+     * @param in
+     *           the snapshot being read
+     */
+    public void readSnapshot(final SnapshotReader in) {
+        final int reached = in.getInt();
+        try {
+            this.causesOfDeath.setReachedCount(reached);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("The snapshot does not match " + FILE_PATH, e);
+        }
     }
 }
@@ -0,0 +1,204 @@
+package globaloutbreak.model.dataanalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Milestones over a metric, like the total deaths or the progress of the
+ * cure. Any metric fits, as long as it is expressed as a {@code long}:
+ * percentages can be given, for example, in basis points. A milestone fires
+ * once: if the metric falls back below it, it is not armed again.
+ *
+ * The thresholds are sorted once, in a primitive array, and a cursor points
+ * to the lowest one not yet reached, so checking a value costs a single
+ * comparison however many milestones there are.
+ *
+ * @param <T> the payload of a milestone
+ */
+public final class ThresholdTrigger<T> {
+
+    private final long[] thresholds;
+    private final List<T> payloads;
+    private final BiConsumer<T, Long> action;
+    private int next;
+
+    private ThresholdTrigger(final long[] thresholds, final List<T> payloads, final BiConsumer<T, Long> action) {
+        this.thresholds = thresholds;
+        this.payloads = payloads;
+        this.action = action;
+    }
+
+    /**
+     * Fires the lowest milestone not yet reached, if the value reached it.
+     * At most one milestone is fired, the others wait for the next calls.
+     *
+     * @param value
+     *              the current value of the metric
+     * @return
+     *         {@code true} if a milestone was fired
+     */
+    public boolean fireNext(final long value) {
+        if (this.next < this.thresholds.length && this.thresholds[this.next] <= value) {
+            final int reached = this.next++;
+            this.action.accept(this.payloads.get(reached), this.thresholds[reached]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Fires, from the lowest, every milestone reached by the value.
+     *
+     * @param value
+     *              the current value of the metric
+     * @return
+     *         the number of milestones fired
+     */
+    public int fireAll(final long value) {
+        int fired = 0;
+        while (this.fireNext(value)) {
+            fired++;
+        }
+        return fired;
+    }
+
+    /**
+     * Marks the milestones up to the value as reached, without firing them.
+     *
+     * @param value
+     *              the value of the metric
+     */
+    public void skip(final long value) {
+        while (this.next < this.thresholds.length && this.thresholds[this.next] <= value) {
+            this.next++;
+        }
+    }
+
+    /**
+     * Marks every milestone as not reached.
+     */
+    public void reset() {
+        this.next = 0;
+    }
+
+    /**
+     * @return
+     *         the number of milestones already reached, fired or skipped
+     */
+    public int getReachedCount() {
+        return this.next;
+    }
+
+    /**
+     * Marks as reached the given number of milestones, from the lowest, and
+     * the others as not reached.
+     *
+     * @param reached
+     *                the number of milestones reached, as returned by
+     *                {@link #getReachedCount()}
+     */
+    public void setReachedCount(final int reached) {
+        if (reached < 0 || reached > this.thresholds.length) {
+            throw new IllegalArgumentException("There are " + this.thresholds.length + " milestones, not "
+                    + reached);
+        }
+        this.next = reached;
+    }
+
+    /**
+     * @return
+     *         the lowest threshold not yet reached, {@link Long#MAX_VALUE} if
+     *         every milestone was reached
+     */
+    public long getNextThreshold() {
+        return this.next < this.thresholds.length ? this.thresholds[this.next] : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return
+     *         every threshold, from the lowest
+     */
+    public long[] getThresholds() {
+        return this.thresholds.clone();
+    }
+
+    /**
+     * @return
+     *         the thresholds not yet reached, from the lowest
+     */
+    public long[] getPendingThresholds() {
+        return Arrays.copyOfRange(this.thresholds, this.next, this.thresholds.length);
+    }
+
+    /**
+     * Builder for ThresholdTrigger.
+     *
+     * @param <T> the payload of a milestone
+     */
+    @SuppressWarnings("PMD.LinguisticNaming")
+    public static class Builder<T> {
+
+        private final List<Long> thresholds = new ArrayList<>();
+        private final List<T> payloads = new ArrayList<>();
+        private boolean consumed;
+
+        /**
+         * @param threshold the value of the metric that fires the milestone
+         * @param payload   passed to the action with the threshold
+         * @return this builder, for method chaining
+         */
+        public Builder<T> add(final long threshold, final T payload) {
+            this.thresholds.add(threshold);
+            this.payloads.add(payload);
+            return this;
+        }
+
+        /**
+         * Adds a milestone every {@code step}: at {@code step + offset},
+         * {@code 2 * step + offset} and so on, up to {@code max}.
+         *
+         * @param step    the distance between two milestones
+         * @param offset  added to every threshold
+         * @param max     the highest threshold
+         * @param payload passed to the action of every milestone
+         * @return this builder, for method chaining
+         */
+        public Builder<T> addEvery(final long step, final long offset, final long max, final T payload) {
+            if (step <= 0) {
+                throw new IllegalArgumentException("The step must be positive");
+            }
+            for (long threshold = step + offset; threshold <= max; threshold += step) {
+                this.add(threshold, payload);
+            }
+            return this;
+        }
+
+        /**
+         * @param action called with the payload and the threshold of every
+         *               milestone fired
+         * @return the trigger, with milestones sorted by threshold, the ones
+         *         with the same threshold in the order they were added
+         */
+        public final ThresholdTrigger<T> build(final BiConsumer<T, Long> action) {
+            if (consumed) {
+                throw new IllegalStateException("The builder can only be used once");
+            }
+            consumed = true;
+            final int[] order = IntStream.range(0, this.thresholds.size()).boxed()
+                    .sorted(Comparator.comparing(this.thresholds::get))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            final long[] sorted = new long[order.length];
+            final List<T> sortedPayloads = new ArrayList<>(order.length);
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = this.thresholds.get(order[i]);
+                sortedPayloads.add(this.payloads.get(order[i]));
+            }
+            return new ThresholdTrigger<>(sorted, sortedPayloads, action);
+        }
+    }
+}
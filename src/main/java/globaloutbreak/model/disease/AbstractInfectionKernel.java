@@ -0,0 +1,141 @@
+package globaloutbreak.model.disease;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import globaloutbreak.model.region.InfectivityFactor;
+import globaloutbreak.model.region.RegionStateStore;
+
+/**
+ * Base {@link InfectionKernel}: the infectivity of every region is cached in
+ * a column and recomputed, by the subclass, only when the disease or the
+ * regions change.
+ */
+abstract class AbstractInfectionKernel implements InfectionKernel {
+
+    private static final int MAX_RANDOM_INFECTED = 5;
+    private static final InfectivityFactor[] FACTORS = InfectivityFactor.values();
+
+    private final float[] weights = new float[FACTORS.length];
+    private final float[][] columns = new float[FACTORS.length][];
+    private float[] infectivity = new float[0];
+    private RegionStateStore cachedStore;
+    private int cachedSize = -1;
+
+    @Override
+    public final void computeNewInfected(final RegionStateStore store, final Disease disease,
+            final RandomGenerator random, final long[] newInfected) {
+        final int size = store.size();
+        if (this.updateWeights(disease) || store != this.cachedStore || size != this.cachedSize) {
+            if (this.infectivity.length < size) {
+                this.infectivity = new float[size];
+            }
+            for (final InfectivityFactor factor : FACTORS) {
+                this.columns[factor.ordinal()] = store.column(factor);
+            }
+            this.computeInfectivity(this.columns, this.weights, this.infectivity, size);
+            this.cachedStore = store;
+            this.cachedSize = size;
+        }
+        this.spread(store, this.infectivity, random, newInfected);
+    }
+
+    /**
+     * Computes the new infected of every region from the infectivity of each
+     * region. By default every infected person infects, on average,
+     * infectivity people of the same region, so only the infected regions are
+     * visited.
+     * 
+     * @param store
+     *                    the regions
+     * @param infectivity
+     *                    the infectivity of every region
+     * @param random
+     *                    the random generator
+     * @param newInfected
+     *                    output, indexed by region id
+     */
+    protected void spread(final RegionStateStore store, final float[] infectivity, final RandomGenerator random,
+            final long[] newInfected) {
+        Arrays.fill(newInfected, 0, store.size(), 0);
+        for (int id = store.nextInfected(0); id >= 0; id = store.nextInfected(id + 1)) {
+            final long infected = store.getInfected(id);
+            final long remaining = store.getPopulation(id) - infected - store.getDeaths(id);
+            if (remaining > 0) {
+                final long expected = Math.round(infected * infectivity[id]
+                        + random.nextInt(0, MAX_RANDOM_INFECTED));
+                newInfected[id] = Math.min(expected, remaining);
+            }
+        }
+    }
+
+    @Override
+    public final void computeNewDeaths(final RegionStateStore store, final Disease disease, final long[] newDeaths) {
+        this.computeDeaths(store, disease.getLethality(), newDeaths);
+    }
+
+    /**
+     * Computes the new deaths of every region, the infected times the
+     * lethality rounded up. By default only the infected regions are visited.
+     * 
+     * @param store
+     *                  the regions
+     * @param lethality
+     *                  the lethality of the disease
+     * @param newDeaths
+     *                  output, indexed by region id
+     */
+    protected void computeDeaths(final RegionStateStore store, final float lethality, final long[] newDeaths) {
+        Arrays.fill(newDeaths, 0, store.size(), 0);
+        for (int id = store.nextInfected(0); id >= 0; id = store.nextInfected(id + 1)) {
+            newDeaths[id] = (long) Math.ceil(store.getInfected(id) * lethality);
+        }
+    }
+
+    /**
+     * Computes, for every region, the sum of every factor times its weight.
+     * Factors must be added in {@link InfectivityFactor} order, so that every
+     * implementation rounds the same way.
+     * 
+     * @param columns
+     *                the factor columns, in {@link InfectivityFactor} order
+     * @param weights
+     *                the weight of each factor
+     * @param out
+     *                the infectivity of every region
+     * @param size
+     *                the number of regions
+     */
+    protected abstract void computeInfectivity(float[][] columns, float[] weights, float[] out, int size);
+
+    private boolean updateWeights(final Disease disease) {
+        boolean changed = false;
+        for (final InfectivityFactor factor : FACTORS) {
+            final float weight = weightOf(disease, factor);
+            if (Float.compare(weight, this.weights[factor.ordinal()]) != 0) {
+                this.weights[factor.ordinal()] = weight;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static float weightOf(final Disease disease, final InfectivityFactor factor) {
+        switch (factor) {
+            case URBAN:
+                return disease.getInfectivity();
+            case POOR:
+                return disease.getPovertyInfectivity();
+            case HOT:
+                return disease.getHeatInfectivity();
+            case COLD:
+                return disease.getColdInfectivity();
+            case HUMID:
+                return disease.getHumidityInfectivity();
+            case ARID:
+                return disease.getAridityInfectivity();
+            default:
+                throw new IllegalArgumentException("Unknown factor " + factor);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package globaloutbreak.model.disease;
 
-import java.beans.PropertyChangeListener;
 import java.util.List;
 
+import globaloutbreak.model.observer.SimulationEventBus;
 import globaloutbreak.model.region.Region;
 
 
@@ -191,12 +191,12 @@ public interface Disease {
     void killPeopleRegions(List<Region> regionList);
 
     /**
-     * Initialize Observers.
-     * 
-     * @param listener
+     * Sets the bus where the changes of the disease are published.
      * 
+     * @param bus
+     *            the event bus of the simulation
      */
-    void initializeCureObserver(PropertyChangeListener listener);
+    void setEventBus(SimulationEventBus bus);
 
     /**
      * 
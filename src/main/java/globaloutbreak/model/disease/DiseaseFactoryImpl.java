@@ -1,10 +1,12 @@
 package globaloutbreak.model.disease;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.util.List;
-import java.util.Random;
 import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import globaloutbreak.model.observer.SimulationEventBus;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Region;
 import org.slf4j.Logger;
 
@@ -14,7 +16,24 @@ import org.slf4j.Logger;
 public final class DiseaseFactoryImpl implements DiseaseFactory {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private final Random random = new Random();
+    private final RandomSource random;
+
+    /**
+     * Creates a factory whose diseases use a randomly seeded source.
+     */
+    public DiseaseFactoryImpl() {
+        this(new XoroshiroRandomSource());
+    }
+
+    /**
+     * Creates a factory whose diseases draw from the given source.
+     * 
+     * @param random
+     *               the random source
+     */
+    public DiseaseFactoryImpl(final RandomSource random) {
+        this.random = random;
+    }
 
     @Override
     public Disease createDisease(final String diseaseType, final float diseaseInfectivity,
@@ -41,7 +60,7 @@ public final class DiseaseFactoryImpl implements DiseaseFactory {
             private float humidityInfectivity = diseaseHumidityInfectivity;
             private float aridityInfectivity = diseaseAridityInfectivity;
             private float povertyInfectivity = diseasePovertyInfectivity;
-            private PropertyChangeSupport cureListener = new PropertyChangeSupport(this);
+            private SimulationEventBus bus = new SimulationEventBus();
 
             @Override
             public String getName() {
@@ -150,8 +169,9 @@ public final class DiseaseFactoryImpl implements DiseaseFactory {
 
             @Override
             public void updateCureResistance(final float cureResistance) {
-                this.cureListener.firePropertyChange("resist", this.cureResistance, this.cureResistance + cureResistance);
+                final float old = this.cureResistance;
                 this.cureResistance += cureResistance;
+                this.bus.fireCureResistance(old, this.cureResistance);
             }
 
             @Override
@@ -185,12 +205,15 @@ public final class DiseaseFactoryImpl implements DiseaseFactory {
                         + ", diseasePovertyInfectivity: " + this.getPovertyInfectivity() + "]";
             }
 
-            /**
-             * Add a new observer to class.
-             */
+            // @formatter:off
+            @SuppressFBWarnings(
+                value = "EI_EXPOSE_REP2",
+                justification = "The disease must publish on the bus of its simulation"
+            )
+            // @formatter:on
             @Override
-            public void initializeCureObserver(final PropertyChangeListener listener) {
-                cureListener.addPropertyChangeListener(listener);
+            public void setEventBus(final SimulationEventBus bus) {
+                this.bus = bus;
             }
 
             @Override
@@ -207,16 +230,14 @@ public final class DiseaseFactoryImpl implements DiseaseFactory {
                 regionList.stream()
                         .filter(region -> region.getNumInfected() > 0)
                         .filter(region -> region.getNumInfected() + region.getNumDeath() < region.getPopTot())
-                        .forEach(region -> region.incOrDecInfectedPeople(this.calculateNewInfected(region.getPopTot(),
-                                region.getNumInfected(), region.getUrban(), region.getPoor(),
-                                region.getClimate().getArid(), region.getClimate().getCold(),
-                                region.getClimate().getHot(), region.getClimate().getHumid()) > region.getPopTot()
-                                        - region.getNumInfected() - region.getNumDeath()
-                                                ? region.getPopTot() - region.getNumInfected() - region.getNumDeath()
-                                                : this.calculateNewInfected(region.getPopTot(),
-                                                        region.getNumInfected(), region.getUrban(), region.getPoor(),
-                                                        region.getClimate().getArid(), region.getClimate().getCold(),
-                                                        region.getClimate().getHot(), region.getClimate().getHumid())));
+                        .forEach(region -> {
+                            final long newInfected = this.calculateNewInfected(region.getPopTot(),
+                                    region.getNumInfected(), region.getUrban(), region.getPoor(),
+                                    region.getClimate().getArid(), region.getClimate().getCold(),
+                                    region.getClimate().getHot(), region.getClimate().getHumid());
+                            region.incOrDecInfectedPeople(Math.min(newInfected,
+                                    region.getPopTot() - region.getNumInfected() - region.getNumDeath()));
+                        });
                 logger.info("There have been new infected");
             }
 
@@ -240,7 +261,7 @@ public final class DiseaseFactoryImpl implements DiseaseFactory {
                         && this.checkIfPositive(currentInfected, "currentInfected")
                         && this.checkIfPositive(urban, "urban") && this.checkIfPositive(poor, "poor")) {
                     return  Math.round(population * ((float) currentInfected / population)
-                            * this.calculateInfectivity(urban, hot, cold, humid, arid, poor)
+                            * this.calculateInfectivity(urban, poor, hot, cold, humid, arid)
                             + random.nextInt(MIN_VALUE, MAX_VALUE));
                 }
                 logger.error("The number of population, currentInfected, urban, poor must be at least");
@@ -0,0 +1,106 @@
+package globaloutbreak.model.disease;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import globaloutbreak.model.grid.GridDiffusion;
+import globaloutbreak.model.grid.RegionRaster;
+import globaloutbreak.model.region.RegionStateStore;
+
+/**
+ * {@link InfectionKernel} spreading the infection over the cells of the map
+ * with a {@link GridDiffusion}, instead of over whole regions.
+ *
+ * The map is rasterized from "configView/checkRegion.png" every time the
+ * kernel meets a new store. If the image can't be read, regions spread as a whole,
+ * as with {@link ScalarInfectionKernel}.
+ */
+public final class GridInfectionKernel extends AbstractInfectionKernel {
+
+    /**
+     * Default side of a cell, in pixels of the map.
+     */
+    public static final int DEFAULT_CELL_SIZE = 4;
+
+    private static final String MAP = "configView/checkRegion.png";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final int cellSize;
+    private final Optional<RegionRaster> raster;
+    private Optional<GridDiffusion> grid = Optional.empty();
+    private RegionStateStore gridStore;
+    private long[] infected = new long[0];
+    private long[] alive = new long[0];
+
+    /**
+     * Creates a kernel that rasterizes the map of the game.
+     *
+     * @param cellSize
+     *                 the side of a cell, in pixels of the map
+     */
+    public GridInfectionKernel(final int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.raster = Optional.empty();
+    }
+
+    /**
+     * Creates a kernel over the given cells.
+     *
+     * @param raster
+     *               the cells, holding the ids of the regions of the store
+     */
+    public GridInfectionKernel(final RegionRaster raster) {
+        this.cellSize = 0;
+        this.raster = Optional.of(raster);
+    }
+
+    @Override
+    protected void computeInfectivity(final float[][] columns, final float[] weights, final float[] out,
+            final int size) {
+        ScalarInfectionKernel.sum(columns, weights, out, size);
+    }
+
+    @Override
+    protected void spread(final RegionStateStore store, final float[] infectivity, final RandomGenerator random,
+            final long[] newInfected) {
+        final int size = store.size();
+        if (store != this.gridStore || this.infected.length != size) {
+            this.grid = this.createGrid(store);
+            this.gridStore = store;
+            this.infected = new long[size];
+            this.alive = new long[size];
+        }
+        if (this.grid.isEmpty()) {
+            super.spread(store, infectivity, random, newInfected);
+            return;
+        }
+        for (int id = 0; id < size; id++) {
+            this.infected[id] = store.getInfected(id);
+            this.alive[id] = store.getPopulation(id) - store.getDeaths(id);
+        }
+        this.grid.get().step(this.infected, this.alive, infectivity, random, newInfected);
+    }
+
+    private Optional<GridDiffusion> createGrid(final RegionStateStore store) {
+        try {
+            final RegionRaster cells;
+            if (this.raster.isPresent()) {
+                cells = this.raster.get();
+            } else {
+                cells = RegionRaster.load(MAP, this.cellSize, store);
+                logger.info("Map rasterized in {}x{} cells", cells.getWidth(), cells.getHeight());
+            }
+            return Optional.of(new GridDiffusion(cells, store.size(), GridDiffusion.DEFAULT_DIFFUSION));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Unable to build the grid, regions spread as a whole", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package globaloutbreak.model.disease;
+
+import java.util.random.RandomGenerator;
+
+import globaloutbreak.model.region.RegionStateStore;
+
+/**
+ * Computes the spread of a {@link Disease} over every region of a
+ * {@link RegionStateStore} in one pass over its columns.
+ */
+public interface InfectionKernel {
+
+    /**
+     * Computes how many people get infected in every region.
+     * 
+     * @param store
+     *                    the regions
+     * @param disease
+     *                    the disease
+     * @param random
+     *                    the random generator
+     * @param newInfected
+     *                    output, indexed by region id, at least
+     *                    {@code store.size()} long
+     */
+    void computeNewInfected(RegionStateStore store, Disease disease, RandomGenerator random, long[] newInfected);
+
+    /**
+     * Computes how many people die in every region.
+     * 
+     * @param store
+     *                  the regions
+     * @param disease
+     *                  the disease
+     * @param newDeaths
+     *                  output, indexed by region id, at least
+     *                  {@code store.size()} long
+     */
+    void computeNewDeaths(RegionStateStore store, Disease disease, long[] newDeaths);
+}
@@ -0,0 +1,25 @@
+package globaloutbreak.model.disease;
+
+/**
+ * Ways the model can compute the spread of a disease.
+ */
+public enum InfectionKernelType {
+    /**
+     * Per-region methods of {@link Disease}.
+     */
+    LEGACY,
+    /**
+     * {@link InfectionKernel} with plain loops.
+     */
+    SCALAR,
+    /**
+     * {@link InfectionKernel} with the JDK Vector API, plain loops if the
+     * {@code jdk.incubator.vector} module is not available.
+     */
+    VECTOR,
+    /**
+     * {@link GridInfectionKernel}, spreading the infection over the cells of
+     * the map.
+     */
+    GRID
+}
@@ -0,0 +1,77 @@
+package globaloutbreak.model.disease;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the {@link InfectionKernel} of an {@link InfectionKernelType}.
+ */
+public final class InfectionKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final Logger LOGGER = LoggerFactory.getLogger(InfectionKernels.class);
+
+    private InfectionKernels() {
+    }
+
+    /**
+     * @param type
+     *             the type of kernel
+     * @return
+     *         the kernel, empty for {@link InfectionKernelType#LEGACY}
+     */
+    public static Optional<InfectionKernel> create(final InfectionKernelType type) {
+        return create(type, GridInfectionKernel.DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param type
+     *                 the type of kernel
+     * @param cellSize
+     *                 the side of a cell, in pixels of the map, for
+     *                 {@link InfectionKernelType#GRID}
+     * @return
+     *         the kernel, empty for {@link InfectionKernelType#LEGACY}
+     */
+    public static Optional<InfectionKernel> create(final InfectionKernelType type, final int cellSize) {
+        switch (type) {
+            case LEGACY:
+                return Optional.empty();
+            case SCALAR:
+                return Optional.of(new ScalarInfectionKernel());
+            case VECTOR:
+                return Optional.of(createVector());
+            case GRID:
+                return Optional.of(new GridInfectionKernel(cellSize));
+            default:
+                throw new IllegalArgumentException("Unknown kernel " + type);
+        }
+    }
+
+    /**
+     * @return
+     *         {@code true} if the Vector API can be used
+     */
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    private static InfectionKernel createVector() {
+        if (isVectorAvailable()) {
+            try {
+                // loaded by name so that the class never links without the module
+                return (InfectionKernel) Class.forName(InfectionKernels.class.getPackageName()
+                        + ".VectorInfectionKernel").getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                    | IllegalAccessException | InvocationTargetException | LinkageError e) {
+                LOGGER.warn("Unable to create the vector kernel, using the scalar one", e);
+            }
+        } else {
+            LOGGER.info("Module {} not available, using the scalar infection kernel", VECTOR_MODULE);
+        }
+        return new ScalarInfectionKernel();
+    }
+}
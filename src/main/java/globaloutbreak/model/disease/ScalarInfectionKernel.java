@@ -0,0 +1,23 @@
+package globaloutbreak.model.disease;
+
+/**
+ * {@link InfectionKernel} computing the infectivity with plain loops.
+ */
+public final class ScalarInfectionKernel extends AbstractInfectionKernel {
+
+    @Override
+    protected void computeInfectivity(final float[][] columns, final float[] weights, final float[] out,
+            final int size) {
+        sum(columns, weights, out, size);
+    }
+
+    static void sum(final float[][] columns, final float[] weights, final float[] out, final int size) {
+        for (int id = 0; id < size; id++) {
+            float sum = 0;
+            for (int factor = 0; factor < columns.length; factor++) {
+                sum += weights[factor] * columns[factor][id];
+            }
+            out[id] = sum;
+        }
+    }
+}
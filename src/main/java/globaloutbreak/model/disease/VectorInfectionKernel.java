@@ -0,0 +1,73 @@
+package globaloutbreak.model.disease;
+
+import globaloutbreak.model.region.RegionStateStore;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link InfectionKernel} computing the infectivity and, every tick, the new
+ * deaths with the JDK Vector API.
+ * 
+ * Only instantiate it through {@link InfectionKernels}, which checks that the
+ * {@code jdk.incubator.vector} module is available.
+ */
+public final class VectorInfectionKernel extends AbstractInfectionKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    /**
+     * As many lanes as {@link #LONGS}, to convert the infected to float.
+     */
+    private static final VectorSpecies<Float> FLOATS = VectorSpecies.of(float.class,
+            VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    @Override
+    protected void computeInfectivity(final float[][] columns, final float[] weights, final float[] out,
+            final int size) {
+        final int bound = SPECIES.loopBound(size);
+        int id = 0;
+        for (; id < bound; id += SPECIES.length()) {
+            FloatVector sum = FloatVector.zero(SPECIES);
+            for (int factor = 0; factor < columns.length; factor++) {
+                sum = sum.add(FloatVector.fromArray(SPECIES, columns[factor], id).mul(weights[factor]));
+            }
+            sum.intoArray(out, id);
+        }
+        for (; id < size; id++) {
+            float sum = 0;
+            for (int factor = 0; factor < columns.length; factor++) {
+                sum += weights[factor] * columns[factor][id];
+            }
+            out[id] = sum;
+        }
+    }
+
+    /**
+     * Visits every region, infected or not, in a single pass over the dense
+     * column. The product is a float, as in the scalar kernel, and rounding it
+     * up is done by truncating it and adding one where something was cut off,
+     * so the results are the same.
+     */
+    @Override
+    protected void computeDeaths(final RegionStateStore store, final float lethality, final long[] newDeaths) {
+        final long[] infected = store.infectedColumn();
+        final int size = store.size();
+        final int bound = LONGS.loopBound(size);
+        int id = 0;
+        for (; id < bound; id += LONGS.length()) {
+            final FloatVector product = ((FloatVector) LongVector.fromArray(LONGS, infected, id)
+                    .convertShape(VectorOperators.L2F, FLOATS, 0)).mul(lethality);
+            final LongVector truncated = (LongVector) product.convertShape(VectorOperators.F2L, LONGS, 0);
+            final VectorMask<Long> cut = truncated.convertShape(VectorOperators.L2F, FLOATS, 0)
+                    .compare(VectorOperators.LT, product).cast(LONGS);
+            truncated.add(1, cut).intoArray(newDeaths, id);
+        }
+        for (; id < size; id++) {
+            newDeaths[id] = (long) Math.ceil(infected[id] * lethality);
+        }
+    }
+}
@@ -18,4 +18,15 @@ public interface CauseEvent {
      *         the event's name, the number of deaths it caused and the Region
      */
     Optional<ExtractedEvent> causeEvent(List<Region> regions);
+
+    /**
+     * This method causes every event of a tick: more than one can happen, each
+     * one with its own probability.
+     * 
+     * @param regions
+     *                list of region
+     * @return
+     *         the events that happened, possibly none
+     */
+    List<ExtractedEvent> causeEvents(List<Region> regions);
 }
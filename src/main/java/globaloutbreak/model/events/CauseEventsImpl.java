@@ -1,41 +1,112 @@
 package globaloutbreak.model.events;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import globaloutbreak.model.random.AliasTable;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Region;
 
 /**
  * Implement. of CauseEventInt.
+ *
+ * Every event happens in a tick with its own probability, so the events of a
+ * tick are as many as a Poisson variable whose mean is the sum of the
+ * probabilities. Each one is drawn from an alias table over the probabilities
+ * and hits a region drawn from an alias table over the populations: the cost
+ * of an event does not depend on the number of events and regions.
  */
 public final class CauseEventsImpl implements CauseEvent {
+    /**
+     * Above this mean exp(-mean) is too small, so the count is drawn in chunks.
+     */
+    private static final double MAX_POISSON_CHUNK = 500;
+
     private final List<Event> events;
-    private static final Random RANDOM = new Random();
+    private final AliasTable eventTable;
+    private final RandomSource random;
+    private List<Region> weightedRegions;
+    private AliasTable regionTable;
 
     /**
-     * 
+     *
      * @param events
      */
     public CauseEventsImpl(final List<Event> events) {
-        this.events = new LinkedList<>(events);
+        this(events, new XoroshiroRandomSource());
+    }
+
+    /**
+     *
+     * @param events
+     * @param random
+     *               the random source
+     */
+    public CauseEventsImpl(final List<Event> events, final RandomSource random) {
+        this.events = List.copyOf(events);
+        this.eventTable = new AliasTable(this.events.stream().mapToDouble(Event::getProbOfHapp).toArray());
+        this.random = random;
     }
 
     @Override
     public Optional<ExtractedEvent> causeEvent(final List<Region> regions) {
-        if (!regions.isEmpty()) {
-            final Event event = events.get(RANDOM.nextInt(0, events.size()));
-            final float prob = event.getProbOfHapp();
-            final float num = RANDOM.nextFloat(0, 1);
-            if (num <= prob) {
-                final Region r = regions.get(RANDOM.nextInt(0, regions.size()));
-                return Optional.of(
-                        new ExtractedEventImpl(r.getColor(), event.getName(), calcDeath(r, event.getPercOfDeath())));
-            }
+        if (!regions.isEmpty() && this.poisson(this.eventTable.getTotal()) > 0) {
+            return Optional.of(this.extract(regions));
         }
         return Optional.empty();
     }
 
+    @Override
+    public List<ExtractedEvent> causeEvents(final List<Region> regions) {
+        if (regions.isEmpty()) {
+            return List.of();
+        }
+        final int count = this.poisson(this.eventTable.getTotal());
+        final List<ExtractedEvent> happened = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            happened.add(this.extract(regions));
+        }
+        return happened;
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private ExtractedEvent extract(final List<Region> regions) {
+        // the list of regions changes rarely, the table is built again only then
+        if (regions != this.weightedRegions) {
+            this.regionTable = new AliasTable(regions.stream().mapToDouble(Region::getPopTot).toArray());
+            this.weightedRegions = regions;
+        }
+        final Event event = this.events.get(this.eventTable.sample(this.random));
+        final int sampled = this.regionTable.sample(this.random);
+        final Region r = regions.get(sampled == AliasTable.NONE ? this.random.nextInt(regions.size()) : sampled);
+        return new ExtractedEventImpl(r.getColor(), event.getName(), calcDeath(r, event.getPercOfDeath()));
+    }
+
+    /**
+     * Draws a Poisson variable by inversion, in chunks so that exp(-mean)
+     * never underflows.
+     */
+    private int poisson(final double mean) {
+        int count = 0;
+        double left = mean;
+        while (left > 0) {
+            final double chunk = Math.min(left, MAX_POISSON_CHUNK);
+            left -= chunk;
+            double p = Math.exp(-chunk);
+            double cumulative = p;
+            final double u = this.random.nextDouble();
+            int k = 0;
+            while (u > cumulative && p > 0) {
+                k++;
+                p *= chunk / k;
+                cumulative += p;
+            }
+            count += k;
+        }
+        return count;
+    }
+
     private long calcDeath(final Region region, final float percOfDeath) {
         long death = (long) Math.floor(region.getPopTot() * percOfDeath);
         if ((region.getNumDeath() + death) > region.getPopTot()) {
@@ -0,0 +1,214 @@
+package globaloutbreak.model.grid;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Spread of the infection over the cells of a {@link RegionRaster}.
+ *
+ * The people alive in a region are split evenly among its cells. At every
+ * step the infection pressure of a cell is its infected fraction plus the
+ * diffusion from the four neighbor cells, even across borders, so the
+ * infection moves from cell to cell instead of filling the whole region at
+ * once. The new infected of every cell are then rolled up to its region.
+ *
+ * The cells are processed in bands of rows, in parallel. The size of a band
+ * does not depend on the number of cores, so the sums, and the result, are
+ * the same on every machine.
+ */
+public final class GridDiffusion {
+
+    /**
+     * Default share of the pressure difference that moves between two
+     * neighbor cells at every step.
+     */
+    public static final double DEFAULT_DIFFUSION = 0.2;
+
+    private static final double MAX_DIFFUSION = 0.25;
+    private static final int BAND_ROWS = 16;
+
+    private final int width;
+    private final int height;
+    private final int[] region;
+    private final double diffusion;
+    private final int regions;
+    private final int[] regionCells;
+    private final int[] regionStart;
+    private final double[] infected;
+    private final double[] pressure;
+    private final double[] cellCapacity;
+    private final double[] rates;
+    private final double[] scale;
+    private final double[] totals;
+    private final double[][] bandNew;
+    private final double[][] bandTotals;
+    private final int bands;
+
+    /**
+     * @param raster
+     *                  the cells
+     * @param regions
+     *                  the number of regions, greater than every region id of
+     *                  the raster
+     * @param diffusion
+     *                  share of the pressure difference that moves between two
+     *                  neighbor cells at every step, at most 0.25 to keep the
+     *                  diffusion stable
+     */
+    public GridDiffusion(final RegionRaster raster, final int regions, final double diffusion) {
+        if (diffusion < 0 || diffusion > MAX_DIFFUSION) {
+            throw new IllegalArgumentException("Diffusion " + diffusion + " not in [0, " + MAX_DIFFUSION + "]");
+        }
+        this.width = raster.getWidth();
+        this.height = raster.getHeight();
+        this.region = raster.cells();
+        this.diffusion = diffusion;
+        this.regions = regions;
+        this.regionStart = new int[regions + 1];
+        for (final int id : this.region) {
+            if (id >= regions) {
+                throw new IllegalArgumentException("Region " + id + " out of " + regions);
+            }
+            if (id != RegionRaster.NONE) {
+                this.regionStart[id + 1]++;
+            }
+        }
+        for (int id = 0; id < regions; id++) {
+            this.regionStart[id + 1] += this.regionStart[id];
+        }
+        this.regionCells = new int[this.regionStart[regions]];
+        final int[] next = this.regionStart.clone();
+        for (int cell = 0; cell < this.region.length; cell++) {
+            if (this.region[cell] != RegionRaster.NONE) {
+                this.regionCells[next[this.region[cell]]++] = cell;
+            }
+        }
+        this.infected = new double[this.region.length];
+        this.pressure = new double[this.region.length];
+        this.cellCapacity = new double[regions];
+        this.rates = new double[regions];
+        this.scale = new double[regions];
+        this.totals = new double[regions];
+        this.bands = (this.height + BAND_ROWS - 1) / BAND_ROWS;
+        this.bandNew = new double[this.bands][regions];
+        this.bandTotals = new double[this.bands][regions];
+    }
+
+    /**
+     * Runs one step.
+     *
+     * The cells are first brought in line with the infected of each region,
+     * which also change outside of the grid: a region that gets its first
+     * infected is seeded in one of its cells, chosen at random, the others
+     * are scaled.
+     *
+     * @param infected
+     *                    the infected of every region
+     * @param alive
+     *                    the people alive in every region
+     * @param rate
+     *                    the people infected by each infected person at every
+     *                    step, in every region
+     * @param random
+     *                    chooses the cell of the first infected of a region
+     * @param newInfected
+     *                    output, the new infected of every region
+     */
+    public void step(final long[] infected, final long[] alive, final float[] rate, final RandomGenerator random,
+            final long[] newInfected) {
+        for (int id = 0; id < this.regions; id++) {
+            final int cells = this.regionStart[id + 1] - this.regionStart[id];
+            this.cellCapacity[id] = cells > 0 ? (double) alive[id] / cells : 0;
+            this.rates[id] = rate[id];
+            if (this.totals[id] > 0) {
+                this.scale[id] = infected[id] / this.totals[id];
+            } else {
+                this.scale[id] = 1;
+                if (infected[id] > 0 && cells > 0) {
+                    this.infected[this.regionCells[this.regionStart[id] + random.nextInt(cells)]] = infected[id];
+                }
+            }
+        }
+        IntStream.range(0, this.bands).parallel().forEach(this::updatePressure);
+        IntStream.range(0, this.bands).parallel().forEach(this::infect);
+        for (int id = 0; id < this.regions; id++) {
+            double created = 0;
+            double total = 0;
+            for (int band = 0; band < this.bands; band++) {
+                created += this.bandNew[band][id];
+                total += this.bandTotals[band][id];
+            }
+            this.totals[id] = total;
+            final long remaining = alive[id] - infected[id];
+            if (this.regionStart[id + 1] == this.regionStart[id]) {
+                // not on the map, it spreads as a whole
+                created = infected[id] * (double) rate[id];
+            }
+            newInfected[id] = remaining > 0 ? Math.max(0, Math.min(Math.round(created), remaining)) : 0;
+        }
+    }
+
+    private void updatePressure(final int band) {
+        final int end = Math.min((band + 1) * BAND_ROWS, this.height) * this.width;
+        for (int cell = band * BAND_ROWS * this.width; cell < end; cell++) {
+            final int id = this.region[cell];
+            if (id == RegionRaster.NONE) {
+                continue;
+            }
+            final double value = this.infected[cell] * this.scale[id];
+            this.infected[cell] = value;
+            this.pressure[cell] = this.cellCapacity[id] > 0 ? Math.min(1, value / this.cellCapacity[id]) : 0;
+        }
+    }
+
+    private void infect(final int band) {
+        final double[] created = this.bandNew[band];
+        final double[] total = this.bandTotals[band];
+        Arrays.fill(created, 0);
+        Arrays.fill(total, 0);
+        final int last = Math.min((band + 1) * BAND_ROWS, this.height);
+        for (int y = band * BAND_ROWS; y < last; y++) {
+            final int row = y * this.width;
+            for (int x = 0; x < this.width; x++) {
+                final int cell = row + x;
+                final int id = this.region[cell];
+                if (id == RegionRaster.NONE) {
+                    continue;
+                }
+                final double own = this.pressure[cell];
+                double laplacian = 0;
+                if (x > 0 && this.region[cell - 1] != RegionRaster.NONE) {
+                    laplacian += this.pressure[cell - 1] - own;
+                }
+                if (x < this.width - 1 && this.region[cell + 1] != RegionRaster.NONE) {
+                    laplacian += this.pressure[cell + 1] - own;
+                }
+                if (y > 0 && this.region[cell - this.width] != RegionRaster.NONE) {
+                    laplacian += this.pressure[cell - this.width] - own;
+                }
+                if (y < this.height - 1 && this.region[cell + this.width] != RegionRaster.NONE) {
+                    laplacian += this.pressure[cell + this.width] - own;
+                }
+                final double susceptible = Math.max(0, this.cellCapacity[id] - this.infected[cell]);
+                final double infections = Math.max(0, Math.min(susceptible,
+                        this.rates[id] * susceptible * (own + this.diffusion * laplacian)));
+                this.infected[cell] += infections;
+                created[id] += infections;
+                total[id] += this.infected[cell];
+            }
+        }
+    }
+
+    /**
+     * @param x
+     *          column
+     * @param y
+     *          row
+     * @return
+     *         the infected of the cell after the last step
+     */
+    public double getInfected(final int x, final int y) {
+        return this.infected[y * this.width + x];
+    }
+}
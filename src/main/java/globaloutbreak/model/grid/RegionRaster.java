@@ -0,0 +1,160 @@
+package globaloutbreak.model.grid;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+import javax.imageio.ImageIO;
+
+import globaloutbreak.model.region.RegionIndex;
+import globaloutbreak.model.region.RegionStateStore;
+
+/**
+ * The world split in square cells, each one belonging to a region or to
+ * the sea.
+ *
+ * Cells are stored row by row in a single array, holding the id of the region
+ * of each cell or {@link #NONE}.
+ */
+public final class RegionRaster {
+
+    /**
+     * Region of the cells that belong to no region.
+     */
+    public static final int NONE = -1;
+
+    private final int width;
+    private final int height;
+    private final int[] cells;
+
+    /**
+     * @param width
+     *               number of columns
+     * @param height
+     *               number of rows
+     * @param cells
+     *               the region of every cell, row by row
+     */
+    public RegionRaster(final int width, final int height, final int[] cells) {
+        if (width <= 0 || height <= 0 || cells.length != width * height) {
+            throw new IllegalArgumentException("A " + width + "x" + height + " raster can't have "
+                    + cells.length + " cells");
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = Arrays.copyOf(cells, cells.length);
+    }
+
+    /**
+     * Rasterizes an image where every region is painted with its own color:
+     * each cell takes the region of the pixel at its center.
+     *
+     * @param image
+     *                 the image
+     * @param cellSize
+     *                 the side of a cell, in pixels
+     * @param regionOf
+     *                 the region id of a color, {@link #NONE} if no region
+     *                 has that color
+     * @return
+     *         the raster
+     */
+    public static RegionRaster of(final BufferedImage image, final int cellSize, final IntUnaryOperator regionOf) {
+        if (cellSize <= 0 || cellSize > image.getWidth() || cellSize > image.getHeight()) {
+            throw new IllegalArgumentException("Cell size " + cellSize + " not valid");
+        }
+        final int width = image.getWidth() / cellSize;
+        final int height = image.getHeight() / cellSize;
+        final int[] cells = new int[width * height];
+        final int[] line = new int[image.getWidth()];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y * cellSize + cellSize / 2, line.length, 1, line, 0, line.length);
+            for (int x = 0; x < width; x++) {
+                cells[y * width + x] = regionOf.applyAsInt(line[x * cellSize + cellSize / 2]);
+            }
+        }
+        return new RegionRaster(width, height, cells);
+    }
+
+    /**
+     * Rasterizes an image of the class path, matching its colors with the
+     * colors of the regions.
+     *
+     * @param resource
+     *                 the name of the image
+     * @param cellSize
+     *                 the side of a cell, in pixels
+     * @param store
+     *                 the regions
+     * @return
+     *         the raster
+     * @throws IOException
+     *                     if the image can't be read
+     */
+    public static RegionRaster load(final String resource, final int cellSize, final RegionStateStore store)
+            throws IOException {
+        final BufferedImage image;
+        try (InputStream in = ClassLoader.getSystemResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Image " + resource + " not found");
+            }
+            image = ImageIO.read(in);
+        }
+        if (image == null) {
+            throw new IOException("Image " + resource + " not readable");
+        }
+        final RegionIndex index = RegionIndex.of(store);
+        return of(image, cellSize, index::get);
+    }
+
+    /**
+     * @return
+     *         number of columns
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * @return
+     *         number of rows
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * @param x
+     *          column
+     * @param y
+     *          row
+     * @return
+     *         the region of the cell, {@link #NONE} if it belongs to no region
+     */
+    public int getRegion(final int x, final int y) {
+        return this.cells[y * this.width + x];
+    }
+
+    /**
+     * @param region
+     *               region id
+     * @return
+     *         the number of cells of the region
+     */
+    public int countCells(final int region) {
+        int count = 0;
+        for (final int cell : this.cells) {
+            if (cell == region) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // package-private so that the engine scans the cells without copying them
+    int[] cells() {
+        return this.cells;
+    }
+}
@@ -58,12 +58,39 @@ public interface InfoData {
     CureData getCureData();
 
     /**
-     * Update total deaths and infected.
+     * Update total deaths and infected, then the points.
      * 
      * @param regions
      */
     void updateTotalDeathsAndInfected(List<Region> regions);
 
+    /**
+     * Update total deaths and infected with already aggregated values, then
+     * the points.
+     * 
+     * @param totalDeaths
+     *                      sum of the deaths of every region
+     * @param totalInfected
+     *                      sum of the infected of every region
+     */
+    void updateTotalDeathsAndInfected(long totalDeaths, long totalInfected);
+
+    /**
+     * Adds the changes of a region to the running totals, the points are
+     * only updated by {@link #updatePoints()}.
+     * 
+     * @param deathsDelta
+     *                      difference of the deaths
+     * @param infectedDelta
+     *                      difference of the infected
+     */
+    void addDeltas(long deathsDelta, long infectedDelta);
+
+    /**
+     * Gives the points earned since the totals crossed a limit.
+     */
+    void updatePoints();
+
     /**
      * update cure data.
      * 
@@ -1,18 +1,24 @@
 package globaloutbreak.model.infodata;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.Random;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import globaloutbreak.model.cure.CureData;
+import globaloutbreak.model.dataanalyzer.ThresholdTrigger;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
 
 /**
  * Class to manage Dna Points.
  */
-public final class InfoDataImpl implements InfoData {
+public final class InfoDataImpl implements InfoData, Snapshottable {
 
     private static final int BASE_DEATHS_RANGE = 10_500_000;
     private static final int BASE_INFECTED_RANGE = 10_500_000;
@@ -20,14 +26,14 @@ public final class InfoDataImpl implements InfoData {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private long deathsLimit;
-    private long infectedLimit;
+    private final ThresholdTrigger<Integer> deathsMilestones;
+    private final ThresholdTrigger<Integer> infectedMilestones;
     private int dnaPoints;
     private long totalDeaths;
     private long totalInfected;
     private final long totalPopulation;
-    private CureData cureData;
-    private final Random random = new Random();
+    private volatile CureData cureData;
+    private final RandomSource random;
 
     /**
      * Constructor.
@@ -36,10 +42,28 @@ public final class InfoDataImpl implements InfoData {
      *                        population
      */
     public InfoDataImpl(final long totalPopulation) {
+        this(totalPopulation, new XoroshiroRandomSource());
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param totalPopulation
+     *                        population
+     * @param random
+     *                        the random source
+     */
+    public InfoDataImpl(final long totalPopulation, final RandomSource random) {
+        this.random = random;
         this.dnaPoints = INITIAL_POINTS;
-        this.infectedLimit = BASE_INFECTED_RANGE;
-        this.deathsLimit = BASE_DEATHS_RANGE;
         this.totalPopulation = totalPopulation;
+        // a milestone is passed when the total goes over a multiple of the range
+        this.deathsMilestones = new ThresholdTrigger.Builder<Integer>()
+                .addEvery(BASE_DEATHS_RANGE, 1, totalPopulation, 0)
+                .build((points, threshold) -> this.increasePoints(random.nextInt(3) + 1));
+        this.infectedMilestones = new ThresholdTrigger.Builder<Integer>()
+                .addEvery(BASE_INFECTED_RANGE, 1, totalPopulation, INITIAL_POINTS)
+                .build((points, threshold) -> this.increasePoints(points));
     }
 
     /**
@@ -119,20 +143,32 @@ public final class InfoDataImpl implements InfoData {
 
     @Override
     public void updateTotalDeathsAndInfected(final List<Region> regions) {
-        this.totalDeaths = regions.stream()
-                .map(Region::getNumDeath)
-                .reduce(0L, (e0, e1) -> e0 + e1);
-        if (this.totalDeaths > this.deathsLimit) {
-            this.increasePoints(random.nextInt(3) + 1);
-            this.deathsLimit += BASE_DEATHS_RANGE;
-        }
-        this.totalInfected = regions.stream()
-                .map(Region::getNumInfected)
-                .reduce(0L, (e0, e1) -> e0 + e1);
-        if (this.totalInfected > this.infectedLimit) {
-            this.increasePoints(INITIAL_POINTS);
-            this.infectedLimit += BASE_INFECTED_RANGE;
+        long deaths = 0;
+        long infected = 0;
+        for (final Region region : regions) {
+            deaths += region.getNumDeath();
+            infected += region.getNumInfected();
         }
+        this.updateTotalDeathsAndInfected(deaths, infected);
+    }
+
+    @Override
+    public void updateTotalDeathsAndInfected(final long totalDeaths, final long totalInfected) {
+        this.totalDeaths = totalDeaths;
+        this.totalInfected = totalInfected;
+        this.updatePoints();
+    }
+
+    @Override
+    public void addDeltas(final long deathsDelta, final long infectedDelta) {
+        this.totalDeaths += deathsDelta;
+        this.totalInfected += infectedDelta;
+    }
+
+    @Override
+    public void updatePoints() {
+        this.deathsMilestones.fireNext(this.totalDeaths);
+        this.infectedMilestones.fireNext(this.totalInfected);
     }
 
     @Override
@@ -140,6 +176,29 @@ public final class InfoDataImpl implements InfoData {
         this.cureData = cureData;
     }
 
+    /**
+     * Writes the points and the milestones already reached, the totals are
+     * rebuilt from the regions.
+     */
+    @Override
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putInt(this.dnaPoints);
+        out.putInt(this.deathsMilestones.getReachedCount());
+        out.putInt(this.infectedMilestones.getReachedCount());
+    }
+
+    /**
+     * Restores the values written by {@link #writeSnapshot}.
+     * 
+     * @param in
+     *           the snapshot being read
+     */
+    public void readSnapshot(final SnapshotReader in) {
+        this.dnaPoints = in.getInt();
+        this.deathsMilestones.setReachedCount(in.getInt());
+        this.infectedMilestones.setReachedCount(in.getInt());
+    }
+
     @Override
     public void updateDeaths(final long deaths) {
         this.totalDeaths += deaths;
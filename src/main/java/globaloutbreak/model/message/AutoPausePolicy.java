@@ -0,0 +1,31 @@
+package globaloutbreak.model.message;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decides which messages pause the game until they are closed.
+ */
+@FunctionalInterface
+public interface AutoPausePolicy {
+
+    /**
+     * @param message
+     *                the message about to be displayed
+     * @return
+     *         {@code true} if the game must pause while it is displayed
+     */
+    boolean shouldPause(Message message);
+
+    /**
+     * @param types
+     *              the types of the messages that pause the game
+     * @return
+     *         a policy that pauses on the messages of the given types
+     */
+    static AutoPausePolicy of(final Set<MessageType> types) {
+        final Set<MessageType> pausing = EnumSet.noneOf(MessageType.class);
+        pausing.addAll(types);
+        return message -> pausing.contains(message.getType());
+    }
+}
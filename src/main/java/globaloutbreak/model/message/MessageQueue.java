@@ -0,0 +1,35 @@
+package globaloutbreak.model.message;
+
+import java.util.List;
+
+/**
+ * Queue of the messages waiting to be displayed.
+ *
+ * Producers never block: the simulation offers messages while ticking and the
+ * view drains them on its own thread.
+ */
+public interface MessageQueue {
+
+    /**
+     * Adds a message, without blocking.
+     * 
+     * @param message
+     *                the message
+     */
+    void offer(Message message);
+
+    /**
+     * Removes every queued message, merging the ones of the same type into a
+     * single summary so a burst is displayed once.
+     * 
+     * @return
+     *         the queued messages, in order of the first message of each type
+     */
+    List<Message> drain();
+
+    /**
+     * @return
+     *         {@code true} if no message is waiting
+     */
+    boolean isEmpty();
+}
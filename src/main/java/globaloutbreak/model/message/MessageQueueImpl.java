@@ -0,0 +1,40 @@
+package globaloutbreak.model.message;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Lock-free {@link MessageQueue} that coalesces the messages of the same
+ * type.
+ */
+public final class MessageQueueImpl implements MessageQueue {
+
+    private final Queue<Message> messages = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void offer(final Message message) {
+        this.messages.add(message);
+    }
+
+    @Override
+    public List<Message> drain() {
+        final Map<MessageType, List<Message>> byType = new LinkedHashMap<>();
+        Message message = this.messages.poll();
+        while (message != null) {
+            byType.computeIfAbsent(message.getType(), k -> new ArrayList<>()).add(message);
+            message = this.messages.poll();
+        }
+        final List<Message> drained = new ArrayList<>(byType.size());
+        byType.forEach((type, burst) -> drained.add(burst.size() == 1 ? burst.get(0) : new SummaryMessage(type, burst)));
+        return drained;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.messages.isEmpty();
+    }
+}
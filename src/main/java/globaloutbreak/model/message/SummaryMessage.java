@@ -0,0 +1,36 @@
+package globaloutbreak.model.message;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A message that merges several messages of the same type.
+ */
+final class SummaryMessage implements Message {
+
+    private final MessageType type;
+    private final List<Message> messages;
+
+    /**
+     * @param type
+     *                 the type of every message
+     * @param messages
+     *                 the merged messages
+     */
+    SummaryMessage(final MessageType type, final List<Message> messages) {
+        this.type = type;
+        this.messages = List.copyOf(messages);
+    }
+
+    @Override
+    public MessageType getType() {
+        return this.type;
+    }
+
+    @Override
+    public String toString() {
+        return this.messages.stream()
+                .map(Message::toString)
+                .collect(Collectors.joining("\n", this.messages.size() + " " + this.type.getTitle() + ":\n", ""));
+    }
+}
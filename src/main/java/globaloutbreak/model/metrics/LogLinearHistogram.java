@@ -0,0 +1,108 @@
+package globaloutbreak.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative values with log-linear buckets, in the style of
+ * HdrHistogram: every power of two is split in {@value #SUB_BUCKETS} linear
+ * buckets, so the relative error of every percentile is about 3%, whatever
+ * the magnitude of the value.
+ *
+ * Values must be recorded by a single thread; any thread can read them.
+ */
+public final class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value, negative values are recorded as 0.
+     *
+     * @param value
+     *              the value
+     */
+    public void record(final long value) {
+        final long v = Math.max(value, 0);
+        final int index = index(v);
+        this.counts.lazySet(index, this.counts.get(index) + 1);
+        this.sum.lazySet(this.sum.get() + v);
+        if (v > this.max.get()) {
+            this.max.lazySet(v);
+        }
+        this.count.lazySet(this.count.get() + 1);
+    }
+
+    /**
+     * @return
+     *         the number of recorded values
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * @return
+     *         the highest recorded value
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * @return
+     *         the mean of the recorded values, 0 if there are none
+     */
+    public double getMean() {
+        final long n = this.count.get();
+        return n == 0 ? 0 : (double) this.sum.get() / n;
+    }
+
+    /**
+     * @param percentile
+     *                   the percentile, between 0 and 100
+     * @return
+     *         an approximation of the value at the given percentile, 0 if
+     *         there are no values
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long n = this.count.get();
+        if (n == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, PERCENT) / PERCENT * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return Math.min(middle(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    private static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long middle(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lower = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lower + (1L << shift) / 2;
+    }
+}
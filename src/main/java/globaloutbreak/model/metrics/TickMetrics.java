@@ -0,0 +1,48 @@
+package globaloutbreak.model.metrics;
+
+/**
+ * Timings and counters of the ticks of a model.
+ */
+public interface TickMetrics extends TickMetricsMXBean {
+
+    /**
+     * Marks the start of a tick.
+     */
+    void tickStarted();
+
+    /**
+     * Records the time elapsed since the end of the previous phase, or the
+     * start of the tick.
+     * 
+     * @param phase
+     *              the phase just completed
+     */
+    void phaseCompleted(TickPhase phase);
+
+    /**
+     * Marks the end of a tick.
+     * 
+     * @param voyages
+     *                number of voyages extracted during the tick
+     */
+    void tickCompleted(int voyages);
+
+    /**
+     * Returns the nanoseconds spent in a phase.
+     * 
+     * @param phase
+     *              the phase
+     * @return
+     *         the histogram of the phase
+     */
+    LogLinearHistogram getPhaseNanos(TickPhase phase);
+
+    /**
+     * Returns the bytes allocated by the thread running the ticks, empty
+     * histogram if the JVM can't measure them.
+     * 
+     * @return
+     *         the histogram of the bytes allocated by a tick
+     */
+    LogLinearHistogram getAllocatedBytes();
+}
@@ -0,0 +1,145 @@
+package globaloutbreak.model.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TickMetrics} backed by {@link LogLinearHistogram}s, which also logs
+ * a summary every given number of ticks.
+ */
+public final class TickMetricsImpl implements TickMetrics {
+
+    private static final double NANOS_PER_MICRO = 1_000;
+    private static final double P99 = 99;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<TickPhase, LogLinearHistogram> phases = new EnumMap<>(TickPhase.class);
+    private final LogLinearHistogram allocatedBytes = new LogLinearHistogram();
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong voyages = new AtomicLong();
+    private final int logInterval;
+    private final com.sun.management.ThreadMXBean allocations;
+    private long tickStart;
+    private long phaseStart;
+    private long allocatedAtStart;
+
+    /**
+     * @param logInterval
+     *                    number of ticks between two log lines, 0 to never
+     *                    log
+     */
+    public TickMetricsImpl(final int logInterval) {
+        this.logInterval = logInterval;
+        for (final TickPhase phase : TickPhase.values()) {
+            this.phases.put(phase, new LogLinearHistogram());
+        }
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            this.allocations = (com.sun.management.ThreadMXBean) threads;
+        } else {
+            this.allocations = null;
+        }
+    }
+
+    @Override
+    public void tickStarted() {
+        this.tickStart = System.nanoTime();
+        this.phaseStart = this.tickStart;
+        if (this.allocations != null) {
+            this.allocatedAtStart = this.allocations.getCurrentThreadAllocatedBytes();
+        }
+    }
+
+    @Override
+    public void phaseCompleted(final TickPhase phase) {
+        final long now = System.nanoTime();
+        this.phases.get(phase).record(now - this.phaseStart);
+        this.phaseStart = now;
+    }
+
+    @Override
+    public void tickCompleted(final int voyages) {
+        this.phases.get(TickPhase.TOTAL).record(System.nanoTime() - this.tickStart);
+        if (this.allocations != null) {
+            this.allocatedBytes.record(this.allocations.getCurrentThreadAllocatedBytes() - this.allocatedAtStart);
+        }
+        this.voyages.lazySet(this.voyages.get() + voyages);
+        final long completed = this.ticks.incrementAndGet();
+        if (this.logInterval > 0 && completed % this.logInterval == 0) {
+            this.logger.info(this.summary());
+        }
+    }
+
+    @Override
+    public LogLinearHistogram getPhaseNanos(final TickPhase phase) {
+        return this.phases.get(phase);
+    }
+
+    @Override
+    public LogLinearHistogram getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    @Override
+    public long getTicks() {
+        return this.ticks.get();
+    }
+
+    @Override
+    public long getVoyages() {
+        return this.voyages.get();
+    }
+
+    @Override
+    public double getMeanAllocatedBytes() {
+        return this.allocatedBytes.getMean();
+    }
+
+    @Override
+    public Map<String, Double> getMeanNanos() {
+        final Map<String, Double> means = new LinkedHashMap<>();
+        this.phases.forEach((phase, histogram) -> means.put(phase.name(), histogram.getMean()));
+        return means;
+    }
+
+    @Override
+    public Map<String, Long> getP99Nanos() {
+        return this.collect(histogram -> histogram.getValueAtPercentile(P99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxNanos() {
+        return this.collect(LogLinearHistogram::getMax);
+    }
+
+    private Map<String, Long> collect(final ToLongFunction<LogLinearHistogram> statistic) {
+        final Map<String, Long> values = new LinkedHashMap<>();
+        this.phases.forEach((phase, histogram) -> values.put(phase.name(), statistic.applyAsLong(histogram)));
+        return values;
+    }
+
+    private String summary() {
+        final StringBuilder line = new StringBuilder(256)
+                .append("ticks=").append(this.getTicks())
+                .append(" voyages=").append(this.getVoyages())
+                .append(" allocBytes/tick=").append(Math.round(this.allocatedBytes.getMean()));
+        this.phases.forEach((phase, histogram) -> line.append(' ').append(phase.name())
+                .append(String.format(" mean=%.1fus p99=%.1fus", histogram.getMean() / NANOS_PER_MICRO,
+                        histogram.getValueAtPercentile(P99) / NANOS_PER_MICRO)));
+        return line.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "TickMetrics [" + this.summary() + "]";
+    }
+}
@@ -0,0 +1,61 @@
+package globaloutbreak.model.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes {@link TickMetricsMXBean}s, and the other MXBeans of the game, on
+ * the platform MBean server.
+ */
+public final class TickMetricsJmx {
+
+    private static final String DOMAIN = "globaloutbreak";
+    private static final String TYPE = "TickMetrics";
+    private static final Logger LOGGER = LoggerFactory.getLogger(TickMetricsJmx.class);
+
+    private TickMetricsJmx() {
+    }
+
+    /**
+     * Registers the metrics, replacing the ones registered with the same name.
+     * 
+     * @param name
+     *                the name of the metrics
+     * @param metrics
+     *                the metrics
+     */
+    public static void register(final String name, final TickMetricsMXBean metrics) {
+        register(TYPE, name, metrics);
+    }
+
+    /**
+     * Registers an MXBean, replacing the one registered with the same type and
+     * name.
+     * 
+     * @param type
+     *             the type of the bean
+     * @param name
+     *             the name of the bean
+     * @param bean
+     *             an instance of an MXBean interface
+     */
+    public static void register(final String type, final String name, final Object bean) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name="
+                    + ObjectName.quote(name));
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(bean, objectName);
+        } catch (JMException e) {
+            LOGGER.warn("Unable to register the {} {}", type, name, e);
+        }
+    }
+}
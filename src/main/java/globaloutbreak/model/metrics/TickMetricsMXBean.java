@@ -0,0 +1,45 @@
+package globaloutbreak.model.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link TickMetrics}.
+ */
+public interface TickMetricsMXBean {
+
+    /**
+     * @return
+     *         the number of completed ticks
+     */
+    long getTicks();
+
+    /**
+     * @return
+     *         the total number of voyages extracted since the first tick
+     */
+    long getVoyages();
+
+    /**
+     * @return
+     *         the mean bytes allocated by a tick
+     */
+    double getMeanAllocatedBytes();
+
+    /**
+     * @return
+     *         the mean nanoseconds of every phase
+     */
+    Map<String, Double> getMeanNanos();
+
+    /**
+     * @return
+     *         the 99th percentile of the nanoseconds of every phase
+     */
+    Map<String, Long> getP99Nanos();
+
+    /**
+     * @return
+     *         the highest nanoseconds of every phase
+     */
+    Map<String, Long> getMaxNanos();
+}
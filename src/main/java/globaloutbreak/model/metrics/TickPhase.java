@@ -0,0 +1,39 @@
+package globaloutbreak.model.metrics;
+
+/**
+ * Phases of a tick of the model, in the order they run.
+ */
+public enum TickPhase {
+    /**
+     * Extraction of voyages between regions.
+     */
+    VOYAGES,
+    /**
+     * Deaths caused by the disease.
+     */
+    DEATHS,
+    /**
+     * New infections.
+     */
+    INFECTIONS,
+    /**
+     * Catastrophic events.
+     */
+    EVENTS,
+    /**
+     * Death milestones news.
+     */
+    DEATH_ANALYSIS,
+    /**
+     * Cure research.
+     */
+    CURE,
+    /**
+     * Aggregation of the global data.
+     */
+    INFO_DATA,
+    /**
+     * The whole tick.
+     */
+    TOTAL
+}
@@ -0,0 +1,19 @@
+package globaloutbreak.model.observer;
+
+/**
+ * Listener of the cure resistance of the disease, published on a
+ * {@link SimulationEventBus}.
+ */
+@FunctionalInterface
+public interface CureResistanceListener {
+
+    /**
+     * Called when the cure resistance of the disease changes.
+     * 
+     * @param old
+     *            resistance before the change
+     * @param now
+     *            resistance after the change
+     */
+    void onCureResistance(float old, float now);
+}
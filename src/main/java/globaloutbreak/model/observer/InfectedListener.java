@@ -0,0 +1,21 @@
+package globaloutbreak.model.observer;
+
+/**
+ * Listener of the infections of the regions, published on a
+ * {@link SimulationEventBus}.
+ */
+@FunctionalInterface
+public interface InfectedListener {
+
+    /**
+     * Called when new people of a region are infected.
+     * 
+     * @param regionId
+     *                 the dense id of the region
+     * @param old
+     *                 infected before the change
+     * @param now
+     *                 infected after the change
+     */
+    void onInfectedDelta(int regionId, long old, long now);
+}
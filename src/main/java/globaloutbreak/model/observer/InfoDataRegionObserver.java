@@ -1,18 +1,16 @@
 package globaloutbreak.model.observer;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-import java.util.Random;
-
 import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 
 /**
  * Observer to observe region class for new regions infected.
  */
-public class InfoDataRegionObserver implements PropertyChangeListener {
+public class InfoDataRegionObserver implements InfectedListener {
 
     private final InfoData infoData;
-    private final Random random = new Random();
+    private final RandomSource random;
 
     /**
      * Create a region observer that refers to a {@link InfoData}.
@@ -21,17 +19,25 @@ public class InfoDataRegionObserver implements PropertyChangeListener {
      *                 notified
      */
     public InfoDataRegionObserver(final InfoData infodata) {
-        this.infoData = infodata;
+        this(infodata, new XoroshiroRandomSource());
     }
 
     /**
-     * @param property
-     *                 the property that changed value.
+     * Create a region observer that refers to a {@link InfoData}.
+     * 
+     * @param infodata
+     *                 notified
+     * @param random
+     *                 the random source
      */
+    public InfoDataRegionObserver(final InfoData infodata, final RandomSource random) {
+        this.infoData = infodata;
+        this.random = random;
+    }
+
     @Override
-    public void propertyChange(final PropertyChangeEvent property) {
-        if ("infectedRegion".equals(property.getPropertyName())
-                && (long) property.getNewValue() > (long) property.getOldValue() && (long) property.getOldValue() == 0L) {
+    public void onInfectedDelta(final int regionId, final long old, final long now) {
+        if (now > old && old == 0L) {
             this.infoData.increasePoints(random.nextInt(2) + 1);
         }
     }
@@ -0,0 +1,19 @@
+package globaloutbreak.model.observer;
+
+import globaloutbreak.model.message.Message;
+
+/**
+ * Listener of the messages of the model, published on a
+ * {@link SimulationEventBus}.
+ */
+@FunctionalInterface
+public interface MessageListener {
+
+    /**
+     * Called when the model produces a message.
+     * 
+     * @param message
+     *                the message
+     */
+    void onMessage(Message message);
+}
@@ -0,0 +1,107 @@
+package globaloutbreak.model.observer;
+
+import java.util.Arrays;
+
+import globaloutbreak.model.message.Message;
+
+/**
+ * Typed event bus of a simulation.
+ *
+ * Every kind of event has its own listener interface with primitive
+ * arguments, and listeners are kept in arrays that are only copied on
+ * registration, so firing an event allocates nothing. Listeners are notified
+ * in registration order, on the thread that fires the event.
+ */
+public final class SimulationEventBus {
+
+    private InfectedListener[] infectedListeners = new InfectedListener[0];
+    private CureResistanceListener[] cureResistanceListeners = new CureResistanceListener[0];
+    private MessageListener[] messageListeners = new MessageListener[0];
+
+    /**
+     * @param listener
+     *                 notified when new people of a region are infected
+     */
+    public void addInfectedListener(final InfectedListener listener) {
+        this.infectedListeners = append(this.infectedListeners, listener);
+    }
+
+    /**
+     * @param listener
+     *                 a listener added with {@link #addInfectedListener}, no
+     *                 longer notified
+     */
+    public void removeInfectedListener(final InfectedListener listener) {
+        this.infectedListeners = remove(this.infectedListeners, listener);
+    }
+
+    /**
+     * @param listener
+     *                 notified when the cure resistance of the disease changes
+     */
+    public void addCureResistanceListener(final CureResistanceListener listener) {
+        this.cureResistanceListeners = append(this.cureResistanceListeners, listener);
+    }
+
+    /**
+     * @param listener
+     *                 notified when the model produces a message
+     */
+    public void addMessageListener(final MessageListener listener) {
+        this.messageListeners = append(this.messageListeners, listener);
+    }
+
+    /**
+     * @param regionId
+     *                 the dense id of the region
+     * @param old
+     *                 infected before the change
+     * @param now
+     *                 infected after the change
+     */
+    public void fireInfectedDelta(final int regionId, final long old, final long now) {
+        for (final InfectedListener listener : this.infectedListeners) {
+            listener.onInfectedDelta(regionId, old, now);
+        }
+    }
+
+    /**
+     * @param old
+     *            resistance before the change
+     * @param now
+     *            resistance after the change
+     */
+    public void fireCureResistance(final float old, final float now) {
+        for (final CureResistanceListener listener : this.cureResistanceListeners) {
+            listener.onCureResistance(old, now);
+        }
+    }
+
+    /**
+     * @param message
+     *                the message
+     */
+    public void fireMessage(final Message message) {
+        for (final MessageListener listener : this.messageListeners) {
+            listener.onMessage(message);
+        }
+    }
+
+    private static <T> T[] append(final T[] listeners, final T listener) {
+        final T[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        return copy;
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static <T> T[] remove(final T[] listeners, final T listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                final T[] copy = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, copy, i, listeners.length - i - 1);
+                return copy;
+            }
+        }
+        return listeners;
+    }
+}
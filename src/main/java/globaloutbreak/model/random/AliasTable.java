@@ -0,0 +1,109 @@
+package globaloutbreak.model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker's alias table: samples an index with probability proportional to its
+ * weight in constant time, whatever the number of weights.
+ *
+ * The table is built once, in linear time, with Vose's method: every column
+ * holds its own index with probability {@code probability[i]} and its alias
+ * otherwise.
+ */
+public final class AliasTable {
+
+    /**
+     * Returned by {@link #sample(RandomGenerator)} when no weight is positive.
+     */
+    public static final int NONE = -1;
+
+    private final double[] probability;
+    private final int[] alias;
+    private final double total;
+
+    /**
+     * @param weights
+     *                the weight of every index, negative and not finite weights
+     *                count as zero
+     */
+    public AliasTable(final double[] weights) {
+        final int n = weights.length;
+        this.probability = new double[n];
+        this.alias = new int[n];
+        double sum = 0;
+        for (final double weight : weights) {
+            sum += valid(weight);
+        }
+        this.total = sum;
+        if (sum <= 0) {
+            return;
+        }
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smalls = 0;
+        int larges = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = valid(weights[i]) * n / sum;
+            if (scaled[i] < 1) {
+                small[smalls++] = i;
+            } else {
+                large[larges++] = i;
+            }
+        }
+        while (smalls > 0 && larges > 0) {
+            final int less = small[--smalls];
+            final int more = large[--larges];
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smalls++] = more;
+            } else {
+                large[larges++] = more;
+            }
+        }
+        // what is left is 1 up to rounding errors
+        while (larges > 0) {
+            this.probability[large[--larges]] = 1;
+        }
+        while (smalls > 0) {
+            this.probability[small[--smalls]] = 1;
+        }
+    }
+
+    private static double valid(final double weight) {
+        return Double.isFinite(weight) && weight > 0 ? weight : 0;
+    }
+
+    /**
+     * @param random
+     *               the random source
+     * @return
+     *         an index drawn with probability proportional to its weight,
+     *         {@link #NONE} if no weight is positive
+     */
+    public int sample(final RandomGenerator random) {
+        if (this.total <= 0) {
+            return NONE;
+        }
+        final int column = random.nextInt(this.probability.length);
+        return random.nextDouble() < this.probability[column] ? column : this.alias[column];
+    }
+
+    /**
+     * @return
+     *         the number of weights
+     */
+    public int size() {
+        return this.probability.length;
+    }
+
+    /**
+     * @return
+     *         the sum of the valid weights
+     */
+    public double getTotal() {
+        return this.total;
+    }
+}
@@ -0,0 +1,22 @@
+package globaloutbreak.model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of pseudo-random numbers shared by the stochastic parts of the model.
+ * 
+ * A source is not thread safe: every component, and every thread, must use
+ * its own stream obtained with {@link #split()}. Two sources created with the
+ * same seed and split in the same order produce the same numbers.
+ */
+public interface RandomSource extends RandomGenerator {
+
+    /**
+     * Returns a new, statistically independent source whose state is derived
+     * from this one.
+     * 
+     * @return
+     *         a new source
+     */
+    RandomSource split();
+}
@@ -0,0 +1,65 @@
+package globaloutbreak.model.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link RandomSource} based on the xoroshiro128++ generator.
+ */
+public final class XoroshiroRandomSource implements RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long s0;
+    private long s1;
+
+    /**
+     * Creates a source with a random seed.
+     */
+    public XoroshiroRandomSource() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a source from a seed.
+     * 
+     * @param seed
+     *             the seed
+     */
+    public XoroshiroRandomSource(final long seed) {
+        this(mix(seed + GOLDEN_GAMMA), mix(seed + 2 * GOLDEN_GAMMA));
+    }
+
+    private XoroshiroRandomSource(final long s0, final long s1) {
+        this.s0 = s0;
+        this.s1 = s1;
+        if ((this.s0 | this.s1) == 0) {
+            this.s0 = GOLDEN_GAMMA;
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        final long a = this.s0;
+        long b = this.s1;
+        final long result = Long.rotateLeft(a + b, 17) + a;
+        b ^= a;
+        this.s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+        this.s1 = Long.rotateLeft(b, 28);
+        return result;
+    }
+
+    @Override
+    public RandomSource split() {
+        return new XoroshiroRandomSource(mix(this.nextLong()), mix(this.nextLong()));
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads the bits of the seed over the whole state.
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
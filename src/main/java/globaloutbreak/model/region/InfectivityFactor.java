@@ -0,0 +1,31 @@
+package globaloutbreak.model.region;
+
+/**
+ * Region factors that contribute to the infectivity of a disease.
+ */
+public enum InfectivityFactor {
+    /**
+     * Percentage of people living in urban areas.
+     */
+    URBAN,
+    /**
+     * Percentage of people below the poverty line.
+     */
+    POOR,
+    /**
+     * Percentage of hot climate.
+     */
+    HOT,
+    /**
+     * Percentage of cold climate.
+     */
+    COLD,
+    /**
+     * Percentage of humidity.
+     */
+    HUMID,
+    /**
+     * Percentage of aridity.
+     */
+    ARID
+}
@@ -1,9 +1,9 @@
 package globaloutbreak.model.region;
 
-import java.beans.PropertyChangeListener;
 import java.util.List;
 
 import globaloutbreak.model.cure.RegionCureStatus;
+import globaloutbreak.model.observer.SimulationEventBus;
 
 /**
  * Interface of RegionImpl.
@@ -139,11 +139,11 @@ public interface Region extends Cloneable {
     void setCureStatus(RegionCureStatus started);
 
     /**
-     * Add the property change listener for infoData.
+     * Sets the bus where the infections of the region are published.
      * 
-     * @param listener
-     *                 PropertyChangeListener
+     * @param bus
+     *            the event bus of the simulation
      */
-    void initializeObserver(PropertyChangeListener listener);
+    void setEventBus(SimulationEventBus bus);
 
 }
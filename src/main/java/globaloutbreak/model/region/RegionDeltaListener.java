@@ -0,0 +1,22 @@
+package globaloutbreak.model.region;
+
+/**
+ * Listener of the changes of the infected and deaths of the regions of a
+ * {@link RegionStateStore}, notified with signed differences so aggregates can
+ * be kept up to date without scanning every region.
+ */
+@FunctionalInterface
+public interface RegionDeltaListener {
+
+    /**
+     * Called after a region changed its deaths or infected.
+     * 
+     * @param id
+     *                      region id
+     * @param deathsDelta
+     *                      difference of the deaths
+     * @param infectedDelta
+     *                      difference of the infected
+     */
+    void onDelta(int id, long deathsDelta, long infectedDelta);
+}
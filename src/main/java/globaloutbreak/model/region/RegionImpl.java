@@ -1,7 +1,8 @@
 package globaloutbreak.model.region;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -9,34 +10,34 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.cure.RegionCureStatus;
+import globaloutbreak.model.observer.SimulationEventBus;
 import globaloutbreak.model.pair.Pair;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
 
 /**
- * Implementation of Region.
+ * Implementation of Region, a view over a row of a {@link RegionStateStore}.
  */
-public final class RegionImpl implements Region {
-    private long numInfected;
-    private long numDeath;
-    // private final int numCared;
-    private long deathByEvents;
+public final class RegionImpl implements Region, Snapshottable {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RegionStateStore store;
+    private final int id;
     private final long popTot;
     private final String name;
-    private final float urban;
-    private final float poor;
-    private final int facilities;
-    private final int color;
     private final Climate climate;
-    private RegionCureStatus status = RegionCureStatus.NONE;
-    // private State statusCure;
     private final List<TransmissionMean> trasmissionMeans = new LinkedList<>();
-    private final PropertyChangeSupport infodataSupport = new PropertyChangeSupport(this);
+    private SimulationEventBus bus = new SimulationEventBus();
     private final float closeMeans;
 
     /**
      * This is the constructor.
      * 
+     * @param store
+     *                        the store where the region state is kept
      * @param popTot
      *                        the total population
      * @param name
@@ -61,21 +62,23 @@ public final class RegionImpl implements Region {
      *                       percentage of close borders
      * 
      */
-    public RegionImpl(final long popTot, final String name,
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The region is a view over a row of the shared store"
+    )
+    // @formatter:on
+    public RegionImpl(final RegionStateStore store, final long popTot, final String name,
             final Map<String, Pair<Integer, Optional<List<String>>>> reachableRegion, final float urban,
             final float poor, final int color, final int facilities, final float hot, final float humid,
             final float closeMeans) {
+        this.store = store;
+        this.id = store.add(popTot, urban, poor, color, facilities, hot, humid);
         this.popTot = popTot;
         this.name = name;
-        this.urban = urban;
-        this.poor = poor;
-        this.color = color;
-        this.facilities = facilities;
         this.climate = new ClimateImpl(humid, hot);
-        this.deathByEvents = 0;
         this.closeMeans = closeMeans;
         createMeans(reachableRegion);
-        // this.statusCure = State.NEUTRO;
     }
 
     private void createMeans(final Map<String, Pair<Integer, Optional<List<String>>>> reachableRegion) {
@@ -94,28 +97,31 @@ public final class RegionImpl implements Region {
 
     @Override
     public void incDeathPeople(final long death, final Boolean byEvent) {
-        if ((this.numInfected - death) <= 0) {
-            this.numInfected = 0;
+        final long numInfected = this.store.getInfected(this.id);
+        if ((numInfected - death) <= 0) {
+            this.store.setInfected(this.id, 0);
             logger.warn("I can't remove this infect");
         } else {
-            this.numInfected -= death;
+            this.store.setInfected(this.id, numInfected - death);
         }
-        if (this.numDeath < popTot) {
-            if (this.numDeath + death >= popTot) {
-                if (this.numDeath + death > popTot) {
+        final long numDeath = this.store.getDeaths(this.id);
+        if (numDeath < popTot) {
+            if (numDeath + death >= popTot) {
+                if (numDeath + death > popTot) {
                     logger.warn("Too many death but I add those possible");
                 }
                 if (byEvent) {
-                    this.deathByEvents += this.popTot - this.numDeath;
+                    this.store.setDeathsByEvents(this.id,
+                            this.store.getDeathsByEvents(this.id) + this.popTot - numDeath);
                 }
-                this.numDeath = this.popTot;
-                this.status = RegionCureStatus.FINISHED;
+                this.store.setDeaths(this.id, this.popTot);
+                this.store.setCureStatus(this.id, RegionCureStatus.FINISHED);
 
             } else {
                 if (byEvent) {
-                    this.deathByEvents += death;
+                    this.store.setDeathsByEvents(this.id, this.store.getDeathsByEvents(this.id) + death);
                 }
-                this.numDeath += death;
+                this.store.setDeaths(this.id, numDeath + death);
             }
             checkAndCloseMeans();
         } else {
@@ -124,13 +130,14 @@ public final class RegionImpl implements Region {
     }
 
     private void checkAndCloseMeans() {
-        final float deathT = this.numDeath;
+        final float deathT = this.store.getDeaths(this.id);
         final float popT = this.popTot;
-        final float deathE = this.deathByEvents;
+        final float deathE = this.store.getDeathsByEvents(this.id);
         if (((deathT - deathE) / popT) >= closeMeans && this.trasmissionMeans.get(0).getState() != MeansState.CLOSE) {
             this.getTrasmissionMeans().stream().forEach(k -> {
                 k.setState(MeansState.CLOSE);
             });
+            this.store.closeMeans(this.id);
             logger.info("Close " + this.name + " borders " + (deathT - deathE));
         }
     }
@@ -138,19 +145,20 @@ public final class RegionImpl implements Region {
     @Override
     public void incOrDecInfectedPeople(final long infected) {
         if (infected > 0) {
-            if (!this.status.equals(RegionCureStatus.FINISHED)) {
-                if ((this.numInfected + this.numDeath) < popTot) {
-                    final long sum = this.numInfected + infected + this.numDeath;
+            if (this.store.getCureStatus(this.id) != RegionCureStatus.FINISHED) {
+                final long numInfected = this.store.getInfected(this.id);
+                final long numDeath = this.store.getDeaths(this.id);
+                if ((numInfected + numDeath) < popTot) {
+                    final long sum = numInfected + infected + numDeath;
                     if (sum >= this.popTot) {
                         if (sum > this.popTot) {
                             logger.warn("Too many infected but I add those possible");
                         }
-                        infodataSupport.firePropertyChange("infectedRegion", this.numInfected, sum);
-                        this.numInfected += popTot - (this.numInfected + this.numDeath);
+                        this.store.setInfected(this.id, popTot - numDeath);
                     } else {
-                        infodataSupport.firePropertyChange("infectedRegion", this.numInfected, sum);
-                        this.numInfected += infected;
+                        this.store.setInfected(this.id, numInfected + infected);
                     }
+                    this.bus.fireInfectedDelta(this.id, numInfected, this.store.getInfected(this.id));
                 }
             } else {
                 logger.warn("State is already infected or RegionState is Finished");
@@ -160,28 +168,21 @@ public final class RegionImpl implements Region {
 
     @Override
     public float calcPercInfected() {
-        final float infect = this.numInfected;
+        final float infect = this.store.getInfected(this.id);
         final float pop = this.popTot;
         return infect / pop;
     }
 
     @Override
     public long getNumInfected() {
-        return numInfected;
+        return this.store.getInfected(this.id);
     }
 
     @Override
     public long getNumDeath() {
-        return numDeath;
+        return this.store.getDeaths(this.id);
     }
 
-    /*
-     * @Override
-     * public int getNumCared() {
-     * return numCared;
-     * }
-     */
-
     @Override
     public String getName() {
         return name;
@@ -189,7 +190,7 @@ public final class RegionImpl implements Region {
 
     @Override
     public float getUrban() {
-        return urban;
+        return this.store.getUrban(this.id);
     }
 
     @Override
@@ -199,17 +200,17 @@ public final class RegionImpl implements Region {
 
     @Override
     public float getPoor() {
-        return poor;
+        return this.store.getPoor(this.id);
     }
 
     @Override
     public long getDeathByVirus() {
-        return this.numDeath - this.deathByEvents;
+        return this.store.getDeaths(this.id) - this.store.getDeathsByEvents(this.id);
     }
 
     @Override
     public int getFacilities() {
-        return facilities;
+        return this.store.getFacilities(this.id);
     }
 
     @Override
@@ -219,7 +220,7 @@ public final class RegionImpl implements Region {
 
     @Override
     public int getColor() {
-        return color;
+        return this.store.getColor(this.id);
     }
 
     @Override
@@ -229,17 +230,105 @@ public final class RegionImpl implements Region {
 
     @Override
     public RegionCureStatus getCureStatus() {
-        return this.status;
+        return this.store.getCureStatus(this.id);
     }
 
     @Override
     public void setCureStatus(final RegionCureStatus status) {
-        this.status = status;
+        this.store.setCureStatus(this.id, status);
+    }
+
+    /**
+     * @return
+     *         the dense id of the region in its {@link RegionStateStore}
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "Every region must publish on the bus of its simulation"
+    )
+    // @formatter:on
+    @Override
+    public void setEventBus(final SimulationEventBus bus) {
+        this.bus = bus;
     }
 
+    /**
+     * Writes the definition of the region, its state is written by the
+     * store.
+     */
     @Override
-    public void initializeObserver(final PropertyChangeListener listener) {
-        this.infodataSupport.addPropertyChangeListener(listener);
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putLong(this.popTot);
+        out.putString(this.name);
+        out.putFloat(this.store.getUrban(this.id));
+        out.putFloat(this.store.getPoor(this.id));
+        out.putInt(this.store.getColor(this.id));
+        out.putInt(this.store.getFacilities(this.id));
+        out.putFloat(this.store.getHot(this.id));
+        out.putFloat(this.store.getHumid(this.id));
+        out.putFloat(this.closeMeans);
+        final Map<String, Pair<Integer, Optional<List<String>>>> means = new LinkedHashMap<>();
+        this.trasmissionMeans.forEach(mean -> means.merge(mean.getType(),
+                new Pair<>(1, mean.getReachableStates()),
+                (old, one) -> new Pair<>(old.getX() + 1, old.getY())));
+        out.putInt(means.size());
+        for (final Map.Entry<String, Pair<Integer, Optional<List<String>>>> mean : means.entrySet()) {
+            out.putString(mean.getKey());
+            out.putInt(mean.getValue().getX());
+            final Optional<List<String>> reachable = mean.getValue().getY();
+            out.putBoolean(reachable.isPresent());
+            if (reachable.isPresent()) {
+                out.putInt(reachable.get().size());
+                for (final String region : reachable.get()) {
+                    out.putString(region);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a region written by {@link #writeSnapshot}, adding its row to the
+     * store.
+     * 
+     * @param store
+     *              the store where the region state is kept
+     * @param in
+     *              the snapshot being read
+     * @return
+     *         the region
+     */
+    public static RegionImpl readSnapshot(final RegionStateStore store, final SnapshotReader in) {
+        final long popTot = in.getLong();
+        final String name = in.getString();
+        final float urban = in.getFloat();
+        final float poor = in.getFloat();
+        final int color = in.getInt();
+        final int facilities = in.getInt();
+        final float hot = in.getFloat();
+        final float humid = in.getFloat();
+        final float closeMeans = in.getFloat();
+        final int types = in.getInt();
+        final Map<String, Pair<Integer, Optional<List<String>>>> means = new LinkedHashMap<>();
+        for (int i = 0; i < types; i++) {
+            final String type = in.getString();
+            final int count = in.getInt();
+            Optional<List<String>> reachable = Optional.empty();
+            if (in.getBoolean()) {
+                final int size = in.getInt();
+                final List<String> regions = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    regions.add(in.getString());
+                }
+                reachable = Optional.of(regions);
+            }
+            means.put(type, new Pair<>(count, reachable));
+        }
+        return new RegionImpl(store, popTot, name, means, urban, poor, color, facilities, hot, humid, closeMeans);
     }
 
 }
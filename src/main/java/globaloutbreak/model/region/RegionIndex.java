@@ -0,0 +1,118 @@
+package globaloutbreak.model.region;
+
+import java.util.Arrays;
+
+/**
+ * Lookup table from the ARGB color of a region to its dense id in a
+ * {@link RegionStateStore}.
+ *
+ * It is a primitive open-addressing hash map with linear probing, so a lookup
+ * neither boxes the color nor scans the regions.
+ */
+public final class RegionIndex {
+
+    /**
+     * Value returned by {@link #get(int)} for unknown colors.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final int[] colors;
+    private final int[] ids;
+    private final int mask;
+    private final int shift;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param expectedSize
+     *                     the number of regions the index will hold
+     */
+    public RegionIndex(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+        this.colors = new int[capacity];
+        this.ids = new int[capacity];
+        Arrays.fill(this.ids, NOT_FOUND);
+        this.mask = capacity - 1;
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Builds the index of every row of the store. If more rows share a color,
+     * the first one is indexed.
+     *
+     * @param store
+     *              the store
+     * @return
+     *         the index
+     */
+    public static RegionIndex of(final RegionStateStore store) {
+        final RegionIndex index = new RegionIndex(store.size());
+        for (int id = 0; id < store.size(); id++) {
+            index.putIfAbsent(store.getColor(id), id);
+        }
+        return index;
+    }
+
+    /**
+     * Maps a color to an id, unless the color is already mapped.
+     *
+     * @param color
+     *              the color of the region
+     * @param id
+     *              the id of the region
+     * @return
+     *         {@code true} if the mapping was added
+     */
+    public boolean putIfAbsent(final int color, final int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Region ids can't be negative");
+        }
+        if (this.size == this.ids.length / 2) {
+            throw new IllegalStateException("The index is full");
+        }
+        int slot = this.slot(color);
+        while (this.ids[slot] != NOT_FOUND) {
+            if (this.colors[slot] == color) {
+                return false;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        this.colors[slot] = color;
+        this.ids[slot] = id;
+        this.size++;
+        return true;
+    }
+
+    /**
+     * @param color
+     *              the color of the region
+     * @return
+     *         the id of the region, {@link #NOT_FOUND} if no region has that
+     *         color
+     */
+    public int get(final int color) {
+        int slot = this.slot(color);
+        while (this.ids[slot] != NOT_FOUND) {
+            if (this.colors[slot] == color) {
+                return this.ids[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @return
+     *         the number of indexed colors
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private int slot(final int color) {
+        return (color * HASH_MULTIPLIER) >>> this.shift & this.mask;
+    }
+}
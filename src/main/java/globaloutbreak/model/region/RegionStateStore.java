@@ -0,0 +1,603 @@
+package globaloutbreak.model.region;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import globaloutbreak.model.cure.RegionCureStatus;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
+
+/**
+ * Structure-of-arrays storage for the state of every {@link Region}.
+ *
+ * Each region is identified by a dense id, which is its row in every column,
+ * so per-tick kernels can scan primitive arrays instead of walking a list of
+ * objects.
+ *
+ * The store also keeps the set of the infected regions and the set of the
+ * regions in each cure status, updated when a region changes, so that a
+ * phase of the tick visits only the regions it acts on.
+ */
+public final class RegionStateStore implements Snapshottable {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final RegionCureStatus[] STATUSES = RegionCureStatus.values();
+
+    private int size;
+    private long[] population = new long[INITIAL_CAPACITY];
+    private long[] infected = new long[INITIAL_CAPACITY];
+    private long[] deaths = new long[INITIAL_CAPACITY];
+    private long[] deathsByEvents = new long[INITIAL_CAPACITY];
+    private float[] urban = new float[INITIAL_CAPACITY];
+    private float[] poor = new float[INITIAL_CAPACITY];
+    private float[] hot = new float[INITIAL_CAPACITY];
+    private float[] cold = new float[INITIAL_CAPACITY];
+    private float[] humid = new float[INITIAL_CAPACITY];
+    private float[] arid = new float[INITIAL_CAPACITY];
+    private int[] facilities = new int[INITIAL_CAPACITY];
+    private int[] colors = new int[INITIAL_CAPACITY];
+    private byte[] cureStatus = new byte[INITIAL_CAPACITY];
+    private boolean[] meansOpen = new boolean[INITIAL_CAPACITY];
+    private final List<IntConsumer> meansClosedListeners = new ArrayList<>();
+    private RegionDeltaListener[] deltaListeners = new RegionDeltaListener[0];
+    private final BitSet infectedRegions = new BitSet();
+    private final BitSet deathRegions = new BitSet();
+    private final BitSet[] statusRegions = new BitSet[STATUSES.length];
+    private long cureStatusVersion;
+    private long totalPopulation;
+
+    /**
+     * Creates an empty store.
+     */
+    public RegionStateStore() {
+        for (int i = 0; i < STATUSES.length; i++) {
+            this.statusRegions[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Allocates a new row.
+     *
+     * @param population
+     *                   total population
+     * @param urban
+     *                   percentage of people living in urban areas
+     * @param poor
+     *                   percentage of people who are below the poverty line
+     * @param color
+     *                   the color of the region
+     * @param facilities
+     *                   number of care facilities
+     * @param hot
+     *                   percentage of hot climate
+     * @param humid
+     *                   percentage of humidity
+     * @return
+     *         the dense id of the new row
+     */
+    public int add(final long population, final float urban, final float poor, final int color,
+            final int facilities, final float hot, final float humid) {
+        if (this.size == this.population.length) {
+            this.grow();
+        }
+        final int id = this.size;
+        this.population[id] = population;
+        this.urban[id] = urban;
+        this.poor[id] = poor;
+        this.colors[id] = color;
+        this.facilities[id] = facilities;
+        this.hot[id] = hot;
+        this.cold[id] = 1 - hot;
+        this.humid[id] = humid;
+        this.arid[id] = 1 - humid;
+        this.cureStatus[id] = (byte) RegionCureStatus.NONE.ordinal();
+        this.statusRegions[RegionCureStatus.NONE.ordinal()].set(id);
+        this.meansOpen[id] = true;
+        this.totalPopulation += population;
+        this.size++;
+        return id;
+    }
+
+    private void grow() {
+        final int capacity = this.population.length * 2;
+        this.population = Arrays.copyOf(this.population, capacity);
+        this.infected = Arrays.copyOf(this.infected, capacity);
+        this.deaths = Arrays.copyOf(this.deaths, capacity);
+        this.deathsByEvents = Arrays.copyOf(this.deathsByEvents, capacity);
+        this.urban = Arrays.copyOf(this.urban, capacity);
+        this.poor = Arrays.copyOf(this.poor, capacity);
+        this.hot = Arrays.copyOf(this.hot, capacity);
+        this.cold = Arrays.copyOf(this.cold, capacity);
+        this.humid = Arrays.copyOf(this.humid, capacity);
+        this.arid = Arrays.copyOf(this.arid, capacity);
+        this.facilities = Arrays.copyOf(this.facilities, capacity);
+        this.colors = Arrays.copyOf(this.colors, capacity);
+        this.cureStatus = Arrays.copyOf(this.cureStatus, capacity);
+        this.meansOpen = Arrays.copyOf(this.meansOpen, capacity);
+    }
+
+    /**
+     * @return
+     *         the number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         total population
+     */
+    public long getPopulation(final int id) {
+        return this.population[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         number of infected
+     */
+    public long getInfected(final int id) {
+        return this.infected[id];
+    }
+
+    /**
+     * @param id
+     *                 region id
+     * @param infected
+     *                 new number of infected
+     */
+    public void setInfected(final int id, final long infected) {
+        final long delta = infected - this.infected[id];
+        this.infected[id] = infected;
+        this.infectedRegions.set(id, infected > 0);
+        if (delta != 0) {
+            this.fireDelta(id, 0, delta);
+        }
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         number of deaths
+     */
+    public long getDeaths(final int id) {
+        return this.deaths[id];
+    }
+
+    /**
+     * @param id
+     *               region id
+     * @param deaths
+     *               new number of deaths
+     */
+    public void setDeaths(final int id, final long deaths) {
+        final long delta = deaths - this.deaths[id];
+        this.deaths[id] = deaths;
+        this.deathRegions.set(id, deaths > 0);
+        if (delta != 0) {
+            this.fireDelta(id, delta, 0);
+        }
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         number of deaths caused by events
+     */
+    public long getDeathsByEvents(final int id) {
+        return this.deathsByEvents[id];
+    }
+
+    /**
+     * @param id
+     *               region id
+     * @param deaths
+     *               new number of deaths caused by events
+     */
+    public void setDeathsByEvents(final int id, final long deaths) {
+        this.deathsByEvents[id] = deaths;
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         urban percentage
+     */
+    public float getUrban(final int id) {
+        return this.urban[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         poor percentage
+     */
+    public float getPoor(final int id) {
+        return this.poor[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         hot percentage
+     */
+    public float getHot(final int id) {
+        return this.hot[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         cold percentage
+     */
+    public float getCold(final int id) {
+        return this.cold[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         humid percentage
+     */
+    public float getHumid(final int id) {
+        return this.humid[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         arid percentage
+     */
+    public float getArid(final int id) {
+        return this.arid[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         the cure facilities
+     */
+    public int getFacilities(final int id) {
+        return this.facilities[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         the region color
+     */
+    public int getColor(final int id) {
+        return this.colors[id];
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         region cure status
+     */
+    public RegionCureStatus getCureStatus(final int id) {
+        return STATUSES[this.cureStatus[id]];
+    }
+
+    /**
+     * @param id
+     *               region id
+     * @param status
+     *               new cure status
+     */
+    public void setCureStatus(final int id, final RegionCureStatus status) {
+        final int old = this.cureStatus[id];
+        if (old != status.ordinal()) {
+            this.cureStatus[id] = (byte) status.ordinal();
+            this.statusRegions[old].clear(id);
+            this.statusRegions[status.ordinal()].set(id);
+            this.cureStatusVersion++;
+        }
+    }
+
+    /**
+     * Iterates the infected regions:
+     * {@code for (int id = store.nextInfected(0); id >= 0; id = store.nextInfected(id + 1))}.
+     * A region can stop being infected while it is visited.
+     *
+     * @param from
+     *             the first region id to check
+     * @return
+     *         the first infected region with an id not lower than from, -1 if
+     *         there is none
+     */
+    public int nextInfected(final int from) {
+        return this.infectedRegions.nextSetBit(from);
+    }
+
+    /**
+     * @return
+     *         the number of regions with at least one infected
+     */
+    public int countInfected() {
+        return this.infectedRegions.cardinality();
+    }
+
+    /**
+     * Iterates the regions with at least one death, like
+     * {@link #nextInfected}.
+     *
+     * @param from
+     *             the first region id to check
+     * @return
+     *         the first region with deaths with an id not lower than from, -1
+     *         if there is none
+     */
+    public int nextWithDeaths(final int from) {
+        return this.deathRegions.nextSetBit(from);
+    }
+
+    /**
+     * Iterates the regions in a cure status, like {@link #nextInfected}.
+     *
+     * @param status
+     *               the cure status
+     * @param from
+     *               the first region id to check
+     * @return
+     *         the first region in the status with an id not lower than from, -1
+     *         if there is none
+     */
+    public int nextWithStatus(final RegionCureStatus status, final int from) {
+        return this.statusRegions[status.ordinal()].nextSetBit(from);
+    }
+
+    /**
+     * @param status
+     *               the cure status
+     * @return
+     *         the number of regions in the status
+     */
+    public int countWithStatus(final RegionCureStatus status) {
+        return this.statusRegions[status.ordinal()].cardinality();
+    }
+
+    /**
+     * @return
+     *         a number that changes every time a region changes its cure
+     *         status, so that lists of regions built on the statuses are
+     *         rebuilt only when needed
+     */
+    public long getCureStatusVersion() {
+        return this.cureStatusVersion;
+    }
+
+    /**
+     * Exposes the column of the infected, for kernels that process every
+     * region in one pass. Only the first {@link #size()} values are meaningful
+     * and the array must not be modified.
+     *
+     * @return
+     *         the backing column of the infected
+     */
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Kernels read the columns in place, copying them every tick would defeat their purpose"
+    )
+    // @formatter:on
+    public long[] infectedColumn() {
+        return this.infected;
+    }
+
+    /**
+     * Exposes the climate and society columns, for kernels that process every
+     * region in one pass. Only the first {@link #size()} values are meaningful
+     * and the arrays must not be modified.
+     *
+     * @param factor
+     *               the factor
+     * @return
+     *         the backing column of the factor
+     */
+    // @formatter:off
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Kernels read the columns in place, copying them every tick would defeat their purpose"
+    )
+    // @formatter:on
+    public float[] column(final InfectivityFactor factor) {
+        switch (factor) {
+            case URBAN:
+                return this.urban;
+            case POOR:
+                return this.poor;
+            case HOT:
+                return this.hot;
+            case COLD:
+                return this.cold;
+            case HUMID:
+                return this.humid;
+            case ARID:
+                return this.arid;
+            default:
+                throw new IllegalArgumentException("Unknown factor " + factor);
+        }
+    }
+
+    /**
+     * @param id
+     *           region id
+     * @return
+     *         {@code true} if the transmission means of the region are open
+     */
+    public boolean isMeansOpen(final int id) {
+        return this.meansOpen[id];
+    }
+
+    /**
+     * Marks the transmission means of a region as closed and notifies the
+     * listeners, only the first time.
+     *
+     * @param id
+     *           region id
+     */
+    public void closeMeans(final int id) {
+        if (this.meansOpen[id]) {
+            this.meansOpen[id] = false;
+            for (final IntConsumer listener : this.meansClosedListeners) {
+                listener.accept(id);
+            }
+        }
+    }
+
+    /**
+     * @param listener
+     *                 called with the id of a region when its means close
+     */
+    public void addMeansClosedListener(final IntConsumer listener) {
+        this.meansClosedListeners.add(listener);
+    }
+
+    /**
+     * @param listener
+     *                 a listener added with {@link #addMeansClosedListener}, no
+     *                 longer notified
+     */
+    public void removeMeansClosedListener(final IntConsumer listener) {
+        this.meansClosedListeners.remove(listener);
+    }
+
+    /**
+     * @param listener
+     *                 notified every time the infected or the deaths of a region
+     *                 change
+     */
+    public void addDeltaListener(final RegionDeltaListener listener) {
+        this.deltaListeners = Arrays.copyOf(this.deltaListeners, this.deltaListeners.length + 1);
+        this.deltaListeners[this.deltaListeners.length - 1] = listener;
+    }
+
+    /**
+     * @param listener
+     *                 a listener added with {@link #addDeltaListener}, no longer
+     *                 notified
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public void removeDeltaListener(final RegionDeltaListener listener) {
+        for (int i = 0; i < this.deltaListeners.length; i++) {
+            if (this.deltaListeners[i] == listener) {
+                final RegionDeltaListener[] copy = Arrays.copyOf(this.deltaListeners, this.deltaListeners.length - 1);
+                System.arraycopy(this.deltaListeners, i + 1, copy, i, this.deltaListeners.length - i - 1);
+                this.deltaListeners = copy;
+                return;
+            }
+        }
+    }
+
+    private void fireDelta(final int id, final long deathsDelta, final long infectedDelta) {
+        for (final RegionDeltaListener listener : this.deltaListeners) {
+            listener.onDelta(id, deathsDelta, infectedDelta);
+        }
+    }
+
+    /**
+     * @return
+     *         the sum of the population of every region
+     */
+    public long getTotalPopulation() {
+        return this.totalPopulation;
+    }
+
+    /**
+     * @return
+     *         the sum of the infected of every region
+     */
+    public long getTotalInfected() {
+        return sum(this.infected, this.size);
+    }
+
+    /**
+     * @return
+     *         the sum of the deaths of every region
+     */
+    public long getTotalDeaths() {
+        return sum(this.deaths, this.size);
+    }
+
+    /**
+     * Writes the columns that change while the simulation runs. The other
+     * columns are part of the definition of each region.
+     */
+    @Override
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putInt(this.size);
+        out.putLongs(this.infected, this.size);
+        out.putLongs(this.deaths, this.size);
+        out.putLongs(this.deathsByEvents, this.size);
+        out.putBytes(this.cureStatus, this.size);
+        final byte[] open = new byte[this.size];
+        for (int i = 0; i < this.size; i++) {
+            open[i] = (byte) (this.meansOpen[i] ? 1 : 0);
+        }
+        out.putBytes(open, this.size);
+    }
+
+    /**
+     * Overwrites the columns written by {@link #writeSnapshot}, without
+     * notifying any listener.
+     *
+     * @param in
+     *           the snapshot being read
+     */
+    public void readSnapshot(final SnapshotReader in) {
+        final int rows = in.getInt();
+        if (rows != this.size) {
+            throw new IllegalStateException("The snapshot has " + rows + " regions, the store " + this.size);
+        }
+        in.getLongs(this.infected, this.size);
+        in.getLongs(this.deaths, this.size);
+        in.getLongs(this.deathsByEvents, this.size);
+        in.getBytes(this.cureStatus, this.size);
+        final byte[] open = new byte[this.size];
+        in.getBytes(open, this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.meansOpen[i] = open[i] != 0;
+        }
+        this.infectedRegions.clear();
+        this.deathRegions.clear();
+        for (final BitSet regions : this.statusRegions) {
+            regions.clear();
+        }
+        for (int i = 0; i < this.size; i++) {
+            this.infectedRegions.set(i, this.infected[i] > 0);
+            this.deathRegions.set(i, this.deaths[i] > 0);
+            this.statusRegions[this.cureStatus[i]].set(i);
+        }
+        this.cureStatusVersion++;
+    }
+
+    private static long sum(final long[] column, final int size) {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += column[i];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,133 @@
+package globaloutbreak.model.snapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import globaloutbreak.model.Model;
+import globaloutbreak.model.ModelImpl;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.settings.simulationsettings.SimulationSettings;
+import globaloutbreak.settings.simulationsettings.SimulationSettingsReaderImpl;
+
+/**
+ * Versioned binary checkpoint of a running game: the model and the active
+ * mutations.
+ *
+ * The random sources are not saved, the restored model draws from the source
+ * it is given, so two restores with equally seeded sources evolve the same
+ * way.
+ */
+public final class ModelSnapshot {
+
+    private static final int MAGIC = 0x474F5350;
+    private static final int VERSION = 3;
+
+    private final Model model;
+    private final Set<String> activeMutations;
+
+    private ModelSnapshot(final Model model, final Set<String> activeMutations) {
+        this.model = model;
+        this.activeMutations = Set.copyOf(activeMutations);
+    }
+
+    /**
+     * Saves a game.
+     * 
+     * @param path
+     *                        the file, replaced if it exists
+     * @param model
+     *                        the model, whose components must be
+     *                        {@link Snapshottable}
+     * @param activeMutations
+     *                        the names of the active mutations
+     * @throws IOException
+     *                     if the file can't be written
+     */
+    public static void write(final Path path, final Model model, final Set<String> activeMutations)
+            throws IOException {
+        if (!(model instanceof Snapshottable)) {
+            throw new IllegalArgumentException(model.getClass().getName() + " can't be written in a snapshot");
+        }
+        try (SnapshotWriter out = new SnapshotWriter(path)) {
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            ((Snapshottable) model).writeSnapshot(out);
+            out.putInt(activeMutations.size());
+            for (final String mutation : activeMutations) {
+                out.putString(mutation);
+            }
+            out.commit();
+        }
+    }
+
+    /**
+     * Restores a game with the simulation settings in use.
+     * 
+     * @param path
+     *               the file
+     * @param random
+     *               the random source of the restored model
+     * @return
+     *         the snapshot
+     * @throws IOException
+     *                     if the file can't be read or is not a snapshot
+     */
+    public static ModelSnapshot read(final Path path, final RandomSource random) throws IOException {
+        return read(path, random, new SimulationSettingsReaderImpl().getSettings());
+    }
+
+    /**
+     * Restores a game.
+     * 
+     * @param path
+     *                 the file
+     * @param random
+     *                 the random source of the restored model
+     * @param settings
+     *                 the simulation settings of the restored model
+     * @return
+     *         the snapshot
+     * @throws IOException
+     *                     if the file can't be read or is not a snapshot
+     */
+    public static ModelSnapshot read(final Path path, final RandomSource random, final SimulationSettings settings)
+            throws IOException {
+        try (SnapshotReader in = new SnapshotReader(path)) {
+            if (in.getInt() != MAGIC) {
+                throw new IOException(path + " is not a snapshot");
+            }
+            final int version = in.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            final Model model = ModelImpl.readSnapshot(in, random, settings);
+            final int mutations = in.getInt();
+            final Set<String> activeMutations = new HashSet<>();
+            for (int i = 0; i < mutations; i++) {
+                activeMutations.add(in.getString());
+            }
+            return new ModelSnapshot(model, activeMutations);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(path + " is truncated", e);
+        }
+    }
+
+    /**
+     * @return
+     *         the restored model
+     */
+    public Model getModel() {
+        return this.model;
+    }
+
+    /**
+     * @return
+     *         the names of the active mutations
+     */
+    public Set<String> getActiveMutations() {
+        return this.activeMutations;
+    }
+}
@@ -0,0 +1,109 @@
+package globaloutbreak.model.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the primitive values of a snapshot from a memory mapped file, in the
+ * order they were written by a {@link SnapshotWriter}.
+ */
+public final class SnapshotReader implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    /**
+     * @param path
+     *             the file
+     * @throws IOException
+     *                     if the file can't be opened
+     */
+    public SnapshotReader(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+    }
+
+    /**
+     * @return
+     *         the next value
+     */
+    public int getInt() {
+        return this.buffer.getInt();
+    }
+
+    /**
+     * @return
+     *         the next value
+     */
+    public long getLong() {
+        return this.buffer.getLong();
+    }
+
+    /**
+     * @return
+     *         the next value
+     */
+    public float getFloat() {
+        return this.buffer.getFloat();
+    }
+
+    /**
+     * @return
+     *         the next value
+     */
+    public boolean getBoolean() {
+        return this.buffer.get() != 0;
+    }
+
+    /**
+     * @return
+     *         the next string
+     */
+    public String getString() {
+        final byte[] bytes = new byte[this.getInt()];
+        this.buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param values
+     *               the column to fill
+     * @param length
+     *               the number of values to read
+     */
+    public void getBytes(final byte[] values, final int length) {
+        this.buffer.get(values, 0, length);
+    }
+
+    /**
+     * @param values
+     *               the column to fill
+     * @param length
+     *               the number of values to read
+     */
+    public void getLongs(final long[] values, final int length) {
+        this.buffer.asLongBuffer().get(values, 0, length);
+        this.buffer.position(this.buffer.position() + length * Long.BYTES);
+    }
+
+    /**
+     * @param values
+     *               the column to fill
+     * @param length
+     *               the number of values to read
+     */
+    public void getFloats(final float[] values, final int length) {
+        this.buffer.asFloatBuffer().get(values, 0, length);
+        this.buffer.position(this.buffer.position() + length * Float.BYTES);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
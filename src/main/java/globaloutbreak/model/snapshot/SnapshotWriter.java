@@ -0,0 +1,204 @@
+package globaloutbreak.model.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the primitive values of a snapshot into a sibling temporary file,
+ * which replaces the snapshot only when {@link #commit()} is called, so a
+ * failed save never leaves a broken snapshot behind.
+ *
+ * Small values are gathered in a direct buffer and written through the
+ * channel, bulk columns are copied into a mapping of exactly their size: the
+ * file never grows past the written bytes and is never truncated while
+ * mapped.
+ */
+public final class SnapshotWriter implements Closeable {
+
+    private static final int STAGE_SIZE = 1 << 16;
+
+    private final Path path;
+    private final Path temp;
+    private final FileChannel channel;
+    private final ByteBuffer stage = ByteBuffer.allocateDirect(STAGE_SIZE);
+    private long written;
+    private boolean committed;
+
+    /**
+     * Starts writing a snapshot file.
+     * 
+     * @param path
+     *             the file, created or replaced on {@link #commit()}
+     * @throws IOException
+     *                     if the temporary file can't be opened
+     */
+    public SnapshotWriter(final Path path) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.temp = Files.createTempFile(this.path.getParent(), this.path.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(this.temp, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * @return
+     *         a buffer with room for the given bytes, the staging buffer or a
+     *         mapping of exactly that size at the end of the file
+     */
+    private ByteBuffer reserve(final long bytes) throws IOException {
+        if (this.stage.remaining() >= bytes) {
+            return this.stage;
+        }
+        this.flush();
+        if (bytes <= STAGE_SIZE) {
+            return this.stage;
+        }
+        final MappedByteBuffer mapped = this.channel.map(FileChannel.MapMode.READ_WRITE, this.written, bytes);
+        this.written += bytes;
+        return mapped;
+    }
+
+    private void flush() throws IOException {
+        this.stage.flip();
+        while (this.stage.hasRemaining()) {
+            this.written += this.channel.write(this.stage, this.written);
+        }
+        this.stage.clear();
+    }
+
+    private static void release(final ByteBuffer buffer) {
+        if (buffer instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) buffer).force();
+        }
+    }
+
+    /**
+     * @param value
+     *              the value
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putInt(final int value) throws IOException {
+        this.reserve(Integer.BYTES).putInt(value);
+    }
+
+    /**
+     * @param value
+     *              the value
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putLong(final long value) throws IOException {
+        this.reserve(Long.BYTES).putLong(value);
+    }
+
+    /**
+     * @param value
+     *              the value
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putFloat(final float value) throws IOException {
+        this.reserve(Float.BYTES).putFloat(value);
+    }
+
+    /**
+     * @param value
+     *              the value
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putBoolean(final boolean value) throws IOException {
+        this.reserve(1).put((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * @param value
+     *              the string, written as UTF-8 prefixed by its length
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putString(final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.putInt(bytes.length);
+        this.putBytes(bytes, bytes.length);
+    }
+
+    /**
+     * @param values
+     *               the column
+     * @param length
+     *               the number of values to write
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putBytes(final byte[] values, final int length) throws IOException {
+        final ByteBuffer buffer = this.reserve(length);
+        buffer.put(values, 0, length);
+        release(buffer);
+    }
+
+    /**
+     * @param values
+     *               the column
+     * @param length
+     *               the number of values to write
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putLongs(final long[] values, final int length) throws IOException {
+        final ByteBuffer buffer = this.reserve((long) length * Long.BYTES);
+        buffer.asLongBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        release(buffer);
+    }
+
+    /**
+     * @param values
+     *               the column
+     * @param length
+     *               the number of values to write
+     * @throws IOException
+     *                     if the file can't grow
+     */
+    public void putFloats(final float[] values, final int length) throws IOException {
+        final ByteBuffer buffer = this.reserve((long) length * Float.BYTES);
+        buffer.asFloatBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * Float.BYTES);
+        release(buffer);
+    }
+
+    /**
+     * Writes what is left, closes the file and moves it over the snapshot.
+     * 
+     * @throws IOException
+     *                     if the file can't be written or moved
+     */
+    public void commit() throws IOException {
+        this.flush();
+        this.channel.force(false);
+        this.channel.close();
+        Files.move(this.temp, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        this.committed = true;
+    }
+
+    /**
+     * Discards the temporary file unless the snapshot was committed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.committed) {
+            try {
+                this.channel.close();
+            } finally {
+                Files.deleteIfExists(this.temp);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package globaloutbreak.model.snapshot;
+
+import java.io.IOException;
+
+/**
+ * A component that can write its state into a snapshot. Each implementation
+ * provides the matching way to read it back.
+ */
+@FunctionalInterface
+public interface Snapshottable {
+
+    /**
+     * @param out
+     *            the snapshot being written
+     * @throws IOException
+     *                     if the snapshot can't be written
+     */
+    void writeSnapshot(SnapshotWriter out) throws IOException;
+}
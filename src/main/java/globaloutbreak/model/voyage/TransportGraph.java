@@ -0,0 +1,258 @@
+package globaloutbreak.model.voyage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import globaloutbreak.model.random.AliasTable;
+import globaloutbreak.model.region.MeansState;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.TransmissionMean;
+
+/**
+ * Transport network between regions, indexed by region id (the position of
+ * the region in the list the graph is built from).
+ *
+ * Means with a list of reachable states, like land borders, are stored as
+ * CSR adjacency arrays; the others connect every pair of regions. For every
+ * type the ids of the regions whose means are still open are kept in a dense
+ * array, updated with a swap-remove when a region closes, so that departures
+ * and destinations are drawn without filtering the regions.
+ *
+ * Regions are drawn with probability proportional to the capacity of their
+ * means, the number of ports for example, times their population. The alias
+ * table of a type is built again, on the next draw, only after one of its
+ * regions closed.
+ */
+public final class TransportGraph {
+
+    /**
+     * Id returned when no region can be drawn.
+     */
+    public static final int NONE = -1;
+
+    private final Map<String, Integer> types;
+    private final int[][] offsets;
+    private final int[][] targets;
+    private final int[][] open;
+    private final int[][] positions;
+    private final int[] openCount;
+    private final int[] scratch;
+    private final double[][] weights;
+    private final AliasTable[] tables;
+    private final double[] cumulative;
+
+    private TransportGraph(final Map<String, Integer> types, final int[][] offsets, final int[][] targets,
+            final boolean[][] isOpen, final double[][] weights) {
+        final int regions = isOpen.length == 0 ? 0 : isOpen[0].length;
+        this.types = types;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.open = new int[types.size()][regions];
+        this.positions = new int[types.size()][regions];
+        this.openCount = new int[types.size()];
+        this.scratch = new int[regions];
+        this.weights = weights;
+        this.tables = new AliasTable[types.size()];
+        this.cumulative = new double[regions];
+        for (int type = 0; type < types.size(); type++) {
+            Arrays.fill(this.positions[type], NONE);
+            for (int id = 0; id < regions; id++) {
+                if (isOpen[type][id]) {
+                    this.positions[type][id] = this.openCount[type];
+                    this.open[type][this.openCount[type]++] = id;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the graph of the given regions, using their position in the list
+     * as id and the current state of their means.
+     *
+     * @param regions
+     *                the regions
+     * @return
+     *         the graph
+     */
+    public static TransportGraph of(final List<Region> regions) {
+        final Map<String, Integer> ids = new HashMap<>();
+        final Map<String, Integer> types = new LinkedHashMap<>();
+        for (int id = 0; id < regions.size(); id++) {
+            ids.putIfAbsent(regions.get(id).getName(), id);
+            for (final TransmissionMean mean : regions.get(id).getTrasmissionMeans()) {
+                types.putIfAbsent(mean.getType(), types.size());
+            }
+        }
+
+        final boolean[][] isOpen = new boolean[types.size()][regions.size()];
+        final double[][] weights = new double[types.size()][regions.size()];
+        final int[][] offsets = new int[types.size()][];
+        final int[][] targets = new int[types.size()][];
+        final int[][] neighbours = new int[regions.size()][];
+        for (final Map.Entry<String, Integer> type : types.entrySet()) {
+            boolean bordered = false;
+            for (int id = 0; id < regions.size(); id++) {
+                neighbours[id] = new int[0];
+                for (final TransmissionMean mean : regions.get(id).getTrasmissionMeans()) {
+                    if (mean.getType().equals(type.getKey())) {
+                        isOpen[type.getValue()][id] |= mean.getState() == MeansState.OPEN;
+                        // every means of the type adds the population once more
+                        weights[type.getValue()][id] += regions.get(id).getPopTot();
+                        final Optional<List<String>> reachable = mean.getReachableStates();
+                        if (reachable.isPresent()) {
+                            bordered = true;
+                            neighbours[id] = reachable.get().stream()
+                                    .filter(ids::containsKey)
+                                    .mapToInt(ids::get)
+                                    .distinct()
+                                    .sorted()
+                                    .toArray();
+                        }
+                    }
+                }
+            }
+            if (bordered) {
+                offsets[type.getValue()] = new int[regions.size() + 1];
+                for (int id = 0; id < regions.size(); id++) {
+                    offsets[type.getValue()][id + 1] = offsets[type.getValue()][id] + neighbours[id].length;
+                }
+                targets[type.getValue()] = new int[offsets[type.getValue()][regions.size()]];
+                for (int id = 0; id < regions.size(); id++) {
+                    System.arraycopy(neighbours[id], 0, targets[type.getValue()], offsets[type.getValue()][id],
+                            neighbours[id].length);
+                }
+            }
+        }
+        return new TransportGraph(types, offsets, targets, isOpen, weights);
+    }
+
+    /**
+     * Closes every means of a region.
+     *
+     * @param id
+     *           the region id
+     */
+    public void close(final int id) {
+        for (int type = 0; type < this.openCount.length; type++) {
+            final int position = this.positions[type][id];
+            if (position != NONE) {
+                final int last = this.open[type][--this.openCount[type]];
+                this.open[type][position] = last;
+                this.positions[type][last] = position;
+                this.positions[type][id] = NONE;
+                this.tables[type] = null;
+            }
+        }
+    }
+
+    /**
+     * @param type
+     *             the type of means
+     * @return
+     *         the number of regions with open means of that type
+     */
+    public int countOpen(final String type) {
+        final Integer index = this.types.get(type);
+        return index == null ? 0 : this.openCount[index];
+    }
+
+    /**
+     * Draws a region with open means of the given type, weighted by capacity
+     * times population.
+     *
+     * @param type
+     *               the type of means
+     * @param random
+     *               the random generator
+     * @return
+     *         the id of the region, {@link #NONE} if there is none
+     */
+    public int pickDeparture(final String type, final RandomGenerator random) {
+        final Integer index = this.types.get(type);
+        if (index == null || this.openCount[index] == 0) {
+            return NONE;
+        }
+        final int drawn = this.table(index).sample(random);
+        // with no weight, like regions without people, every region is as likely
+        return this.open[index][drawn == AliasTable.NONE ? random.nextInt(this.openCount[index]) : drawn];
+    }
+
+    private AliasTable table(final int index) {
+        if (this.tables[index] == null) {
+            final double[] open = new double[this.openCount[index]];
+            for (int position = 0; position < open.length; position++) {
+                open[position] = this.weights[index][this.open[index][position]];
+            }
+            this.tables[index] = new AliasTable(open);
+        }
+        return this.tables[index];
+    }
+
+    /**
+     * Draws a destination reachable from the departure with open means of the
+     * given type, weighted by capacity times population.
+     *
+     * @param type
+     *                  the type of means
+     * @param departure
+     *                  the id of the departure region
+     * @param random
+     *                  the random generator
+     * @return
+     *         the id of the destination, {@link #NONE} if there is none
+     */
+    public int pickDestination(final String type, final int departure, final RandomGenerator random) {
+        final Integer index = this.types.get(type);
+        if (index == null) {
+            return NONE;
+        }
+        if (this.offsets[index] == null) {
+            final int count = this.openCount[index];
+            final int self = this.positions[index][departure];
+            final int candidates = self == NONE ? count : count - 1;
+            if (candidates <= 0) {
+                return NONE;
+            }
+            final AliasTable table = this.table(index);
+            final double own = self == NONE ? 0 : this.weights[index][departure];
+            if (table.getTotal() - own <= 0) {
+                final int drawn = random.nextInt(candidates);
+                return this.open[index][self != NONE && drawn >= self ? drawn + 1 : drawn];
+            }
+            // the departure is drawn again with probability own / total, that is below 1
+            int drawn = table.sample(random);
+            while (drawn == self) {
+                drawn = table.sample(random);
+            }
+            return this.open[index][drawn];
+        }
+        int candidates = 0;
+        double total = 0;
+        for (int edge = this.offsets[index][departure]; edge < this.offsets[index][departure + 1]; edge++) {
+            final int target = this.targets[index][edge];
+            if (this.positions[index][target] != NONE) {
+                total += this.weights[index][target];
+                this.scratch[candidates] = target;
+                this.cumulative[candidates++] = total;
+            }
+        }
+        if (candidates == 0) {
+            return NONE;
+        }
+        if (total <= 0) {
+            return this.scratch[random.nextInt(candidates)];
+        }
+        // borders are few, a linear scan is enough
+        final double drawn = random.nextDouble() * total;
+        int candidate = 0;
+        while (candidate < candidates - 1 && this.cumulative[candidate] <= drawn) {
+            candidate++;
+        }
+        return this.scratch[candidate];
+    }
+}
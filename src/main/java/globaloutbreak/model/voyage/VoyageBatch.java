@@ -0,0 +1,127 @@
+package globaloutbreak.model.voyage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import globaloutbreak.model.region.Region;
+
+/**
+ * The voyages of a tick, kept in primitive arrays that are reused from one
+ * tick to the next instead of allocating an object per voyage.
+ *
+ * Departures and destinations are region ids, the position of the regions in
+ * the list the transport graph was built from.
+ */
+public final class VoyageBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private String[] types = new String[INITIAL_CAPACITY];
+    private int[] departures = new int[INITIAL_CAPACITY];
+    private int[] destinations = new int[INITIAL_CAPACITY];
+    private long[] infected = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Forgets every voyage, keeping the arrays.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * @param type
+     *                    type of means
+     * @param departure
+     *                    id of the starting region
+     * @param destination
+     *                    id of the destination region
+     * @param infected
+     *                    new infect
+     */
+    public void add(final String type, final int departure, final int destination, final long infected) {
+        if (this.size == this.departures.length) {
+            final int capacity = this.size * 2;
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.departures = Arrays.copyOf(this.departures, capacity);
+            this.destinations = Arrays.copyOf(this.destinations, capacity);
+            this.infected = Arrays.copyOf(this.infected, capacity);
+        }
+        this.types[this.size] = type;
+        this.departures[this.size] = departure;
+        this.destinations[this.size] = destination;
+        this.infected[this.size] = infected;
+        this.size++;
+    }
+
+    /**
+     * @return
+     *         the number of voyages
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param voyage
+     *               the index of the voyage
+     * @return
+     *         type of means
+     */
+    public String getType(final int voyage) {
+        return this.types[this.check(voyage)];
+    }
+
+    /**
+     * @param voyage
+     *               the index of the voyage
+     * @return
+     *         id of the starting region
+     */
+    public int getDeparture(final int voyage) {
+        return this.departures[this.check(voyage)];
+    }
+
+    /**
+     * @param voyage
+     *               the index of the voyage
+     * @return
+     *         id of the destination region
+     */
+    public int getDestination(final int voyage) {
+        return this.destinations[this.check(voyage)];
+    }
+
+    /**
+     * @param voyage
+     *               the index of the voyage
+     * @return
+     *         new infect
+     */
+    public long getInfected(final int voyage) {
+        return this.infected[this.check(voyage)];
+    }
+
+    /**
+     * @param regions
+     *                the regions the ids refer to
+     * @return
+     *         the voyages as objects, with regions expressed by color
+     */
+    public List<Voyage> toList(final List<Region> regions) {
+        final List<Voyage> voyages = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            voyages.add(new VoyageImpl(this.types[i], regions.get(this.departures[i]).getColor(),
+                    regions.get(this.destinations[i]).getColor(), this.infected[i]));
+        }
+        return voyages;
+    }
+
+    private int check(final int voyage) {
+        if (voyage < 0 || voyage >= this.size) {
+            throw new IndexOutOfBoundsException(voyage);
+        }
+        return voyage;
+    }
+}
@@ -25,6 +25,35 @@ public interface Voyages {
      */
     List<Voyage> extractMeans(List<Region> regions, Map<String, Float> pot);
 
+    /**
+     * This method extrat voyages over a prebuilt transport graph.
+     * 
+     * @param graph
+     *                the transport graph of the regions
+     * @param regions
+     *                the regions, in the order the graph was built from
+     * @param pot
+     *                extra poten.
+     * @return
+     *         the extracted voyages
+     */
+    List<Voyage> extractMeans(TransportGraph graph, List<Region> regions, Map<String, Float> pot);
+
+    /**
+     * This method extrat voyages over a prebuilt transport graph, without
+     * allocating an object per voyage.
+     * 
+     * @param graph
+     *                the transport graph of the regions
+     * @param regions
+     *                the regions, in the order the graph was built from
+     * @param pot
+     *                extra poten.
+     * @param batch
+     *                cleared and filled with the extracted voyages
+     */
+    void extractMeans(TransportGraph graph, List<Region> regions, Map<String, Float> pot, VoyageBatch batch);
+
     /**
      * 
      * @return
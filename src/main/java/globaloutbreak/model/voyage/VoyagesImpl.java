@@ -1,12 +1,15 @@
 package globaloutbreak.model.voyage;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import globaloutbreak.model.pair.Pair;
-import globaloutbreak.model.region.MeansState;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Region;
-import globaloutbreak.model.region.TransmissionMean;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.model.snapshot.Snapshottable;
 
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -14,85 +17,63 @@ import java.util.LinkedList;
 /**
  * Implement. of Vogyages.
  */
-public final class VoyagesImpl implements Voyages {
+public final class VoyagesImpl implements Voyages, Snapshottable {
     private final Map<String, Pair<Integer, Integer>> sizeAndNameOfMeans;
-    private final Random rand = new Random();
+    private final RandomSource rand;
 
     /**
      * 
      * @param sizeAndNameOfMeans
      */
     public VoyagesImpl(final Map<String, Pair<Integer, Integer>> sizeAndNameOfMeans) {
+        this(sizeAndNameOfMeans, new XoroshiroRandomSource());
+    }
+
+    /**
+     * 
+     * @param sizeAndNameOfMeans
+     * @param rand
+     *                           the random source
+     */
+    public VoyagesImpl(final Map<String, Pair<Integer, Integer>> sizeAndNameOfMeans, final RandomSource rand) {
         this.sizeAndNameOfMeans = new HashMap<>(sizeAndNameOfMeans);
+        this.rand = rand;
     }
 
     @Override
     public List<Voyage> extractMeans(final List<Region> regions,
             final Map<String, Float> pot) {
-        final List<Voyage> extractedMeans = new LinkedList<>();
+        return this.extractMeans(TransportGraph.of(regions), regions, pot);
+    }
+
+    @Override
+    public List<Voyage> extractMeans(final TransportGraph graph, final List<Region> regions,
+            final Map<String, Float> pot) {
+        final VoyageBatch batch = new VoyageBatch();
+        this.extractMeans(graph, regions, pot, batch);
+        return batch.toList(regions);
+    }
+
+    @Override
+    public void extractMeans(final TransportGraph graph, final List<Region> regions, final Map<String, Float> pot,
+            final VoyageBatch batch) {
+        batch.clear();
         sizeAndNameOfMeans.forEach((means, size) -> {
-            final List<Region> newRegions = regions.stream()
-                    .filter(k -> checkIfMeansAreOpen(k.getTrasmissionMeans(), means)).toList();
-            if (newRegions.size() > 2) {
+            if (graph.countOpen(means) > 2) {
                 for (int i = 0; i < size.getX(); i++) {
-                    final Pair<Region, Region> partDest = extractRegion(newRegions, means);
-                    if (partDest.getX() != null) {
-                        final Region part = newRegions
-                                .stream()
-                                .filter(k -> k.getColor() == partDest.getX().getColor()).toList().get(0);
+                    final int partId = graph.pickDeparture(means, rand);
+                    final int destId = graph.pickDestination(means, partId, rand);
+                    if (destId != TransportGraph.NONE) {
+                        final Region part = regions.get(partId);
                         float prob = 0;
                         if (part.calcPercInfected() > 0) {
                             prob = part.calcPercInfected() + pot.get(means);
                         }
-                        final Voyage voyage = new VoyageImpl(means, partDest.getX().getColor(),
-                                partDest.getY().getColor(),
-                                numInfected(prob, size.getY()));
-                        extractedMeans.add(voyage);
+                        batch.add(means, partId, destId, numInfected(prob, size.getY()));
                     }
                 }
             }
         });
-        return extractedMeans;
-    }
-
-    private Pair<Region, Region> extractRegion(final List<Region> newRegions, final String type) {
-        final Region region = newRegions.get(rand.nextInt(0, newRegions.size()));
-        List<Region> efectieRegions = new LinkedList<>(newRegions);
-        efectieRegions.remove(region);
-        switch (type) {
-            case "terra":
-                efectieRegions = findRegionsByName(newRegions, region.getTrasmissionMeans()
-                        .stream()
-                        .filter(k -> k.getType().equals(type))
-                        .findFirst().get()
-                        .getReachableStates().get());
-                break;
-            default:
-                break;
-        }
-        if (!efectieRegions.isEmpty()) {
-            final Region dest = efectieRegions.get(rand.nextInt(0, efectieRegions.size()));
-            return new Pair<>(region, dest);
-        }
-        return new Pair<>(null, null);
-    }
-
-    private List<Region> findRegionsByName(final List<Region> regions, final List<String> nameRegions) {
-        final List<Region> rs = new LinkedList<>();
-        regions.forEach(k -> {
-            nameRegions.forEach(s -> {
-                if (k.getName().equals(s)) {
-                    rs.add(k);
-                }
-            });
-        });
-        return rs;
-    }
-
-    private boolean checkIfMeansAreOpen(final List<TransmissionMean> list, final String means) {
-        final Long open = list.stream().filter(k -> k.getType().equals(means) && k.getState().equals(MeansState.OPEN))
-                .count();
-        return open > 0;
     }
 
     private long numInfected(final float prob, final int size) {
@@ -111,4 +92,33 @@ public final class VoyagesImpl implements Voyages {
         return new LinkedList<>(sizeAndNameOfMeans.keySet());
     }
 
+    @Override
+    public void writeSnapshot(final SnapshotWriter out) throws IOException {
+        out.putInt(this.sizeAndNameOfMeans.size());
+        for (final Map.Entry<String, Pair<Integer, Integer>> mean : this.sizeAndNameOfMeans.entrySet()) {
+            out.putString(mean.getKey());
+            out.putInt(mean.getValue().getX());
+            out.putInt(mean.getValue().getY());
+        }
+    }
+
+    /**
+     * Reads voyages written by {@link #writeSnapshot}.
+     * 
+     * @param in
+     *             the snapshot being read
+     * @param rand
+     *             the random source
+     * @return
+     *         the voyages
+     */
+    public static VoyagesImpl readSnapshot(final SnapshotReader in, final RandomSource rand) {
+        final int size = in.getInt();
+        final Map<String, Pair<Integer, Integer>> means = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            means.put(in.getString(), new Pair<>(in.getInt(), in.getInt()));
+        }
+        return new VoyagesImpl(means, rand);
+    }
+
 }
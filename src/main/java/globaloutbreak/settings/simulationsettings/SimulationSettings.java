@@ -0,0 +1,219 @@
+package globaloutbreak.settings.simulationsettings;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import globaloutbreak.model.disease.GridInfectionKernel;
+import globaloutbreak.model.disease.InfectionKernelType;
+import globaloutbreak.model.message.AutoPausePolicy;
+import globaloutbreak.model.message.MessageType;
+
+/**
+ * Tuning of the simulation engine.
+ */
+public final class SimulationSettings {
+
+    private final InfectionKernelType infectionKernel;
+    private final int metricsLogInterval;
+    private final Set<MessageType> autoPause;
+    private final Optional<Path> journalDirectory;
+    private final int renderRate;
+    private final int maxCatchUpSteps;
+    private final int gridCellSize;
+
+    private SimulationSettings(final InfectionKernelType infectionKernel, final int metricsLogInterval,
+            final Set<MessageType> autoPause, final Optional<Path> journalDirectory, final int renderRate,
+            final int maxCatchUpSteps, final int gridCellSize) {
+        this.infectionKernel = infectionKernel;
+        this.metricsLogInterval = metricsLogInterval;
+        this.autoPause = autoPause;
+        this.journalDirectory = journalDirectory;
+        this.renderRate = renderRate;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+        this.gridCellSize = gridCellSize;
+    }
+
+    /**
+     * @return
+     *         the way the spread of the disease is computed
+     */
+    public InfectionKernelType getInfectionKernel() {
+        return this.infectionKernel;
+    }
+
+    /**
+     * @return
+     *         number of ticks between two logs of the tick metrics, 0 to never
+     *         log them
+     */
+    public int getMetricsLogInterval() {
+        return this.metricsLogInterval;
+    }
+
+    /**
+     * @return
+     *         the policy deciding which messages pause the game
+     */
+    public AutoPausePolicy getAutoPausePolicy() {
+        return AutoPausePolicy.of(this.autoPause);
+    }
+
+    /**
+     * @return
+     *         the directory where the input journal of a game is saved when it
+     *         ends, if journals are saved
+     */
+    public Optional<Path> getJournalDirectory() {
+        return this.journalDirectory;
+    }
+
+    /**
+     * @return
+     *         the number of frames rendered per second, whatever the game speed
+     */
+    public int getRenderRate() {
+        return this.renderRate;
+    }
+
+    /**
+     * @return
+     *         the highest number of ticks run at once when the game loop falls
+     *         behind
+     */
+    public int getMaxCatchUpSteps() {
+        return this.maxCatchUpSteps;
+    }
+
+    /**
+     * @return
+     *         the side of a cell, in pixels of the map, when the infection
+     *         spreads over a grid
+     */
+    public int getGridCellSize() {
+        return this.gridCellSize;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationSettings [infectionKernel=" + this.infectionKernel + ", metricsLogInterval="
+                + this.metricsLogInterval + ", autoPause=" + this.autoPause + ", journalDirectory="
+                + this.journalDirectory + ", renderRate=" + this.renderRate + ", maxCatchUpSteps="
+                + this.maxCatchUpSteps + ", gridCellSize=" + this.gridCellSize + "]";
+    }
+
+    /**
+     * Builder for SimulationSettings.
+     */
+    @SuppressWarnings("PMD.LinguisticNaming")
+    public static class Builder {
+
+        private static final InfectionKernelType INFECTION_KERNEL = InfectionKernelType.VECTOR;
+        private static final int RENDER_RATE = 60;
+        private static final int MAX_CATCH_UP_STEPS = 5;
+
+        private InfectionKernelType infectionKernel = INFECTION_KERNEL;
+        private int metricsLogInterval;
+        private Set<MessageType> autoPause = EnumSet.allOf(MessageType.class);
+        private Optional<Path> journalDirectory = Optional.of(Path.of(System.getProperty("java.io.tmpdir"),
+                "globaloutbreak"));
+        private int renderRate = RENDER_RATE;
+        private int maxCatchUpSteps = MAX_CATCH_UP_STEPS;
+        private int gridCellSize = GridInfectionKernel.DEFAULT_CELL_SIZE;
+        private boolean consumed;
+
+        /**
+         * @param infectionKernel the way the spread of the disease is computed
+         * @return this builder, for method chaining
+         */
+        public Builder setInfectionKernel(final InfectionKernelType infectionKernel) {
+            this.infectionKernel = infectionKernel;
+            return this;
+        }
+
+        /**
+         * @param metricsLogInterval number of ticks between two logs of the tick
+         *                           metrics, 0 to never log them
+         * @return this builder, for method chaining
+         */
+        public Builder setMetricsLogInterval(final int metricsLogInterval) {
+            if (metricsLogInterval < 0) {
+                throw new IllegalArgumentException("The metrics log interval can't be negative");
+            }
+            this.metricsLogInterval = metricsLogInterval;
+            return this;
+        }
+
+        /**
+         * @param autoPause the types of the messages that pause the game while
+         *                  they are displayed
+         * @return this builder, for method chaining
+         */
+        public Builder setAutoPause(final Set<MessageType> autoPause) {
+            this.autoPause = EnumSet.noneOf(MessageType.class);
+            this.autoPause.addAll(autoPause);
+            return this;
+        }
+
+        /**
+         * @param journalDirectory the directory where the input journal of a
+         *                         game is saved, empty to not save journals
+         * @return this builder, for method chaining
+         */
+        public Builder setJournalDirectory(final Optional<Path> journalDirectory) {
+            this.journalDirectory = journalDirectory;
+            return this;
+        }
+
+        /**
+         * @param renderRate the number of frames rendered per second
+         * @return this builder, for method chaining
+         */
+        public Builder setRenderRate(final int renderRate) {
+            if (renderRate <= 0) {
+                throw new IllegalArgumentException("The render rate must be positive");
+            }
+            this.renderRate = renderRate;
+            return this;
+        }
+
+        /**
+         * @param maxCatchUpSteps the highest number of ticks run at once when
+         *                        the game loop falls behind
+         * @return this builder, for method chaining
+         */
+        public Builder setMaxCatchUpSteps(final int maxCatchUpSteps) {
+            if (maxCatchUpSteps <= 0) {
+                throw new IllegalArgumentException("At least one tick must be run at once");
+            }
+            this.maxCatchUpSteps = maxCatchUpSteps;
+            return this;
+        }
+
+        /**
+         * @param gridCellSize the side of a cell, in pixels of the map, when
+         *                     the infection spreads over a grid
+         * @return this builder, for method chaining
+         */
+        public Builder setGridCellSize(final int gridCellSize) {
+            if (gridCellSize <= 0) {
+                throw new IllegalArgumentException("The grid cell size must be positive");
+            }
+            this.gridCellSize = gridCellSize;
+            return this;
+        }
+
+        /**
+         * @return the simulation settings
+         */
+        public final SimulationSettings build() {
+            if (consumed) {
+                throw new IllegalStateException("The builder can only be used once");
+            }
+            consumed = true;
+            return new SimulationSettings(infectionKernel, metricsLogInterval, autoPause, journalDirectory,
+                    renderRate, maxCatchUpSteps, gridCellSize);
+        }
+    }
+}
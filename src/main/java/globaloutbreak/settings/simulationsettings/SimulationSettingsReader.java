@@ -0,0 +1,15 @@
+package globaloutbreak.settings.simulationsettings;
+
+/**
+ * An interface for a reader of simulation settings.
+ */
+public interface SimulationSettingsReader {
+
+    /**
+     * Returns the simulation settings, the defaults if they can't be read.
+     * 
+     * @return
+     *         the settings
+     */
+    SimulationSettings getSettings();
+}
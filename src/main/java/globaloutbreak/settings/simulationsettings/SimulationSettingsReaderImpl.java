@@ -0,0 +1,118 @@
+package globaloutbreak.settings.simulationsettings;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import globaloutbreak.model.disease.InfectionKernelType;
+import globaloutbreak.model.message.MessageType;
+
+/**
+ * A simulation settings reader based on "simulation.json".
+ */
+public final class SimulationSettingsReaderImpl implements SimulationSettingsReader {
+    private static final String FILE_PATH = "simulation/simulation.json";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final SimulationSettings settings;
+
+    /**
+     * Reads from file.
+     */
+    public SimulationSettingsReaderImpl() {
+        final SimulationSettings.Builder builder = new SimulationSettings.Builder();
+        try {
+            final ObjectMapper mapper = new ObjectMapper();
+            final JsonNode node = mapper.readTree(new BufferedReader(new InputStreamReader(
+                    ClassLoader.getSystemResourceAsStream(FILE_PATH), StandardCharsets.UTF_8)));
+
+            final Iterator<Entry<String, JsonNode>> iter = node.fields();
+            while (iter.hasNext()) {
+                final Entry<String, JsonNode> value = iter.next();
+                switch (value.getKey()) {
+                    case "infectionKernel":
+                        try {
+                            builder.setInfectionKernel(InfectionKernelType.valueOf(
+                                    value.getValue().asText().toUpperCase(Locale.ROOT)));
+                        } catch (IllegalArgumentException e) {
+                            logger.warn("Infection kernel {} not recognized", value.getValue());
+                        }
+                        break;
+                    case "metricsLogInterval":
+                        try {
+                            builder.setMetricsLogInterval(value.getValue().asInt());
+                        } catch (IllegalArgumentException e) {
+                            logger.warn("Metrics log interval {} not valid", value.getValue());
+                        }
+                        break;
+                    case "autoPause":
+                        final Set<MessageType> autoPause = EnumSet.noneOf(MessageType.class);
+                        value.getValue().forEach(type -> {
+                            try {
+                                autoPause.add(MessageType.valueOf(type.asText().toUpperCase(Locale.ROOT)));
+                            } catch (IllegalArgumentException e) {
+                                logger.warn("Message type {} not recognized", type);
+                            }
+                        });
+                        builder.setAutoPause(autoPause);
+                        break;
+                    case "renderRate":
+                        try {
+                            builder.setRenderRate(value.getValue().asInt());
+                        } catch (IllegalArgumentException e) {
+                            logger.warn("Render rate {} not valid", value.getValue());
+                        }
+                        break;
+                    case "maxCatchUpSteps":
+                        try {
+                            builder.setMaxCatchUpSteps(value.getValue().asInt());
+                        } catch (IllegalArgumentException e) {
+                            logger.warn("Max catch up steps {} not valid", value.getValue());
+                        }
+                        break;
+                    case "gridCellSize":
+                        try {
+                            builder.setGridCellSize(value.getValue().asInt());
+                        } catch (IllegalArgumentException e) {
+                            logger.warn("Grid cell size {} not valid", value.getValue());
+                        }
+                        break;
+                    case "journalDirectory":
+                        try {
+                            builder.setJournalDirectory(value.getValue().asText().isEmpty() ? Optional.empty()
+                                    : Optional.of(Path.of(value.getValue().asText())));
+                        } catch (InvalidPathException e) {
+                            logger.warn("Journal directory {} not valid", value.getValue());
+                        }
+                        break;
+                    default:
+                        logger.warn("Value: {} not recognized", value);
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to read {}:", FILE_PATH, e);
+        }
+        this.settings = builder.build();
+    }
+
+    @Override
+    public SimulationSettings getSettings() {
+        return this.settings;
+    }
+}
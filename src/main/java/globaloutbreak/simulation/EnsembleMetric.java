@@ -0,0 +1,19 @@
+package globaloutbreak.simulation;
+
+/**
+ * Quantities sampled at every tick of an ensemble.
+ */
+public enum EnsembleMetric {
+    /**
+     * Total number of infected.
+     */
+    INFECTED,
+    /**
+     * Total number of deaths.
+     */
+    DEATHS,
+    /**
+     * Progress of the cure.
+     */
+    CURE_PROGRESS
+}
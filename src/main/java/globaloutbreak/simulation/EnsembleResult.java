@@ -0,0 +1,132 @@
+package globaloutbreak.simulation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import globaloutbreak.model.endcauses.EndCauses;
+
+/**
+ * Per-tick distributions of an ensemble of simulations.
+ * 
+ * Every {@link EnsembleStatistic} of every {@link EnsembleMetric} is kept in a
+ * single flat array, one row per pair, one column per tick.
+ */
+public final class EnsembleResult {
+
+    private static final int METRICS = EnsembleMetric.values().length;
+    private static final int STATISTICS = EnsembleStatistic.values().length;
+
+    private final int runs;
+    private final int ticks;
+    private final double[] values;
+    private final Map<EndCauses, Integer> endCauses;
+
+    private EnsembleResult(final int runs, final int ticks, final double[] values,
+            final Map<EndCauses, Integer> endCauses) {
+        this.runs = runs;
+        this.ticks = ticks;
+        this.values = values;
+        this.endCauses = Collections.unmodifiableMap(endCauses);
+    }
+
+    /**
+     * Aggregates the traces of the runs.
+     * 
+     * @param traces
+     *                  the per-tick values of every run
+     * @param endCauses
+     *                  how many runs ended for each cause
+     * @return
+     *         the aggregated result
+     */
+    static EnsembleResult aggregate(final List<RunTrace> traces, final Map<EndCauses, Integer> endCauses) {
+        final int ticks = traces.stream().mapToInt(RunTrace::size).max().orElse(0);
+        final double[] values = new double[METRICS * STATISTICS * ticks];
+        final long[] sample = new long[traces.size()];
+        for (final EnsembleMetric metric : EnsembleMetric.values()) {
+            for (int tick = 0; tick < ticks; tick++) {
+                long sum = 0;
+                for (int run = 0; run < sample.length; run++) {
+                    sample[run] = traces.get(run).get(metric, tick);
+                    sum += sample[run];
+                }
+                Arrays.sort(sample);
+                for (final EnsembleStatistic statistic : EnsembleStatistic.values()) {
+                    values[index(metric, statistic, ticks) + tick] = statistic == EnsembleStatistic.MEAN
+                            ? (double) sum / sample.length
+                            : percentile(sample, statistic.getQuantile());
+                }
+            }
+        }
+        final Map<EndCauses, Integer> causes = new EnumMap<>(EndCauses.class);
+        causes.putAll(endCauses);
+        return new EnsembleResult(traces.size(), ticks, values, causes);
+    }
+
+    private static long percentile(final long[] sorted, final double quantile) {
+        final int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    private static int index(final EnsembleMetric metric, final EnsembleStatistic statistic, final int ticks) {
+        return (metric.ordinal() * STATISTICS + statistic.ordinal()) * ticks;
+    }
+
+    /**
+     * @return
+     *         number of runs
+     */
+    public int getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * @return
+     *         number of ticks of the longest run
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * @param metric
+     *                  the metric
+     * @param statistic
+     *                  the statistic
+     * @param tick
+     *                  the tick
+     * @return
+     *         the value of the statistic at the given tick
+     */
+    public double get(final EnsembleMetric metric, final EnsembleStatistic statistic, final int tick) {
+        if (tick < 0 || tick >= this.ticks) {
+            throw new IndexOutOfBoundsException("Tick " + tick + " out of " + this.ticks);
+        }
+        return this.values[index(metric, statistic, this.ticks) + tick];
+    }
+
+    /**
+     * @param metric
+     *                  the metric
+     * @param statistic
+     *                  the statistic
+     * @return
+     *         a copy of the values of the statistic, one per tick
+     */
+    public double[] getSeries(final EnsembleMetric metric, final EnsembleStatistic statistic) {
+        final int from = index(metric, statistic, this.ticks);
+        return Arrays.copyOfRange(this.values, from, from + this.ticks);
+    }
+
+    /**
+     * @return
+     *         how many runs ended for each cause, runs stopped by the tick
+     *         limit are not counted
+     */
+    public Map<EndCauses, Integer> getEndCauses() {
+        return this.endCauses;
+    }
+}
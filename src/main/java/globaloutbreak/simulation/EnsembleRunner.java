@@ -0,0 +1,168 @@
+package globaloutbreak.simulation;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import globaloutbreak.model.endcauses.EndCauses;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+
+/**
+ * Runs many independent headless simulations of the same disease in parallel
+ * and aggregates their per-tick distributions.
+ */
+public final class EnsembleRunner {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final String diseaseType;
+    private final int runs;
+    private final int maxTicks;
+    private final int parallelism;
+    private final long seed;
+
+    private EnsembleRunner(final String diseaseType, final int runs, final int maxTicks, final int parallelism,
+            final long seed) {
+        this.diseaseType = diseaseType;
+        this.runs = runs;
+        this.maxTicks = maxTicks;
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs the ensemble, blocking until every run is completed.
+     * 
+     * @return
+     *         the aggregated result
+     */
+    public EnsembleResult run() {
+        final List<RunTrace> traces = new ArrayList<>(this.runs);
+        final List<Callable<SimulationResult>> tasks = new ArrayList<>(this.runs);
+        final RandomSource seeds = new XoroshiroRandomSource(this.seed);
+        for (int i = 0; i < this.runs; i++) {
+            final RunTrace trace = new RunTrace();
+            final SimulationRunner runner = new HeadlessSimulationRunner.Builder(this.diseaseType)
+                    .setMaxTicks(this.maxTicks)
+                    .setSeed(seeds.nextLong())
+                    .addTickListener(trace)
+                    .build();
+            traces.add(trace);
+            tasks.add(runner::run);
+        }
+
+        final Map<EndCauses, Integer> endCauses = new EnumMap<>(EndCauses.class);
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        final long start = System.nanoTime();
+        try {
+            for (final Future<SimulationResult> future : pool.invokeAll(tasks)) {
+                future.get().getEndCause().ifPresent(cause -> endCauses.merge(cause, 1, Integer::sum));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ensemble interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A run of the ensemble failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        this.logger.info("Ensemble of {} runs of {} completed in {} ms", this.runs, this.diseaseType,
+                (System.nanoTime() - start) / 1_000_000);
+        return EnsembleResult.aggregate(traces, endCauses);
+    }
+
+    /**
+     * Builder for {@link EnsembleRunner}.
+     */
+    public static class Builder {
+
+        private static final int RUNS = 100;
+        private static final int MAX_TICKS = 1_000;
+
+        private final String diseaseType;
+        private int runs = RUNS;
+        private int maxTicks = MAX_TICKS;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private long seed = ThreadLocalRandom.current().nextLong();
+        private boolean consumed;
+
+        /**
+         * @param diseaseType
+         *                    type of the disease to simulate, as written in
+         *                    "DiseaseData.json"
+         */
+        public Builder(final String diseaseType) {
+            this.diseaseType = diseaseType;
+        }
+
+        /**
+         * @param runs the number of simulations
+         * @return this builder, for method chaining
+         */
+        public Builder setRuns(final int runs) {
+            if (runs <= 0) {
+                throw new IllegalArgumentException("runs must be positive");
+            }
+            this.runs = runs;
+            return this;
+        }
+
+        /**
+         * @param maxTicks the maximum number of ticks of every simulation
+         * @return this builder, for method chaining
+         */
+        public Builder setMaxTicks(final int maxTicks) {
+            if (maxTicks <= 0) {
+                throw new IllegalArgumentException("maxTicks must be positive");
+            }
+            this.maxTicks = maxTicks;
+            return this;
+        }
+
+        /**
+         * @param parallelism the number of threads, the number of available
+         *                    processors if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setParallelism(final int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param seed the seed every run seed is derived from, ensembles with
+         *             the same seed and settings produce the same result;
+         *             random if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setSeed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @return a new {@link EnsembleRunner}
+         */
+        public final EnsembleRunner build() {
+            if (this.consumed) {
+                throw new IllegalStateException("The builder can only be used once");
+            }
+            this.consumed = true;
+            return new EnsembleRunner(this.diseaseType, this.runs, this.maxTicks, this.parallelism,
+                    this.seed);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package globaloutbreak.simulation;
+
+/**
+ * Statistics computed over the runs of an ensemble.
+ */
+public enum EnsembleStatistic {
+    /**
+     * Arithmetic mean.
+     */
+    MEAN(-1),
+    /**
+     * 5th percentile.
+     */
+    P5(0.05),
+    /**
+     * Median.
+     */
+    P50(0.5),
+    /**
+     * 95th percentile.
+     */
+    P95(0.95);
+
+    private final double quantile;
+
+    EnsembleStatistic(final double quantile) {
+        this.quantile = quantile;
+    }
+
+    /**
+     * Returns the quantile this statistic represents, negative for the mean.
+     * 
+     * @return
+     *         quantile
+     */
+    public double getQuantile() {
+        return this.quantile;
+    }
+}
@@ -0,0 +1,172 @@
+package globaloutbreak.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import globaloutbreak.model.Model;
+import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.region.Region;
+
+/**
+ * A {@link SimulationRunner} that advances the model as fast as possible,
+ * without any view: messages are buffered instead of being displayed and
+ * there is no wait between ticks.
+ */
+public final class HeadlessSimulationRunner implements SimulationRunner {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final String diseaseType;
+    private final Optional<String> startRegion;
+    private final int maxTicks;
+    private final long seed;
+    private final List<TickListener> listeners;
+
+    private HeadlessSimulationRunner(final String diseaseType, final Optional<String> startRegion,
+            final int maxTicks, final long seed, final List<TickListener> listeners) {
+        this.diseaseType = diseaseType;
+        this.startRegion = startRegion;
+        this.maxTicks = maxTicks;
+        this.seed = seed;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public SimulationResult run() {
+        final Model model = createModel(this.diseaseType, this.startRegion, this.seed);
+        final MessageBuffer messages = new MessageBuffer();
+        model.addListener(messages);
+
+        int tick = 0;
+        while (tick < this.maxTicks && !model.isGameOver()) {
+            model.update();
+            for (final TickListener listener : this.listeners) {
+                listener.onTick(tick, model);
+            }
+            tick++;
+        }
+        this.logger.debug("Simulation of {} ended after {} ticks", this.diseaseType, tick);
+        final InfoData info = model.getInfo();
+        final int cureProgress = Objects.isNull(info.getCureData()) ? 0 : info.getCureData().getProgress();
+        return new SimulationResultImpl(this.seed, tick, model.getEndCause(), info.getTotalInfected(),
+                info.getTotalDeaths(), cureProgress, messages.getMessages());
+    }
+
+    /**
+     * Builds a model ready to run, with the world, the disease and the cure.
+     * 
+     * @param diseaseType
+     *                    type of the disease
+     * @param startRegion
+     *                    the region where the disease starts, the first if empty
+     * @param seed
+     *                    the seed of the random source
+     * @return
+     *         the model
+     */
+    static Model createModel(final String diseaseType, final Optional<String> startRegion, final long seed) {
+        final Model model = ModelBootstrap.create(diseaseType, seed);
+        model.setDiseaseName(diseaseType);
+        model.selectedRegion(Optional.of(startRegion.map(name -> findRegion(model.getRegions(), name))
+                .orElse(model.getRegions().get(0))));
+        return model;
+    }
+
+    /**
+     * @param regions
+     *                the regions
+     * @param name
+     *                the name of a region
+     * @return
+     *         the region with the given name
+     */
+    static Region findRegion(final List<Region> regions, final String name) {
+        return regions.stream()
+                .filter(r -> r.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No region named " + name));
+    }
+
+    /**
+     * Builder for {@link HeadlessSimulationRunner}.
+     */
+    public static class Builder {
+
+        private static final int MAX_TICKS = 10_000;
+
+        private final String diseaseType;
+        private Optional<String> startRegion = Optional.empty();
+        private int maxTicks = MAX_TICKS;
+        private long seed = ThreadLocalRandom.current().nextLong();
+        private final List<TickListener> listeners = new ArrayList<>();
+        private boolean consumed;
+
+        /**
+         * @param diseaseType
+         *                    type of the disease to simulate, as written in
+         *                    "DiseaseData.json"
+         */
+        public Builder(final String diseaseType) {
+            this.diseaseType = diseaseType;
+        }
+
+        /**
+         * @param name the region where the disease starts spreading, the first
+         *             region is used if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setStartRegion(final String name) {
+            this.startRegion = Optional.of(name);
+            return this;
+        }
+
+        /**
+         * @param maxTicks the maximum number of ticks to simulate
+         * @return this builder, for method chaining
+         */
+        public Builder setMaxTicks(final int maxTicks) {
+            if (maxTicks <= 0) {
+                throw new IllegalArgumentException("maxTicks must be positive");
+            }
+            this.maxTicks = maxTicks;
+            return this;
+        }
+
+        /**
+         * @param seed the seed of the simulation, runs with the same seed and
+         *             settings produce the same result; random if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setSeed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param listener a listener called after every tick
+         * @return this builder, for method chaining
+         */
+        public Builder addTickListener(final TickListener listener) {
+            this.listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * @return a new {@link HeadlessSimulationRunner}
+         */
+        public final HeadlessSimulationRunner build() {
+            if (this.consumed) {
+                throw new IllegalStateException("The builder can only be used once");
+            }
+            this.consumed = true;
+            return new HeadlessSimulationRunner(this.diseaseType, this.startRegion, this.maxTicks,
+                    this.seed, this.listeners);
+        }
+    }
+}
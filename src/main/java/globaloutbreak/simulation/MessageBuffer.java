@@ -0,0 +1,28 @@
+package globaloutbreak.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import globaloutbreak.model.message.Message;
+import globaloutbreak.model.observer.MessageListener;
+
+/**
+ * Collects the messages fired by the model instead of displaying them.
+ */
+final class MessageBuffer implements MessageListener {
+
+    private final List<Message> messages = new ArrayList<>();
+
+    @Override
+    public void onMessage(final Message message) {
+        this.messages.add(message);
+    }
+
+    /**
+     * @return
+     *         a copy of the collected messages
+     */
+    List<Message> getMessages() {
+        return List.copyOf(this.messages);
+    }
+}
@@ -0,0 +1,85 @@
+package globaloutbreak.simulation;
+
+import globaloutbreak.controller.disease.DiseaseController;
+import globaloutbreak.controller.disease.DiseaseControllerImpl;
+import globaloutbreak.controller.event.EventControllerImpl;
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.controller.voyage.VoyageControllerImpl;
+import globaloutbreak.diseasereader.DiseaseReaderImpl;
+import globaloutbreak.model.Model;
+import globaloutbreak.model.ModelImpl;
+import globaloutbreak.model.cure.Cure;
+import globaloutbreak.model.cure.SimpleCureReaderImpl;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+
+/**
+ * The only way a model is set up, shared by the game, the headless runners
+ * and the replays.
+ *
+ * The random source of the model is split while it is set up, so games with
+ * the same seed evolve the same way only if they are set up in the same
+ * order: keeping the order here keeps them from drifting apart.
+ */
+public final class ModelBootstrap {
+
+    private ModelBootstrap() {
+    }
+
+    /**
+     * Builds a model ready to run, with the world, the disease and the cure.
+     *
+     * @param diseaseType
+     *                    type of the disease
+     * @param seed
+     *                    the seed of the random source
+     * @return
+     *         the model
+     */
+    public static Model create(final String diseaseType, final long seed) {
+        final Model model = new ModelImpl(new XoroshiroRandomSource(seed));
+        setWorld(model, new RegionControllerImpl());
+        final DiseaseController diseaseController = new DiseaseControllerImpl();
+        diseaseController.readFile(new DiseaseReaderImpl().getDiseases());
+        setDisease(model, diseaseController, diseaseType);
+        return model;
+    }
+
+    /**
+     * First step: sets the regions, the voyages and the events.
+     *
+     * @param model
+     *                         a new model
+     * @param regionController
+     *                         the controller the regions are read from
+     */
+    public static void setWorld(final Model model, final RegionController regionController) {
+        model.setRegions(regionController.getRegions(), regionController.getStateStore());
+        model.setVoyages(new VoyageControllerImpl().createVoyage(model.getRandomSource().split()));
+        model.setEvents(new EventControllerImpl().createEvents());
+    }
+
+    /**
+     * Second step: sets the disease and the cure.
+     *
+     * @param model
+     *                          a model whose world is set
+     * @param diseaseController
+     *                          a controller that already read the diseases
+     * @param diseaseType
+     *                          type of the disease
+     * @throws IllegalStateException
+     *                               if the cure read from the configuration is
+     *                               not consistent
+     */
+    public static void setDisease(final Model model, final DiseaseController diseaseController,
+            final String diseaseType) {
+        model.setDisease(diseaseController.createDisease(diseaseType, model.getRandomSource().split()));
+        final Cure cure = new SimpleCureReaderImpl().getSimpleCure(model.getRegions(),
+                model.getRegionStates());
+        if (!cure.isConsistent()) {
+            throw new IllegalStateException("Unable to create a Cure instance");
+        }
+        model.setCure(cure);
+    }
+}
@@ -0,0 +1,71 @@
+package globaloutbreak.simulation;
+
+import java.util.Arrays;
+
+import globaloutbreak.model.Model;
+import globaloutbreak.model.infodata.InfoData;
+
+/**
+ * Per-tick values of a single run, stored in primitive columns.
+ */
+final class RunTrace implements TickListener {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] infected = new long[INITIAL_CAPACITY];
+    private long[] deaths = new long[INITIAL_CAPACITY];
+    private long[] cureProgress = new long[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void onTick(final int tick, final Model model) {
+        if (this.size == this.infected.length) {
+            final int capacity = this.size * 2;
+            this.infected = Arrays.copyOf(this.infected, capacity);
+            this.deaths = Arrays.copyOf(this.deaths, capacity);
+            this.cureProgress = Arrays.copyOf(this.cureProgress, capacity);
+        }
+        final InfoData info = model.getInfo();
+        this.infected[this.size] = info.getTotalInfected();
+        this.deaths[this.size] = info.getTotalDeaths();
+        this.cureProgress[this.size] = info.getCureData().getProgress();
+        this.size++;
+    }
+
+    /**
+     * @return
+     *         number of recorded ticks
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value of a metric at the given tick. Ticks after the end of
+     * the run repeat the last recorded value, so that ended runs still take
+     * part in the statistics.
+     * 
+     * @param metric
+     *               the metric
+     * @param tick
+     *               the tick
+     * @return
+     *         the value
+     */
+    long get(final EnsembleMetric metric, final int tick) {
+        if (this.size == 0) {
+            return 0;
+        }
+        final int index = Math.min(tick, this.size - 1);
+        switch (metric) {
+            case INFECTED:
+                return this.infected[index];
+            case DEATHS:
+                return this.deaths[index];
+            case CURE_PROGRESS:
+                return this.cureProgress[index];
+            default:
+                throw new IllegalArgumentException("Unknown metric " + metric);
+        }
+    }
+}
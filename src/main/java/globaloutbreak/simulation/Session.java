@@ -0,0 +1,83 @@
+package globaloutbreak.simulation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A game run by a {@link SimulationHost}.
+ *
+ * Inputs are queued and applied before the next tick, so they can be sent from
+ * any thread.
+ */
+public interface Session {
+
+    /**
+     * @return
+     *         the id of the session in its host
+     */
+    int getId();
+
+    /**
+     * @return
+     *         the settings the session was opened with
+     */
+    SessionSettings getSettings();
+
+    /**
+     * @return
+     *         the state of the session
+     */
+    SessionState getState();
+
+    /**
+     * @return
+     *         the current throughput of the session
+     */
+    SessionStats getStats();
+
+    /**
+     * @return
+     *         a future completed with the outcome of the game when it ends
+     */
+    CompletableFuture<SimulationResult> getResult();
+
+    /**
+     * @param tickPeriod
+     *                   the new time between two ticks, zero to run as fast as
+     *                   possible
+     */
+    void setTickPeriod(Duration tickPeriod);
+
+    /**
+     * Stops scheduling ticks until {@link #resume()}.
+     */
+    void pause();
+
+    /**
+     * Schedules ticks again after a {@link #pause()}.
+     */
+    void resume();
+
+    /**
+     * Selects a region before the next tick.
+     * 
+     * @param name
+     *             the name of the region
+     * @throws IllegalArgumentException
+     *                                  if there is no such region
+     */
+    void selectRegion(String name);
+
+    /**
+     * Buys or sells a mutation before the next tick.
+     * 
+     * @param name
+     *             the name of the mutation, as written in "Mutation.json"
+     */
+    void mutation(String name);
+
+    /**
+     * Ends the game before its last tick.
+     */
+    void close();
+}
@@ -0,0 +1,245 @@
+package globaloutbreak.simulation;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import globaloutbreak.controller.mutation.MutationController;
+import globaloutbreak.controller.mutation.MutationControllerImpl;
+import globaloutbreak.model.Model;
+import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.region.Region;
+
+/**
+ * A {@link Session} that runs its ticks as tasks of a shared executor.
+ *
+ * At most one task of a session is scheduled at a time, so the model is only
+ * touched by one worker at once. A session without a tick period runs a batch
+ * of ticks per task and then queues itself again, so fast games share the
+ * workers fairly instead of holding one each.
+ */
+// @formatter:off
+@SuppressFBWarnings(
+    value = "VO_VOLATILE_INCREMENT",
+    justification = "Only the task of the session, one at a time, writes the counters"
+)
+// @formatter:on
+final class SessionImpl implements Session, Runnable {
+
+    private static final int BATCH = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final int id;
+    private final SessionSettings settings;
+    private final ScheduledExecutorService executor;
+    private final Consumer<Session> onEnd;
+    private final Model model;
+    private final MessageBuffer messages = new MessageBuffer();
+    private final MutationController mutations = new MutationControllerImpl();
+    private final Queue<Consumer<Model>> inputs = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<SimulationResult> result = new CompletableFuture<>();
+
+    private volatile SessionState state = SessionState.PAUSED;
+    private volatile boolean closing;
+    private volatile long tickPeriodNanos;
+    private volatile int ticks;
+    private volatile long busyNanos;
+    private volatile long maxTickNanos;
+    private long activeNanos;
+    private long resumedAt;
+    private long nextDue;
+    private boolean scheduled;
+
+    SessionImpl(final int id, final SessionSettings settings, final ScheduledExecutorService executor,
+            final Consumer<Session> onEnd) {
+        this.id = id;
+        this.settings = settings;
+        this.executor = executor;
+        this.onEnd = onEnd;
+        this.tickPeriodNanos = settings.getTickPeriod().toNanos();
+        this.model = HeadlessSimulationRunner.createModel(settings.getDiseaseType(), settings.getStartRegion(),
+                settings.getSeed());
+        this.model.addListener(this.messages);
+    }
+
+    @Override
+    public void run() {
+        try {
+            final int batch = this.tickPeriodNanos == 0 ? BATCH : 1;
+            for (int i = 0; i < batch && this.state == SessionState.RUNNING && !this.closing; i++) {
+                this.tick();
+            }
+            if (this.closing) {
+                this.end(Optional.empty());
+            }
+        } catch (RuntimeException e) {
+            this.logger.error("Session {} failed at tick {}", this.id, this.ticks, e);
+            this.end(Optional.of(e));
+        }
+        synchronized (this) {
+            this.scheduled = false;
+            this.schedule();
+        }
+    }
+
+    private void tick() {
+        for (Consumer<Model> input = this.inputs.poll(); Objects.nonNull(input); input = this.inputs.poll()) {
+            input.accept(this.model);
+        }
+        final long start = System.nanoTime();
+        this.model.update();
+        final long elapsed = System.nanoTime() - start;
+        this.busyNanos += elapsed;
+        if (elapsed > this.maxTickNanos) {
+            this.maxTickNanos = elapsed;
+        }
+        this.ticks++;
+        if (this.model.isGameOver() || this.ticks >= this.settings.getMaxTicks()) {
+            this.end(Optional.empty());
+        }
+    }
+
+    /**
+     * Schedules the next task, if the session is running and has none.
+     */
+    private synchronized void schedule() {
+        if (this.scheduled || this.state != SessionState.RUNNING) {
+            return;
+        }
+        long delay = 0;
+        if (this.tickPeriodNanos > 0) {
+            final long now = System.nanoTime();
+            this.nextDue = Math.max(this.nextDue + this.tickPeriodNanos, now);
+            delay = this.nextDue - now;
+        }
+        try {
+            this.executor.schedule(this, delay, TimeUnit.NANOSECONDS);
+            this.scheduled = true;
+        } catch (RejectedExecutionException e) {
+            this.end(Optional.of(e));
+        }
+    }
+
+    private void end(final Optional<Exception> failure) {
+        synchronized (this) {
+            if (this.state == SessionState.ENDED) {
+                return;
+            }
+            if (this.state == SessionState.RUNNING) {
+                this.activeNanos += System.nanoTime() - this.resumedAt;
+            }
+            this.state = SessionState.ENDED;
+        }
+        // the host forgets the session before anyone waiting for the result wakes up
+        this.onEnd.accept(this);
+        if (failure.isPresent()) {
+            this.result.completeExceptionally(failure.get());
+        } else {
+            final InfoData info = this.model.getInfo();
+            final int cureProgress = Objects.isNull(info.getCureData()) ? 0 : info.getCureData().getProgress();
+            this.result.complete(new SimulationResultImpl(this.settings.getSeed(), this.ticks,
+                    this.model.getEndCause(), info.getTotalInfected(), info.getTotalDeaths(), cureProgress,
+                    this.messages.getMessages()));
+        }
+    }
+
+    @Override
+    public int getId() {
+        return this.id;
+    }
+
+    @Override
+    public SessionSettings getSettings() {
+        return this.settings;
+    }
+
+    @Override
+    public SessionState getState() {
+        return this.state;
+    }
+
+    @Override
+    public SessionStats getStats() {
+        long active;
+        synchronized (this) {
+            active = this.activeNanos;
+            if (this.state == SessionState.RUNNING) {
+                active += System.nanoTime() - this.resumedAt;
+            }
+        }
+        final int done = this.ticks;
+        return new SessionStats(this.id, this.state, done,
+                active == 0 ? 0 : done * (double) TimeUnit.SECONDS.toNanos(1) / active,
+                done == 0 ? 0 : (double) this.busyNanos / done, this.maxTickNanos);
+    }
+
+    @Override
+    public CompletableFuture<SimulationResult> getResult() {
+        return this.result;
+    }
+
+    @Override
+    public void setTickPeriod(final Duration tickPeriod) {
+        if (tickPeriod.isNegative()) {
+            throw new IllegalArgumentException("The tick period can't be negative");
+        }
+        this.tickPeriodNanos = tickPeriod.toNanos();
+    }
+
+    @Override
+    public synchronized void pause() {
+        if (this.state == SessionState.RUNNING) {
+            this.activeNanos += System.nanoTime() - this.resumedAt;
+            this.state = SessionState.PAUSED;
+        }
+    }
+
+    @Override
+    public synchronized void resume() {
+        if (this.state == SessionState.PAUSED) {
+            this.resumedAt = System.nanoTime();
+            this.nextDue = this.resumedAt;
+            this.state = SessionState.RUNNING;
+            this.schedule();
+        }
+    }
+
+    @Override
+    public void selectRegion(final String name) {
+        final Region region = HeadlessSimulationRunner.findRegion(this.model.getRegions(), name);
+        this.inputs.add(m -> m.selectedRegion(Optional.of(region)));
+    }
+
+    @Override
+    public void mutation(final String name) {
+        this.inputs.add(m -> this.mutations.update(name, m));
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            this.closing = true;
+            if (this.scheduled) {
+                return;
+            }
+        }
+        this.end(Optional.empty());
+    }
+
+    @Override
+    public String toString() {
+        return "Session [id=" + this.id + ", state=" + this.state + ", ticks=" + this.ticks + "]";
+    }
+}
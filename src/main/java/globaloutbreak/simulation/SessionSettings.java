@@ -0,0 +1,152 @@
+package globaloutbreak.simulation;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Settings of a game run by a {@link SimulationHost}.
+ */
+public final class SessionSettings {
+
+    private final String diseaseType;
+    private final Optional<String> startRegion;
+    private final long seed;
+    private final int maxTicks;
+    private final Duration tickPeriod;
+
+    private SessionSettings(final String diseaseType, final Optional<String> startRegion, final long seed,
+            final int maxTicks, final Duration tickPeriod) {
+        this.diseaseType = diseaseType;
+        this.startRegion = startRegion;
+        this.seed = seed;
+        this.maxTicks = maxTicks;
+        this.tickPeriod = tickPeriod;
+    }
+
+    /**
+     * @return
+     *         type of the disease, as written in "DiseaseData.json"
+     */
+    public String getDiseaseType() {
+        return this.diseaseType;
+    }
+
+    /**
+     * @return
+     *         the region where the disease starts, the first region if empty
+     */
+    public Optional<String> getStartRegion() {
+        return this.startRegion;
+    }
+
+    /**
+     * @return
+     *         the seed of the random source of the game
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @return
+     *         the number of ticks after which the game ends
+     */
+    public int getMaxTicks() {
+        return this.maxTicks;
+    }
+
+    /**
+     * @return
+     *         the time between two ticks, zero to run as fast as possible
+     */
+    public Duration getTickPeriod() {
+        return this.tickPeriod;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionSettings [diseaseType=" + this.diseaseType + ", startRegion=" + this.startRegion
+                + ", seed=" + this.seed + ", maxTicks=" + this.maxTicks + ", tickPeriod=" + this.tickPeriod + "]";
+    }
+
+    /**
+     * Builder for {@link SessionSettings}.
+     */
+    public static class Builder {
+
+        private static final int MAX_TICKS = 10_000;
+
+        private final String diseaseType;
+        private Optional<String> startRegion = Optional.empty();
+        private long seed = ThreadLocalRandom.current().nextLong();
+        private int maxTicks = MAX_TICKS;
+        private Duration tickPeriod = Duration.ZERO;
+        private boolean consumed;
+
+        /**
+         * @param diseaseType
+         *                    type of the disease, as written in
+         *                    "DiseaseData.json"
+         */
+        public Builder(final String diseaseType) {
+            this.diseaseType = diseaseType;
+        }
+
+        /**
+         * @param name the region where the disease starts spreading, the first
+         *             region is used if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setStartRegion(final String name) {
+            this.startRegion = Optional.of(name);
+            return this;
+        }
+
+        /**
+         * @param seed the seed of the game; random if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setSeed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param maxTicks the number of ticks after which the game ends
+         * @return this builder, for method chaining
+         */
+        public Builder setMaxTicks(final int maxTicks) {
+            if (maxTicks <= 0) {
+                throw new IllegalArgumentException("maxTicks must be positive");
+            }
+            this.maxTicks = maxTicks;
+            return this;
+        }
+
+        /**
+         * @param tickPeriod the time between two ticks, zero to run as fast as
+         *                   possible; zero if not set
+         * @return this builder, for method chaining
+         */
+        public Builder setTickPeriod(final Duration tickPeriod) {
+            if (tickPeriod.isNegative()) {
+                throw new IllegalArgumentException("The tick period can't be negative");
+            }
+            this.tickPeriod = tickPeriod;
+            return this;
+        }
+
+        /**
+         * @return the session settings
+         */
+        public final SessionSettings build() {
+            if (this.consumed) {
+                throw new IllegalStateException("The builder can only be used once");
+            }
+            this.consumed = true;
+            return new SessionSettings(this.diseaseType, this.startRegion, this.seed, this.maxTicks,
+                    this.tickPeriod);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package globaloutbreak.simulation;
+
+/**
+ * States of a {@link Session}.
+ */
+public enum SessionState {
+    /**
+     * Ticks are being scheduled.
+     */
+    RUNNING,
+    /**
+     * No tick is scheduled until the session is resumed.
+     */
+    PAUSED,
+    /**
+     * The game is over, reached its last tick or was closed.
+     */
+    ENDED
+}
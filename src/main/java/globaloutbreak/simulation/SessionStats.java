@@ -0,0 +1,93 @@
+package globaloutbreak.simulation;
+
+/**
+ * Throughput of a {@link Session}.
+ */
+public final class SessionStats {
+
+    private final int id;
+    private final SessionState state;
+    private final int ticks;
+    private final double ticksPerSecond;
+    private final double meanTickNanos;
+    private final long maxTickNanos;
+
+    /**
+     * @param id
+     *                       the id of the session
+     * @param state
+     *                       the state of the session
+     * @param ticks
+     *                       the number of ticks run
+     * @param ticksPerSecond
+     *                       ticks run per second of wall time while running
+     * @param meanTickNanos
+     *                       mean duration of a tick
+     * @param maxTickNanos
+     *                       longest duration of a tick
+     */
+    public SessionStats(final int id, final SessionState state, final int ticks, final double ticksPerSecond,
+            final double meanTickNanos, final long maxTickNanos) {
+        this.id = id;
+        this.state = state;
+        this.ticks = ticks;
+        this.ticksPerSecond = ticksPerSecond;
+        this.meanTickNanos = meanTickNanos;
+        this.maxTickNanos = maxTickNanos;
+    }
+
+    /**
+     * @return
+     *         the id of the session
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * @return
+     *         the state of the session
+     */
+    public SessionState getState() {
+        return this.state;
+    }
+
+    /**
+     * @return
+     *         the number of ticks run
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * @return
+     *         ticks run per second of wall time while running
+     */
+    public double getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    /**
+     * @return
+     *         mean duration of a tick, in nanoseconds
+     */
+    public double getMeanTickNanos() {
+        return this.meanTickNanos;
+    }
+
+    /**
+     * @return
+     *         longest duration of a tick, in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        return this.maxTickNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionStats [id=" + this.id + ", state=" + this.state + ", ticks=" + this.ticks
+                + ", ticksPerSecond=" + this.ticksPerSecond + ", meanTickNanos=" + this.meanTickNanos
+                + ", maxTickNanos=" + this.maxTickNanos + "]";
+    }
+}
@@ -0,0 +1,41 @@
+package globaloutbreak.simulation;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Runs many independent games in the same process, scheduling their ticks on
+ * a shared pool of workers.
+ */
+public interface SimulationHost extends AutoCloseable {
+
+    /**
+     * Builds a game and starts scheduling its ticks.
+     * 
+     * @param settings
+     *                 the settings of the game
+     * @return
+     *         the running session
+     */
+    Session open(SessionSettings settings);
+
+    /**
+     * @param id
+     *           the id of a session
+     * @return
+     *         the session, if it has not ended yet
+     */
+    Optional<Session> getSession(int id);
+
+    /**
+     * @return
+     *         the sessions that have not ended yet
+     */
+    Collection<Session> getSessions();
+
+    /**
+     * Closes every session and stops the workers.
+     */
+    @Override
+    void close();
+}
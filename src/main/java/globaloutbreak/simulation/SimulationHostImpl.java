@@ -0,0 +1,87 @@
+package globaloutbreak.simulation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SimulationHost} backed by a fixed pool of daemon workers, whatever
+ * the number of sessions.
+ */
+public final class SimulationHostImpl implements SimulationHost {
+
+    private static final long SHUTDOWN_SECONDS = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Creates a host with a worker per processor.
+     */
+    public SimulationHostImpl() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param workers
+     *                the number of threads running the ticks of every session
+     */
+    public SimulationHostImpl(final int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("At least one worker is needed");
+        }
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(workers, task -> {
+            final Thread thread = new Thread(task, "simulation-host-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public Session open(final SessionSettings settings) {
+        final int id = this.nextId.getAndIncrement();
+        final SessionImpl session = new SessionImpl(id, settings, this.executor,
+                ended -> this.sessions.remove(ended.getId()));
+        this.sessions.put(id, session);
+        session.resume();
+        this.logger.debug("Opened session {} with {}", id, settings);
+        return session;
+    }
+
+    @Override
+    public Optional<Session> getSession(final int id) {
+        return Optional.ofNullable(this.sessions.get(id));
+    }
+
+    @Override
+    public Collection<Session> getSessions() {
+        return List.copyOf(this.sessions.values());
+    }
+
+    @Override
+    public void close() {
+        this.getSessions().forEach(Session::close);
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
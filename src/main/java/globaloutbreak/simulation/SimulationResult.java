@@ -0,0 +1,70 @@
+package globaloutbreak.simulation;
+
+import java.util.List;
+import java.util.Optional;
+
+import globaloutbreak.model.endcauses.EndCauses;
+import globaloutbreak.model.message.Message;
+
+/**
+ * Outcome of a simulation.
+ */
+public interface SimulationResult {
+
+    /**
+     * Returns the seed the simulation was run with.
+     * 
+     * @return
+     *         seed
+     */
+    long getSeed();
+
+    /**
+     * Returns the number of ticks simulated.
+     * 
+     * @return
+     *         ticks
+     */
+    int getTicks();
+
+    /**
+     * Returns the reason the game ended, empty if the tick limit was reached
+     * first.
+     * 
+     * @return
+     *         end cause
+     */
+    Optional<EndCauses> getEndCause();
+
+    /**
+     * Returns the total number of infected at the end of the simulation.
+     * 
+     * @return
+     *         infected
+     */
+    long getTotalInfected();
+
+    /**
+     * Returns the total number of deaths at the end of the simulation.
+     * 
+     * @return
+     *         deaths
+     */
+    long getTotalDeaths();
+
+    /**
+     * Returns the progress of the cure at the end of the simulation.
+     * 
+     * @return
+     *         progress
+     */
+    int getCureProgress();
+
+    /**
+     * Returns the messages produced during the simulation, in order.
+     * 
+     * @return
+     *         messages
+     */
+    List<Message> getMessages();
+}
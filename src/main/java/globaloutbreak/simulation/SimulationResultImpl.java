@@ -0,0 +1,74 @@
+package globaloutbreak.simulation;
+
+import java.util.List;
+import java.util.Optional;
+
+import globaloutbreak.model.endcauses.EndCauses;
+import globaloutbreak.model.message.Message;
+
+/**
+ * Immutable implementation of {@link SimulationResult}.
+ */
+final class SimulationResultImpl implements SimulationResult {
+
+    private final long seed;
+    private final int ticks;
+    private final Optional<EndCauses> endCause;
+    private final long totalInfected;
+    private final long totalDeaths;
+    private final int cureProgress;
+    private final List<Message> messages;
+
+    SimulationResultImpl(final long seed, final int ticks, final Optional<EndCauses> endCause, final long totalInfected,
+            final long totalDeaths, final int cureProgress, final List<Message> messages) {
+        this.seed = seed;
+        this.ticks = ticks;
+        this.endCause = endCause;
+        this.totalInfected = totalInfected;
+        this.totalDeaths = totalDeaths;
+        this.cureProgress = cureProgress;
+        this.messages = List.copyOf(messages);
+    }
+
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    @Override
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    @Override
+    public Optional<EndCauses> getEndCause() {
+        return this.endCause;
+    }
+
+    @Override
+    public long getTotalInfected() {
+        return this.totalInfected;
+    }
+
+    @Override
+    public long getTotalDeaths() {
+        return this.totalDeaths;
+    }
+
+    @Override
+    public int getCureProgress() {
+        return this.cureProgress;
+    }
+
+    @Override
+    public List<Message> getMessages() {
+        return this.messages;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult [seed=" + this.seed + ", ticks=" + this.ticks + ", endCause=" + this.endCause
+                + ", totalInfected=" + this.totalInfected + ", totalDeaths=" + this.totalDeaths
+                + ", cureProgress=" + this.cureProgress + "]";
+    }
+}
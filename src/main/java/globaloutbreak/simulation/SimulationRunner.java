@@ -0,0 +1,15 @@
+package globaloutbreak.simulation;
+
+/**
+ * Runs a whole game without any user interaction.
+ */
+public interface SimulationRunner {
+
+    /**
+     * Runs the simulation until the game is over or the tick limit is reached.
+     * 
+     * @return
+     *         the outcome of the simulation
+     */
+    SimulationResult run();
+}
@@ -0,0 +1,20 @@
+package globaloutbreak.simulation;
+
+import globaloutbreak.model.Model;
+
+/**
+ * Listener called by a {@link SimulationRunner} after every tick.
+ */
+@FunctionalInterface
+public interface TickListener {
+
+    /**
+     * Called after the model has been updated.
+     * 
+     * @param tick
+     *              number of the tick just completed, starting from 0
+     * @param model
+     *              the simulated model
+     */
+    void onTick(int tick, Model model);
+}
@@ -0,0 +1,74 @@
+package globaloutbreak.simulation.replay;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A player input, applied before the update of a tick.
+ */
+public final class InputEvent {
+
+    private final int tick;
+    private final InputType type;
+    private final Optional<String> value;
+
+    /**
+     * @param tick
+     *              the number of updates done when the input was applied
+     * @param type
+     *              the input
+     * @param value
+     *              the argument of the input, if any
+     */
+    public InputEvent(final int tick, final InputType type, final Optional<String> value) {
+        this.tick = tick;
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * @return
+     *         the number of updates done when the input was applied
+     */
+    public int getTick() {
+        return this.tick;
+    }
+
+    /**
+     * @return
+     *         the input
+     */
+    public InputType getType() {
+        return this.type;
+    }
+
+    /**
+     * @return
+     *         the argument of the input, if any
+     */
+    public Optional<String> getValue() {
+        return this.value;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof InputEvent)) {
+            return false;
+        }
+        final InputEvent other = (InputEvent) obj;
+        return this.tick == other.tick && this.type == other.type && this.value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.tick, this.type, this.value);
+    }
+
+    @Override
+    public String toString() {
+        return "InputEvent [tick=" + this.tick + ", type=" + this.type + ", value=" + this.value + "]";
+    }
+}
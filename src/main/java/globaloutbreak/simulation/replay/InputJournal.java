@@ -0,0 +1,97 @@
+package globaloutbreak.simulation.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import globaloutbreak.model.Model;
+
+/**
+ * Everything needed to replay a game: the seed of the model, the chosen
+ * disease, the player inputs keyed by tick and the checksum of the state after
+ * every tick.
+ *
+ * A journal is not thread safe, inputs and ticks must be recorded while the
+ * model is not being updated.
+ */
+public interface InputJournal {
+
+    /**
+     * @return
+     *         the seed of the random source of the model
+     */
+    long getSeed();
+
+    /**
+     * @param type
+     *             the type of the chosen disease
+     */
+    void setDiseaseType(String type);
+
+    /**
+     * @return
+     *         the type of the chosen disease, if already chosen
+     */
+    Optional<String> getDiseaseType();
+
+    /**
+     * @param name
+     *             the name given to the disease
+     */
+    void setDiseaseName(String name);
+
+    /**
+     * @return
+     *         the name given to the disease, if already given
+     */
+    Optional<String> getDiseaseName();
+
+    /**
+     * Records an input applied before the next tick.
+     * 
+     * @param type
+     *              the input
+     * @param value
+     *              the argument of the input, if any
+     */
+    void record(InputType type, Optional<String> value);
+
+    /**
+     * Records the checksum of the state after an update.
+     * 
+     * @param model
+     *              the updated model
+     */
+    void tickCompleted(Model model);
+
+    /**
+     * @return
+     *         the number of recorded ticks
+     */
+    int getTicks();
+
+    /**
+     * @param tick
+     *             the tick
+     * @return
+     *         the checksum of the state after the tick
+     */
+    long getChecksum(int tick);
+
+    /**
+     * @return
+     *         the recorded inputs, ordered by tick
+     */
+    List<InputEvent> getInputs();
+
+    /**
+     * Writes the journal as JSON.
+     * 
+     * @param path
+     *             the file, replaced if it exists
+     * @throws IOException
+     *                     if the file can't be written
+     */
+    void save(Path path) throws IOException;
+}
@@ -0,0 +1,157 @@
+package globaloutbreak.simulation.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import globaloutbreak.model.Model;
+
+/**
+ * An {@link InputJournal} kept in memory and saved as JSON.
+ */
+public final class InputJournalImpl implements InputJournal {
+
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long seed;
+    private Optional<String> diseaseType = Optional.empty();
+    private Optional<String> diseaseName = Optional.empty();
+    private final List<InputEvent> inputs = new ArrayList<>();
+    private long[] checksums = new long[INITIAL_CAPACITY];
+    private int ticks;
+
+    /**
+     * Creates an empty journal.
+     * 
+     * @param seed
+     *             the seed of the random source of the model
+     */
+    public InputJournalImpl(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Reads a journal written by {@link #save}.
+     * 
+     * @param path
+     *             the file
+     * @return
+     *         the journal
+     * @throws IOException
+     *                     if the file can't be read or is not a journal
+     */
+    public static InputJournal load(final Path path) throws IOException {
+        final JsonNode node = new ObjectMapper().readTree(path.toFile());
+        if (node.path("version").asInt() != VERSION) {
+            throw new IOException(path + " is not a journal of version " + VERSION);
+        }
+        final InputJournalImpl journal = new InputJournalImpl(node.path("seed").asLong());
+        journal.diseaseType = text(node.get("diseaseType"));
+        journal.diseaseName = text(node.get("diseaseName"));
+        try {
+            for (final JsonNode input : node.path("inputs")) {
+                journal.inputs.add(new InputEvent(input.path("tick").asInt(),
+                        InputType.valueOf(input.path("type").asText().toUpperCase(Locale.ROOT)),
+                        text(input.get("value"))));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown input in " + path, e);
+        }
+        final JsonNode checksums = node.path("checksums");
+        journal.checksums = new long[Math.max(INITIAL_CAPACITY, checksums.size())];
+        for (final JsonNode checksum : checksums) {
+            journal.checksums[journal.ticks++] = checksum.asLong();
+        }
+        return journal;
+    }
+
+    private static Optional<String> text(final JsonNode node) {
+        return Objects.isNull(node) || node.isNull() ? Optional.empty() : Optional.of(node.asText());
+    }
+
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    @Override
+    public void setDiseaseType(final String type) {
+        this.diseaseType = Optional.of(type);
+    }
+
+    @Override
+    public Optional<String> getDiseaseType() {
+        return this.diseaseType;
+    }
+
+    @Override
+    public void setDiseaseName(final String name) {
+        this.diseaseName = Optional.of(name);
+    }
+
+    @Override
+    public Optional<String> getDiseaseName() {
+        return this.diseaseName;
+    }
+
+    @Override
+    public void record(final InputType type, final Optional<String> value) {
+        this.inputs.add(new InputEvent(this.ticks, type, value));
+    }
+
+    @Override
+    public void tickCompleted(final Model model) {
+        if (this.ticks == this.checksums.length) {
+            this.checksums = Arrays.copyOf(this.checksums, this.ticks * 2);
+        }
+        this.checksums[this.ticks++] = StateChecksum.of(model);
+    }
+
+    @Override
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    @Override
+    public long getChecksum(final int tick) {
+        return this.checksums[Objects.checkIndex(tick, this.ticks)];
+    }
+
+    @Override
+    public List<InputEvent> getInputs() {
+        return List.copyOf(this.inputs);
+    }
+
+    @Override
+    public void save(final Path path) throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectNode node = mapper.createObjectNode();
+        node.put("version", VERSION);
+        node.put("seed", this.seed);
+        node.put("diseaseType", this.diseaseType.orElse(null));
+        node.put("diseaseName", this.diseaseName.orElse(null));
+        final ArrayNode inputList = node.putArray("inputs");
+        for (final InputEvent input : this.inputs) {
+            final ObjectNode entry = inputList.addObject();
+            entry.put("tick", input.getTick());
+            entry.put("type", input.getType().name().toLowerCase(Locale.ROOT));
+            entry.put("value", input.getValue().orElse(null));
+        }
+        final ArrayNode checksumList = node.putArray("checksums");
+        for (int i = 0; i < this.ticks; i++) {
+            checksumList.add(this.checksums[i]);
+        }
+        mapper.writeValue(path.toFile(), node);
+    }
+}
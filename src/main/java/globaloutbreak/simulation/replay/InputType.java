@@ -0,0 +1,23 @@
+package globaloutbreak.simulation.replay;
+
+/**
+ * Player inputs recorded in an {@link InputJournal}.
+ */
+public enum InputType {
+    /**
+     * A region was selected or deselected, the value is the region name.
+     */
+    SELECT_REGION,
+    /**
+     * A mutation was bought or sold, the value is the mutation name.
+     */
+    MUTATION,
+    /**
+     * The game speed changed, the value is the speed name.
+     */
+    GAME_SPEED,
+    /**
+     * The game was paused or restarted.
+     */
+    START_STOP
+}
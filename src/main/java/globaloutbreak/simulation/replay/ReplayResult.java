@@ -0,0 +1,53 @@
+package globaloutbreak.simulation.replay;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a {@link ReplayRunner}.
+ */
+public final class ReplayResult {
+
+    private final int ticks;
+    private final Optional<Integer> firstMismatch;
+
+    /**
+     * @param ticks
+     *                      the number of replayed ticks
+     * @param firstMismatch
+     *                      the first tick whose checksum differs from the
+     *                      journal, if any
+     */
+    public ReplayResult(final int ticks, final Optional<Integer> firstMismatch) {
+        this.ticks = ticks;
+        this.firstMismatch = firstMismatch;
+    }
+
+    /**
+     * @return
+     *         the number of replayed ticks
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * @return
+     *         the first tick whose checksum differs from the journal, if any
+     */
+    public Optional<Integer> getFirstMismatch() {
+        return this.firstMismatch;
+    }
+
+    /**
+     * @return
+     *         {@code true} if every tick matched the journal
+     */
+    public boolean isConsistent() {
+        return this.firstMismatch.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayResult [ticks=" + this.ticks + ", firstMismatch=" + this.firstMismatch + "]";
+    }
+}
@@ -0,0 +1,137 @@
+package globaloutbreak.simulation.replay;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import globaloutbreak.controller.mutation.MutationController;
+import globaloutbreak.controller.mutation.MutationControllerImpl;
+import globaloutbreak.model.Model;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.simulation.ModelBootstrap;
+import globaloutbreak.simulation.TickListener;
+
+/**
+ * Re-executes a recorded game at full speed and checks the state of every
+ * tick against the checksums of its {@link InputJournal}.
+ *
+ * The model is built by {@link ModelBootstrap}, like the game builds it, so
+ * the random source is split the same way, then the inputs of each tick are
+ * applied before its update. The replay stops at the first mismatch, since the
+ * states that follow are no longer comparable.
+ */
+public final class ReplayRunner {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final InputJournal journal;
+    private final List<TickListener> listeners;
+
+    private ReplayRunner(final InputJournal journal, final List<TickListener> listeners) {
+        this.journal = journal;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    /**
+     * @return
+     *         the outcome of the replay
+     */
+    public ReplayResult run() {
+        final Model model = this.createModel();
+        final MutationController mutations = new MutationControllerImpl();
+        final Iterator<InputEvent> inputs = this.journal.getInputs().iterator();
+        Optional<InputEvent> next = inputs.hasNext() ? Optional.of(inputs.next()) : Optional.empty();
+
+        for (int tick = 0; tick < this.journal.getTicks(); tick++) {
+            while (next.isPresent() && next.get().getTick() <= tick) {
+                this.apply(next.get(), model, mutations);
+                next = inputs.hasNext() ? Optional.of(inputs.next()) : Optional.empty();
+            }
+            model.update();
+            for (final TickListener listener : this.listeners) {
+                listener.onTick(tick, model);
+            }
+            if (StateChecksum.of(model) != this.journal.getChecksum(tick)) {
+                this.logger.warn("Replay diverged from the journal at tick {}", tick);
+                return new ReplayResult(tick + 1, Optional.of(tick));
+            }
+        }
+        return new ReplayResult(this.journal.getTicks(), Optional.empty());
+    }
+
+    private Model createModel() {
+        final String type = this.journal.getDiseaseType()
+                .orElseThrow(() -> new IllegalStateException("The journal has no disease"));
+        final Model model = ModelBootstrap.create(type, this.journal.getSeed());
+        model.setDiseaseName(this.journal.getDiseaseName().orElse(type));
+        return model;
+    }
+
+    private void apply(final InputEvent input, final Model model, final MutationController mutations) {
+        switch (input.getType()) {
+            case SELECT_REGION:
+                model.selectedRegion(input.getValue().map(name -> findRegion(model, name)));
+                break;
+            case MUTATION:
+                mutations.update(input.getValue()
+                        .orElseThrow(() -> new IllegalStateException("Mutation without a name at tick "
+                                + input.getTick())),
+                        model);
+                break;
+            default:
+                this.logger.debug("{} has no effect on the model", input);
+                break;
+        }
+    }
+
+    private static Region findRegion(final Model model, final String name) {
+        return model.getRegions().stream()
+                .filter(r -> r.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No region named " + name));
+    }
+
+    /**
+     * Builder for {@link ReplayRunner}.
+     */
+    public static class Builder {
+
+        private final InputJournal journal;
+        private final List<TickListener> listeners = new ArrayList<>();
+        private boolean consumed;
+
+        /**
+         * @param journal
+         *                the recorded game
+         */
+        public Builder(final InputJournal journal) {
+            this.journal = journal;
+        }
+
+        /**
+         * @param listener
+         *                 called after every replayed tick, for example to
+         *                 record a trace of the game
+         * @return this builder, for method chaining
+         */
+        public Builder addTickListener(final TickListener listener) {
+            this.listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * @return the replay runner
+         */
+        public final ReplayRunner build() {
+            if (this.consumed) {
+                throw new IllegalStateException("The builder can only be used once");
+            }
+            this.consumed = true;
+            return new ReplayRunner(this.journal, this.listeners);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package globaloutbreak.simulation.replay;
+
+import java.util.Objects;
+
+import globaloutbreak.model.Model;
+import globaloutbreak.model.cure.CureData;
+import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.region.Region;
+
+/**
+ * 64 bit FNV-1a hash of the observable state of a model: the totals, the
+ * points, the cure progress and the infected, deaths and cure status of every
+ * region.
+ */
+public final class StateChecksum {
+
+    private static final long OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long PRIME = 0x100000001B3L;
+
+    private StateChecksum() {
+    }
+
+    /**
+     * @param model
+     *              the model
+     * @return
+     *         the checksum of its state
+     */
+    public static long of(final Model model) {
+        final InfoData info = model.getInfo();
+        final CureData cure = info.getCureData();
+        long hash = OFFSET_BASIS;
+        hash = mix(hash, info.getTotalInfected());
+        hash = mix(hash, info.getTotalDeaths());
+        hash = mix(hash, info.getPoints());
+        hash = mix(hash, Objects.isNull(cure) ? -1 : cure.getProgress());
+        for (final Region region : model.getRegions()) {
+            hash = mix(hash, region.getNumInfected());
+            hash = mix(hash, region.getNumDeath());
+            hash = mix(hash, region.getCureStatus().ordinal());
+        }
+        return hash;
+    }
+
+    private static long mix(final long hash, final long value) {
+        long result = hash;
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            result ^= (value >>> shift) & 0xFF;
+            result *= PRIME;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package globaloutbreak.simulation.trace;
+
+/**
+ * Layout of a trace file.
+ *
+ * The header holds the counts and the region names, then every tick is a
+ * record of fixed size, so the record of a tick is found without an index:
+ * the global aggregates followed by the infected, deaths and cure status
+ * columns of the regions.
+ */
+final class TraceFormat {
+
+    static final int MAGIC = 0x474F5452;
+    static final int VERSION = 1;
+
+    static final int REGIONS_OFFSET = 8;
+    static final int RECORD_SIZE_OFFSET = 12;
+    static final int HEADER_SIZE_OFFSET = 16;
+    static final int TICKS_OFFSET = 24;
+    static final int NAMES_OFFSET = 32;
+
+    static final int INFECTED_TOTAL = 0;
+    static final int DEATHS_TOTAL = 8;
+    static final int POINTS = 16;
+    static final int CURE_PROGRESS = 20;
+    static final int REMAINING_DAYS = 24;
+    static final int COLUMNS = 32;
+
+    private TraceFormat() {
+    }
+
+    static int align(final long size) {
+        return Math.toIntExact((size + Long.BYTES - 1) / Long.BYTES * Long.BYTES);
+    }
+
+    static int recordSize(final int regions) {
+        return align(COLUMNS + (long) regions * (2 * Long.BYTES + 1));
+    }
+
+    static int infectedOffset(final int region) {
+        return COLUMNS + region * Long.BYTES;
+    }
+
+    static int deathsOffset(final int regions, final int region) {
+        return COLUMNS + (regions + region) * Long.BYTES;
+    }
+
+    static int cureStatusOffset(final int regions, final int region) {
+        return COLUMNS + 2 * regions * Long.BYTES + region;
+    }
+}
@@ -0,0 +1,288 @@
+package globaloutbreak.simulation.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import globaloutbreak.model.cure.RegionCureStatus;
+
+/**
+ * Random access to a trace file written by a {@link TraceRecorder}.
+ *
+ * The records are mapped in segments on demand, so a trace larger than the
+ * heap, or than a single mapping, can be read from any tick.
+ */
+public final class TraceReader implements Closeable {
+
+    private static final long SEGMENT_SIZE = 1L << 30;
+    private static final RegionCureStatus[] STATUSES = RegionCureStatus.values();
+
+    private final FileChannel channel;
+    private final int regions;
+    private final int recordSize;
+    private final int headerSize;
+    private final int ticks;
+    private final int ticksPerSegment;
+    private final List<String> names;
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * @param path
+     *             the file
+     * @throws IOException
+     *                     if the file can't be read or is not a trace
+     */
+    public TraceReader(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (this.channel.size() < TraceFormat.NAMES_OFFSET) {
+                throw new IOException(path + " is not a trace");
+            }
+            final ByteBuffer fixed = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, TraceFormat.NAMES_OFFSET);
+            if (fixed.getInt() != TraceFormat.MAGIC) {
+                throw new IOException(path + " is not a trace");
+            }
+            final int version = fixed.getInt();
+            if (version != TraceFormat.VERSION) {
+                throw new IOException("Unsupported trace version " + version);
+            }
+            this.regions = fixed.getInt(TraceFormat.REGIONS_OFFSET);
+            this.recordSize = fixed.getInt(TraceFormat.RECORD_SIZE_OFFSET);
+            this.headerSize = fixed.getInt(TraceFormat.HEADER_SIZE_OFFSET);
+            final long complete = (this.channel.size() - this.headerSize) / this.recordSize;
+            this.ticks = (int) Math.min(fixed.getLong(TraceFormat.TICKS_OFFSET), complete);
+
+            final ByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.headerSize);
+            header.position(TraceFormat.NAMES_OFFSET);
+            final List<String> list = new ArrayList<>(this.regions);
+            for (int i = 0; i < this.regions; i++) {
+                final byte[] name = new byte[header.getInt()];
+                header.get(name);
+                list.add(new String(name, StandardCharsets.UTF_8));
+            }
+            this.names = List.copyOf(list);
+            this.ticksPerSegment = (int) Math.max(1, SEGMENT_SIZE / this.recordSize);
+            this.segments = new MappedByteBuffer[(this.ticks + this.ticksPerSegment - 1) / this.ticksPerSegment];
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer segment(final int tick) {
+        Objects.checkIndex(tick, this.ticks);
+        final int index = tick / this.ticksPerSegment;
+        if (Objects.isNull(this.segments[index])) {
+            final long first = (long) index * this.ticksPerSegment;
+            final long length = Math.min(this.ticksPerSegment, this.ticks - first) * this.recordSize;
+            try {
+                this.segments[index] = this.channel.map(FileChannel.MapMode.READ_ONLY,
+                        this.headerSize + first * this.recordSize, length);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to map the ticks from " + first, e);
+            }
+        }
+        return this.segments[index];
+    }
+
+    private int record(final int tick) {
+        return tick % this.ticksPerSegment * this.recordSize;
+    }
+
+    /**
+     * @return
+     *         the number of recorded ticks
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * @return
+     *         the number of regions
+     */
+    public int getRegionCount() {
+        return this.regions;
+    }
+
+    /**
+     * @return
+     *         the names of the regions, in column order
+     */
+    public List<String> getRegionNames() {
+        return this.names;
+    }
+
+    /**
+     * @param tick
+     *             the tick
+     * @return
+     *         the infected of the world
+     */
+    public long getTotalInfected(final int tick) {
+        return this.segment(tick).getLong(this.record(tick) + TraceFormat.INFECTED_TOTAL);
+    }
+
+    /**
+     * @param tick
+     *             the tick
+     * @return
+     *         the deaths of the world
+     */
+    public long getTotalDeaths(final int tick) {
+        return this.segment(tick).getLong(this.record(tick) + TraceFormat.DEATHS_TOTAL);
+    }
+
+    /**
+     * @param tick
+     *             the tick
+     * @return
+     *         the points of the player
+     */
+    public int getPoints(final int tick) {
+        return this.segment(tick).getInt(this.record(tick) + TraceFormat.POINTS);
+    }
+
+    /**
+     * @param tick
+     *             the tick
+     * @return
+     *         the progress of the cure
+     */
+    public int getCureProgress(final int tick) {
+        return this.segment(tick).getInt(this.record(tick) + TraceFormat.CURE_PROGRESS);
+    }
+
+    /**
+     * @param tick
+     *             the tick
+     * @return
+     *         the days left to complete the cure, if known
+     */
+    public Optional<Integer> getRemainingDays(final int tick) {
+        final int days = this.segment(tick).getInt(this.record(tick) + TraceFormat.REMAINING_DAYS);
+        return days < 0 ? Optional.empty() : Optional.of(days);
+    }
+
+    /**
+     * @param tick
+     *               the tick
+     * @param region
+     *               the column of the region
+     * @return
+     *         the infected of the region
+     */
+    public long getInfected(final int tick, final int region) {
+        Objects.checkIndex(region, this.regions);
+        return this.segment(tick).getLong(this.record(tick) + TraceFormat.infectedOffset(region));
+    }
+
+    /**
+     * @param tick
+     *               the tick
+     * @param region
+     *               the column of the region
+     * @return
+     *         the deaths of the region
+     */
+    public long getDeaths(final int tick, final int region) {
+        Objects.checkIndex(region, this.regions);
+        return this.segment(tick).getLong(this.record(tick) + TraceFormat.deathsOffset(this.regions, region));
+    }
+
+    /**
+     * @param tick
+     *               the tick
+     * @param region
+     *               the column of the region
+     * @return
+     *         the cure status of the region
+     */
+    public RegionCureStatus getCureStatus(final int tick, final int region) {
+        Objects.checkIndex(region, this.regions);
+        return STATUSES[this.segment(tick).get(this.record(tick) + TraceFormat.cureStatusOffset(this.regions,
+                region))];
+    }
+
+    /**
+     * Copies the infected of every region at a tick.
+     * 
+     * @param tick
+     *                 the tick
+     * @param infected
+     *                 filled with one value per region
+     */
+    public void readInfected(final int tick, final long[] infected) {
+        this.segment(tick).slice(this.record(tick) + TraceFormat.infectedOffset(0), this.regions * Long.BYTES)
+                .asLongBuffer().get(infected, 0, this.regions);
+    }
+
+    /**
+     * Copies the deaths of every region at a tick.
+     * 
+     * @param tick
+     *               the tick
+     * @param deaths
+     *               filled with one value per region
+     */
+    public void readDeaths(final int tick, final long[] deaths) {
+        this.segment(tick).slice(this.record(tick) + TraceFormat.deathsOffset(this.regions, 0),
+                this.regions * Long.BYTES).asLongBuffer().get(deaths, 0, this.regions);
+    }
+
+    /**
+     * Copies the infected of a region over consecutive ticks.
+     * 
+     * @param region
+     *                   the column of the region
+     * @param fromTick
+     *                   the first tick
+     * @param trajectory
+     *                   filled from the first tick onwards
+     * @return
+     *         the number of copied ticks, less than the length of the array if
+     *         the trace ends first
+     */
+    public int readInfectedTrajectory(final int region, final int fromTick, final long[] trajectory) {
+        final int count = Math.max(0, Math.min(trajectory.length, this.ticks - fromTick));
+        for (int i = 0; i < count; i++) {
+            trajectory[i] = this.getInfected(fromTick + i, region);
+        }
+        return count;
+    }
+
+    /**
+     * Copies the deaths of a region over consecutive ticks.
+     * 
+     * @param region
+     *                   the column of the region
+     * @param fromTick
+     *                   the first tick
+     * @param trajectory
+     *                   filled from the first tick onwards
+     * @return
+     *         the number of copied ticks, less than the length of the array if
+     *         the trace ends first
+     */
+    public int readDeathsTrajectory(final int region, final int fromTick, final long[] trajectory) {
+        final int count = Math.max(0, Math.min(trajectory.length, this.ticks - fromTick));
+        for (int i = 0; i < count; i++) {
+            trajectory[i] = this.getDeaths(fromTick + i, region);
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,155 @@
+package globaloutbreak.simulation.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+import globaloutbreak.model.Model;
+import globaloutbreak.model.cure.CureData;
+import globaloutbreak.model.infodata.InfoData;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
+import globaloutbreak.simulation.TickListener;
+
+/**
+ * Appends the state of every tick to a trace file, read back with a
+ * {@link TraceReader}.
+ *
+ * Every record is gathered in a direct buffer, read from the columns of the
+ * region store, and written through the channel right after the previous
+ * one, then the tick count in the mapped header is updated: the history of a
+ * run never sits on the heap, the file never grows past the complete records
+ * and a file left by a crashed run is still readable up to the last complete
+ * tick.
+ */
+public final class TraceRecorder implements TickListener, Closeable {
+
+    private final FileChannel channel;
+    private MappedByteBuffer header;
+    private ByteBuffer record;
+    private int regions;
+    private int recordSize;
+    private int headerSize;
+    private int ticks;
+    private long[] deaths;
+    private byte[] cureStatus;
+
+    /**
+     * Creates or replaces a trace file.
+     * 
+     * @param path
+     *             the file
+     * @throws IOException
+     *                     if the file can't be opened
+     */
+    public TraceRecorder(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes the record of a tick. The header is written with the first record,
+     * since the regions are known only then.
+     * 
+     * @throws UncheckedIOException
+     *                              if the file can't grow
+     */
+    @Override
+    public void onTick(final int tick, final Model model) {
+        try {
+            final RegionStateStore store = model.getRegionStates();
+            if (Objects.isNull(this.header)) {
+                this.writeHeader(model.getRegions());
+            } else if (store.size() != this.regions) {
+                throw new IllegalStateException("The trace has " + this.regions + " regions, the model "
+                        + store.size());
+            }
+            this.append(model.getInfo(), store);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeHeader(final List<Region> list) throws IOException {
+        final byte[][] names = new byte[list.size()][];
+        long namesSize = 0;
+        int i = 0;
+        for (final Region region : list) {
+            names[i] = region.getName().getBytes(StandardCharsets.UTF_8);
+            namesSize += Integer.BYTES + names[i].length;
+            i++;
+        }
+        this.regions = list.size();
+        this.recordSize = TraceFormat.recordSize(this.regions);
+        this.headerSize = TraceFormat.align(TraceFormat.NAMES_OFFSET + namesSize);
+        this.record = ByteBuffer.allocateDirect(this.recordSize);
+        this.deaths = new long[this.regions];
+        this.cureStatus = new byte[this.regions];
+
+        this.header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, this.headerSize);
+        this.header.putInt(TraceFormat.MAGIC)
+                .putInt(TraceFormat.VERSION)
+                .putInt(this.regions)
+                .putInt(this.recordSize)
+                .putInt(this.headerSize)
+                .putInt(0)
+                .putLong(0);
+        for (final byte[] name : names) {
+            this.header.putInt(name.length).put(name);
+        }
+    }
+
+    private void append(final InfoData info, final RegionStateStore store) throws IOException {
+        for (int i = 0; i < this.regions; i++) {
+            this.deaths[i] = store.getDeaths(i);
+            this.cureStatus[i] = (byte) store.getCureStatus(i).ordinal();
+        }
+        final CureData cure = info.getCureData();
+        this.record.clear();
+        this.record.putLong(info.getTotalInfected())
+                .putLong(info.getTotalDeaths())
+                .putInt(info.getPoints())
+                .putInt(Objects.isNull(cure) ? 0 : cure.getProgress())
+                .putInt(Objects.isNull(cure) ? -1 : cure.getRemainingDays().orElse(-1))
+                .putInt(0);
+        this.record.asLongBuffer().put(store.infectedColumn(), 0, this.regions).put(this.deaths);
+        this.record.position(TraceFormat.cureStatusOffset(this.regions, 0));
+        this.record.put(this.cureStatus);
+        this.record.clear();
+        long position = this.headerSize + (long) this.ticks * this.recordSize;
+        while (this.record.hasRemaining()) {
+            position += this.channel.write(this.record, position);
+        }
+        this.ticks++;
+        this.header.putLong(TraceFormat.TICKS_OFFSET, this.ticks);
+    }
+
+    /**
+     * @return
+     *         the number of recorded ticks
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (Objects.isNull(this.header)) {
+                this.writeHeader(List.of());
+            }
+            this.header.force();
+            this.channel.force(false);
+        } finally {
+            this.channel.close();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package globaloutbreak.view;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import globaloutbreak.controller.Controller;
 import globaloutbreak.controller.region.TypeOfInfo;
@@ -46,12 +47,10 @@ public interface View {
     InfoData getInfoData();
 
     /**
-     * Display the message notification.
-     * 
-     * @param message
-     *                to display
+     * Notifies that the controller has queued messages. They are drained and
+     * displayed on the FX thread, the caller never waits for them.
      */
-    void displayMessage(Message message);
+    void messagesPending();
 
     /**
      * Display the Voyage.
@@ -88,8 +87,12 @@ public interface View {
 
     /**
      * Start or stop the game.
+     * 
+     * @return
+     *         a future completed, once the game loop has switched, with
+     *         {@code true} if the game is running
      */
-    void startStop();
+    CompletableFuture<Boolean> startStop();
 
     /**
      * Returns the GameSettings.
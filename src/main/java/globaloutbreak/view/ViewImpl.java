@@ -5,7 +5,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,8 @@ public final class ViewImpl implements View {
     private int cost;
     private int points;
     private float increase;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private int openMessages;
 
     /**
      * Creates a VIewImpl.
@@ -75,18 +78,25 @@ public final class ViewImpl implements View {
     }
 
     @Override
-    public void displayMessage(final Message message) {
-        final CountDownLatch latch = new CountDownLatch(1);
-
-        Platform.runLater(() -> this.manager.openMessage(message, latch));
-        this.controller.startStop();
+    public void messagesPending() {
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::displayMessages);
+        }
+    }
 
-        try {
-            latch.await();
-        } catch (InterruptedException e) {
-            this.logger.warn("Latch interrupted", e);
+    private void displayMessages() {
+        this.drainScheduled.set(false);
+        for (final Message message : this.controller.drainMessages()) {
+            this.openMessages++;
+            this.manager.openMessage(message, this::messageClosed);
         }
+    }
 
+    private void messageClosed() {
+        this.openMessages--;
+        if (this.openMessages == 0) {
+            this.controller.messagesDisplayed();
+        }
     }
 
     @Override
@@ -194,8 +204,8 @@ public final class ViewImpl implements View {
     }
 
     @Override
-    public void startStop() {
-        this.controller.startStop();
+    public CompletableFuture<Boolean> startStop() {
+        return this.controller.startStop();
     }
 
     @Override
@@ -1,9 +1,6 @@
 package globaloutbreak.view.messagedialog;
 
-import java.util.concurrent.CountDownLatch;
-
 import globaloutbreak.model.message.Message;
-import globaloutbreak.view.View;
 import javafx.geometry.Pos;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
@@ -30,13 +27,10 @@ public final class MessageDialog {
      *                stageOwner
      * @param message
      *                Message
-     * @param view
-     *                view
-     * @param latch
-     *                CountDownLatch
+     * @param onClose
+     *                called when the dialog is closed
      */
-    public static void showMessageDialog(final Stage owner, final Message message, final View view,
-            final CountDownLatch latch) {
+    public static void showMessageDialog(final Stage owner, final Message message, final Runnable onClose) {
         final Stage s = new Stage();
         s.initOwner(owner);
         s.initModality(Modality.APPLICATION_MODAL);
@@ -45,8 +39,7 @@ public final class MessageDialog {
         final Button closeButton = new Button("Close");
         closeButton.setOnAction(e -> {
             s.close();
-            latch.countDown();
-            view.startStop();
+            onClose.run();
         });
 
         final BorderPane root = new BorderPane();
@@ -1,5 +1,6 @@
 package globaloutbreak.view.scenecontroller;
 
+import globaloutbreak.model.cure.CureData;
 import globaloutbreak.model.infodata.InfoData;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -26,12 +27,12 @@ public final class CureGraphSceneController extends AbstractSceneController impl
     @Override
     public void initializeScene() {
         final InfoData infoData = this.getView().getInfoData();
-        final int percentage = infoData.getCureData().getProgress();
+        final CureData cureData = infoData.getCureData();
+        final int percentage = cureData.getProgress();
         this.progressBar.setProgress(Double.valueOf(percentage) / 100);
         this.progress.setText(Integer.toString(percentage) + " %");
-        infoData.getCureData().getMajorContributors().stream().map(region -> region.getName()).toList();
         final String listContributors = String.join(",",
-                infoData.getCureData().getMajorContributors().stream().map(region -> region.getName()).toList());
+                cureData.getMajorContributors().stream().map(region -> region.getName()).toList());
         this.cureContributors.setText(listContributors);
     }
 
@@ -2,6 +2,7 @@ package globaloutbreak.view.scenecontroller;
 
 import globaloutbreak.controller.region.TypeOfInfo;
 import globaloutbreak.model.pair.Pair;
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -21,8 +22,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.sun.prism.paint.Color;
 
@@ -60,7 +59,6 @@ public final class MapController extends AbstractSceneController implements Scen
     @FXML
     private BorderPane borderPane;
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private int count;
     private int color;
     private ImageView airportsMap;
@@ -276,7 +274,11 @@ public final class MapController extends AbstractSceneController implements Scen
     }
 
     private void setPlayPauseButtonText() {
-        if (this.getView().isGameRunning()) {
+        this.setPlayPauseButtonText(this.getView().isGameRunning());
+    }
+
+    private void setPlayPauseButtonText(final boolean running) {
+        if (running) {
             this.playPausaBut.setText("Stop");
         } else {
             this.playPausaBut.setText("Play");
@@ -358,19 +360,7 @@ public final class MapController extends AbstractSceneController implements Scen
     }
 
     private void startStopGame() {
-        final boolean status = this.getView().isGameRunning();
-        this.getView().startStop();
-        this.waitForGameToBe(!status);
-    }
-
-    private void waitForGameToBe(final boolean state) {
-        while (this.getView().isGameRunning() != state) {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                this.logger.warn("Error while waiting for Game to start", e);
-            }
-        }
-        this.setPlayPauseButtonText();
+        this.getView().startStop()
+                .thenAccept(running -> Platform.runLater(() -> this.setPlayPauseButtonText(running)));
     }
 }
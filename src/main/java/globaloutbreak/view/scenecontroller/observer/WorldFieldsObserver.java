@@ -1,7 +1,5 @@
 package globaloutbreak.view.scenecontroller.observer;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 import java.util.Map;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -11,7 +9,7 @@ import globaloutbreak.view.scenecontroller.TextFieldSceneSetter;
 /**
  * WorldFields observer.
  */
-public final class WorldFieldsObserver implements PropertyChangeListener {
+public final class WorldFieldsObserver {
 
     private final TextFieldSceneSetter textFieldSceneSetter;
 
@@ -31,21 +29,14 @@ public final class WorldFieldsObserver implements PropertyChangeListener {
         this.textFieldSceneSetter = textFieldSceneSetter;
     }
 
-    @Override
-    public void propertyChange(final PropertyChangeEvent arg0) {
-        final Object newValue = arg0.getNewValue();
-        if (newValue instanceof Map) {
-            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) newValue).entrySet()) {
-                if (!(entry.getKey() instanceof TypeOfInfo) || !(entry.getValue() instanceof String)) {
-                    // Is not a correct instace
-                    return;
-                }
-            }
-            // I am sure it is correct
-            @SuppressWarnings("unchecked")
-            final Map<TypeOfInfo, String> typedMap = (Map<TypeOfInfo, String>) newValue;
-            this.textFieldSceneSetter.setText(typedMap);
-        }
+    /**
+     * Shows the new info of the selected region.
+     * 
+     * @param info
+     *             the info of the region
+     */
+    public void update(final Map<TypeOfInfo, String> info) {
+        this.textFieldSceneSetter.setText(info);
     }
 
 }
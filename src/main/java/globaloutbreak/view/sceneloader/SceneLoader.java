@@ -1,7 +1,5 @@
 package globaloutbreak.view.sceneloader;
 
-import java.util.concurrent.CountDownLatch;
-
 import globaloutbreak.model.message.Message;
 import globaloutbreak.view.View;
 import globaloutbreak.view.utilities.SceneStyle;
@@ -27,10 +25,10 @@ public interface SceneLoader {
      *                stage
      * @param message
      *                message
-     * @param latch
-     *                CountDownLatch
+     * @param onClose
+     *                called on the FX thread when the dialog is closed
      */
-    void openDialog(Stage stage, Message message, CountDownLatch latch);
+    void openDialog(Stage stage, Message message, Runnable onClose);
 
     /**
      * Updates Map.
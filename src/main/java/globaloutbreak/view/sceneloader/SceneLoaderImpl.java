@@ -1,16 +1,17 @@
 package globaloutbreak.view.sceneloader;
 
-import java.beans.PropertyChangeSupport;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import javafx.application.Platform;
 import javafx.scene.layout.Region;
+import globaloutbreak.controller.region.TypeOfInfo;
 import globaloutbreak.model.message.Message;
 import globaloutbreak.view.utilities.SceneStyle;
 import globaloutbreak.view.View;
@@ -28,7 +29,7 @@ import javafx.stage.Stage;
  */
 public final class SceneLoaderImpl implements SceneLoader {
 
-    private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    private Optional<WorldFieldsObserver> worldFields = Optional.empty();
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private FXMLLoader loader;
     private final View view;
@@ -111,9 +112,9 @@ public final class SceneLoaderImpl implements SceneLoader {
             case MAP:
                 final SceneInitializer sceneInitController2 = (SceneInitializer) controller;
                 sceneInitController2.initializeScene();
-                if (!this.pcs.hasListeners("update")) {
+                if (this.worldFields.isEmpty()) {
                     final TextFieldSceneSetter sceneSetter = (TextFieldSceneSetter) controller;
-                    this.pcs.addPropertyChangeListener("update", new WorldFieldsObserver(sceneSetter));
+                    this.worldFields = Optional.of(new WorldFieldsObserver(sceneSetter));
                 }
                 break;
             default:
@@ -123,11 +124,15 @@ public final class SceneLoaderImpl implements SceneLoader {
 
     @Override
     public void updateMap(final View view) {
-        this.pcs.firePropertyChange("update", null, view.getInfoSingleRegion());
+        if (this.worldFields.isPresent()) {
+            final Map<TypeOfInfo, String> info = view.getInfoSingleRegion();
+            final WorldFieldsObserver observer = this.worldFields.get();
+            Platform.runLater(() -> observer.update(info));
+        }
     }
 
     @Override
-    public void openDialog(final Stage stage, final Message message, final CountDownLatch latch) {
-        MessageDialog.showMessageDialog(stage, message, this.view, latch);
+    public void openDialog(final Stage stage, final Message message, final Runnable onClose) {
+        MessageDialog.showMessageDialog(stage, message, onClose);
     }
 }
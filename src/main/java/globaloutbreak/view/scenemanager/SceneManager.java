@@ -1,7 +1,5 @@
 package globaloutbreak.view.scenemanager;
 
-import java.util.concurrent.CountDownLatch;
-
 import globaloutbreak.model.message.Message;
 import globaloutbreak.view.View;
 
@@ -60,10 +58,10 @@ public interface SceneManager {
      * 
      * @param message
      *                message
-     * @param latch
-     *                CountDownLatch
+     * @param onClose
+     *                called on the FX thread when the message is closed
      */
-    void openMessage(Message message, CountDownLatch latch);
+    void openMessage(Message message, Runnable onClose);
 
     /**
      * Update World.
@@ -1,7 +1,5 @@
 package globaloutbreak.view.scenemanager;
 
-import java.util.concurrent.CountDownLatch;
-
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import globaloutbreak.model.message.Message;
 import globaloutbreak.view.utilities.SceneStyle;
@@ -84,8 +82,8 @@ public final class SceneManagerImpl implements SceneManager {
     }
 
     @Override
-    public void openMessage(final Message message, final CountDownLatch latch) {
-        this.sceneLoader.openDialog(this.stage, message, latch);
+    public void openMessage(final Message message, final Runnable onClose) {
+        this.sceneLoader.openDialog(this.stage, message, onClose);
     }
 
     @Override
@@ -3,10 +3,11 @@ package globaloutbreak.cure;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,13 +19,18 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
 import globaloutbreak.model.region.Region;
 
 import globaloutbreak.model.cure.Cure;
+import globaloutbreak.model.cure.CureData;
 import globaloutbreak.model.cure.RegionCureStatus;
 import globaloutbreak.model.cure.SimpleCure;
+import globaloutbreak.model.cure.SimpleCureReaderImpl;
 import globaloutbreak.model.cure.prioriry.CurePriority;
 import globaloutbreak.model.cure.prioriry.Priority;
+import globaloutbreak.model.observer.SimulationEventBus;
 import globaloutbreak.model.region.Climate;
 import globaloutbreak.model.region.TransmissionMean;
 
@@ -35,6 +41,7 @@ final class SimpleCureTest {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private SimpleCure.Builder cureBuilder;
+    private List<Region> regions;
 
     /**
      * Initialize before tests.
@@ -47,8 +54,8 @@ final class SimpleCureTest {
         prios.add(new CurePriority.Builder()
                 .setResourcesPercentage(resPerc)
                 .build());
-        final List<Region> regions = getRegions(numberOfRegions);
-        this.cureBuilder = new SimpleCure.Builder(regions, prios);
+        this.regions = getRegions(numberOfRegions);
+        this.cureBuilder = new SimpleCure.Builder(this.regions, prios);
     }
 
     /**
@@ -84,6 +91,108 @@ final class SimpleCureTest {
         assertNotEquals(Optional.empty(), cure.getGlobalStatus().getRemainingDays());
     }
 
+    /**
+     * Test that the major contributors are the regions that gave the most,
+     * from the highest.
+     */
+    @Test
+    void testMajorContributorsRanked() {
+        final int days = 20;
+        final Cure cure = this.cureBuilder
+                .setDaysBeforeStartResearch(1)
+                .setNumberOfMajorContributors(this.regions.size())
+                .build();
+        IntStream.range(0, days).forEach(w -> cure.research());
+        final List<Region> major = cure.getGlobalStatus().getMajorContributors();
+        assertEquals(this.regions.size(), major.size());
+        for (int i = 1; i < major.size(); i++) {
+            assertTrue(dailyShare(major.get(i - 1)) >= dailyShare(major.get(i)));
+        }
+    }
+
+    /**
+     * Test that the data of the cure is computed once per day and never
+     * changes afterwards.
+     */
+    @Test
+    void testCureDataIsSnapshot() {
+        final int days = 5;
+        final Cure cure = this.cureBuilder
+                .setDaysBeforeStartResearch(1)
+                .build();
+        final CureData before = cure.getGlobalStatus();
+        assertSame(before, cure.getGlobalStatus());
+        IntStream.range(0, days).forEach(w -> cure.research());
+        final CureData after = cure.getGlobalStatus();
+        assertNotSame(before, after);
+        assertTrue(before.getMajorContributors().isEmpty());
+        assertFalse(after.getMajorContributors().isEmpty());
+        assertSame(after, cure.getGlobalStatus());
+        assertThrows(UnsupportedOperationException.class, () -> after.getMajorContributors().clear());
+    }
+
+    /**
+     * Test that the research budget is the sum of the contributions: the
+     * starting budget and a reduction of the progress last until the next
+     * day of research.
+     */
+    @Test
+    void testResearchBudgetIsSumOfContributions() {
+        final int days = 10;
+        final float necessaryBudget = 100_000;
+        final float researchBudget = 50_000;
+        final Cure cure = this.cureBuilder
+                .setDaysBeforeStartResearch(1)
+                .setNecessaryBudget(necessaryBudget)
+                .setResearchBudget(researchBudget)
+                .build();
+        final int starting = cure.getGlobalStatus().getProgress();
+        assertEquals(Math.round(researchBudget / necessaryBudget * 100), starting);
+        IntStream.range(0, days).forEach(w -> cure.research());
+        final int progress = cure.getGlobalStatus().getProgress();
+        assertTrue(progress > 0 && progress < starting);
+
+        cure.reduceResearchProgress(-0.5f);
+        assertTrue(cure.getGlobalStatus().getProgress() < progress);
+        cure.research();
+        assertTrue(cure.getGlobalStatus().getProgress() > progress);
+    }
+
+    /**
+     * Test that a cure that checks the mortality only in the regions with
+     * deaths of the store behaves like one that checks every region.
+     */
+    @Test
+    void testStoreCureMatchesScan() {
+        final int days = 60;
+        final int step = 3;
+        final RegionController scanned = new RegionControllerImpl();
+        final RegionController stored = new RegionControllerImpl();
+        final List<Region> scannedRegions = scanned.getRegions();
+        final List<Region> storedRegions = stored.getRegions();
+        for (int i = 0; i < scannedRegions.size(); i += step) {
+            final long dead = scannedRegions.get(i).getPopTot() / (i % 10 + 2);
+            scannedRegions.get(i).incDeathPeople(dead, false);
+            storedRegions.get(i).incDeathPeople(dead, false);
+        }
+        final Cure scanCure = new SimpleCureReaderImpl().getSimpleCure(scannedRegions);
+        final Cure storeCure = new SimpleCureReaderImpl().getSimpleCure(storedRegions, stored.getStateStore());
+        assertTrue(storeCure.isConsistent());
+        for (int day = 0; day < days; day++) {
+            scanCure.research();
+            storeCure.research();
+            for (int i = 0; i < scannedRegions.size(); i++) {
+                assertEquals(scannedRegions.get(i).getCureStatus(), storedRegions.get(i).getCureStatus());
+            }
+            assertEquals(scanCure.getGlobalStatus().getProgress(), storeCure.getGlobalStatus().getProgress());
+        }
+        assertEquals(RegionCureStatus.STARTED, storedRegions.get(step).getCureStatus());
+    }
+
+    private static float dailyShare(final Region region) {
+        return (1 - (float) region.getDeathByVirus() / region.getPopTot()) * region.getFacilities();
+    }
+
     /**
      * Test if Builder can only be used once.
      */
@@ -248,7 +357,7 @@ final class SimpleCureTest {
                 }
 
                 @Override
-                public void initializeObserver(final PropertyChangeListener listener) {
+                public void setEventBus(final SimulationEventBus bus) {
                     logger.warn(logString);
                     throw new UnsupportedOperationException(errString);
                 }
@@ -1,12 +1,14 @@
 package globaloutbreak.dataanalyzer;
 
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -14,11 +16,14 @@ import java.util.List;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import globaloutbreak.model.dataanalyzer.DataAnalyzer;
 import globaloutbreak.model.dataanalyzer.DeathNumberAnalyzer;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
 
 class DataAnalyzerTest {
 
@@ -48,6 +53,38 @@ class DataAnalyzerTest {
         logger.info("testOrderedDeathValues() gone well");
     }
 
+    /**
+     * Test that the causes of death reached but not yet announced are
+     * announced after a restore.
+     */
+    @Test
+    void testSnapshotKeepsPendingCauses(@TempDir final Path dir) throws IOException {
+        final List<Long> numberOfDeaths = this.getOrderedNumberOfDeaths();
+        final List<Long> results = new LinkedList<>();
+        final DeathNumberAnalyzer saved = new DeathNumberAnalyzer((key, value) -> results.add(value));
+        // every cause is reached at once, only the first one is announced
+        saved.analyze(Long.MAX_VALUE);
+        final Path file = dir.resolve("analyzer.snapshot");
+        try (SnapshotWriter out = new SnapshotWriter(file)) {
+            saved.writeSnapshot(out);
+            out.commit();
+        }
+        final DeathNumberAnalyzer restored = new DeathNumberAnalyzer((key, value) -> results.add(value));
+        try (SnapshotReader in = new SnapshotReader(file)) {
+            restored.readSnapshot(in);
+        }
+        numberOfDeaths.forEach(deaths -> restored.analyze(Long.MAX_VALUE));
+        assertIterableEquals(numberOfDeaths, results);
+        final Path invalid = dir.resolve("invalid.snapshot");
+        try (SnapshotWriter out = new SnapshotWriter(invalid)) {
+            out.putInt(numberOfDeaths.size() + 1);
+            out.commit();
+        }
+        try (SnapshotReader in = new SnapshotReader(invalid)) {
+            assertThrows(IllegalStateException.class, () -> restored.readSnapshot(in));
+        }
+    }
+
     private List<Long> getOrderedNumberOfDeaths() {
         try (var dataFile = new BufferedReader(
                 new InputStreamReader(ClassLoader.getSystemResourceAsStream(filePath), StandardCharsets.UTF_8))) {
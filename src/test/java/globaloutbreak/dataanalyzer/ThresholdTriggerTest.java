@@ -0,0 +1,65 @@
+package globaloutbreak.dataanalyzer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.model.dataanalyzer.ThresholdTrigger;
+
+/**
+ * Test for the milestones of a metric.
+ */
+final class ThresholdTriggerTest {
+
+    @Test
+    void testFiresInOrderOnePerCall() {
+        final List<String> fired = new ArrayList<>();
+        final ThresholdTrigger<String> trigger = new ThresholdTrigger.Builder<String>()
+                .add(30, "c")
+                .add(10, "a")
+                .add(20, "b")
+                .add(20, "b2")
+                .build((payload, threshold) -> fired.add(payload + threshold));
+        assertFalse(trigger.fireNext(9));
+        assertTrue(trigger.fireNext(25));
+        assertTrue(trigger.fireNext(25));
+        assertTrue(trigger.fireNext(25));
+        assertFalse(trigger.fireNext(25));
+        assertEquals(30, trigger.getNextThreshold());
+        assertEquals(1, trigger.fireAll(100));
+        assertIterableEquals(List.of("a10", "b20", "b220", "c30"), fired);
+        assertEquals(Long.MAX_VALUE, trigger.getNextThreshold());
+    }
+
+    @Test
+    void testSkipAndReset() {
+        final List<Long> fired = new ArrayList<>();
+        final ThresholdTrigger<Integer> trigger = new ThresholdTrigger.Builder<Integer>()
+                .addEvery(100, 1, 1_000, 0)
+                .build((payload, threshold) -> fired.add(threshold));
+        assertEquals(101, trigger.getNextThreshold());
+        trigger.skip(500);
+        assertArrayEquals(new long[] {501, 601, 701, 801, 901}, trigger.getPendingThresholds());
+        assertEquals(0, trigger.fireAll(500));
+        assertEquals(2, trigger.fireAll(650));
+        trigger.reset();
+        assertTrue(trigger.fireNext(101));
+        assertIterableEquals(List.of(501L, 601L, 101L), fired);
+    }
+
+    @Test
+    void testBuilder() {
+        final ThresholdTrigger.Builder<Integer> builder = new ThresholdTrigger.Builder<>();
+        assertThrows(IllegalArgumentException.class, () -> builder.addEvery(0, 0, 10, 0));
+        assertFalse(builder.build((payload, threshold) -> { }).fireNext(Long.MAX_VALUE));
+        assertThrows(IllegalStateException.class, () -> builder.build((payload, threshold) -> { }));
+    }
+}
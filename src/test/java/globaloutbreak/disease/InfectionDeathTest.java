@@ -1,6 +1,5 @@
 package globaloutbreak.disease;
 
-import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,11 +10,19 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
 import globaloutbreak.model.cure.RegionCureStatus;
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
 import globaloutbreak.model.disease.Disease;
 import globaloutbreak.model.disease.DiseaseFactory;
 import globaloutbreak.model.disease.DiseaseFactoryImpl;
+import globaloutbreak.model.disease.InfectionKernel;
+import globaloutbreak.model.disease.InfectionKernelType;
+import globaloutbreak.model.disease.InfectionKernels;
+import globaloutbreak.model.observer.SimulationEventBus;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Climate;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
 import globaloutbreak.model.region.TransmissionMean;
 
 class InfectionDeathTest {
@@ -142,9 +149,9 @@ class InfectionDeathTest {
         }
 
         @Override
-        public void initializeObserver(final PropertyChangeListener listener) {
+        public void setEventBus(final SimulationEventBus bus) {
             // TODO Auto-generated method stub
-            throw new UnsupportedOperationException("Unimplemented method 'initializeObserver'");
+            throw new UnsupportedOperationException("Unimplemented method 'setEventBus'");
         }
 
         @Override
@@ -182,4 +189,59 @@ class InfectionDeathTest {
         Assertions.assertEquals(expectedDeaths, region.getNumDeath());
         logger.info("KillTest gone well");
     }
+
+    /**
+     * Test that every infection kernel computes the same spread.
+     */
+    @Test
+    void testKernelsAgree() {
+        final RegionController regionController = new RegionControllerImpl();
+        final List<Region> regions = regionController.getRegions();
+        final RegionStateStore store = regionController.getStateStore();
+        regions.forEach(r -> r.incOrDecInfectedPeople(r.getPopTot() / 10));
+        final Disease disease = new DiseaseFactoryImpl().createDisease("Virus", 0.1f, 0.05f, 0.1f, 0.1f,
+                0.1f, 0.2f, 0.3f, 1f, 0.4f, 0.5f, 0.6f);
+        final long seed = 7;
+        final long[] expected = new long[store.size()];
+        final long[] actual = new long[store.size()];
+        final InfectionKernel scalar = InfectionKernels.create(InfectionKernelType.SCALAR).get();
+        final InfectionKernel vector = InfectionKernels.create(InfectionKernelType.VECTOR).get();
+
+        scalar.computeNewInfected(store, disease, new XoroshiroRandomSource(seed), expected);
+        vector.computeNewInfected(store, disease, new XoroshiroRandomSource(seed), actual);
+        Assertions.assertArrayEquals(expected, actual);
+        scalar.computeNewDeaths(store, disease, expected);
+        vector.computeNewDeaths(store, disease, actual);
+        Assertions.assertArrayEquals(expected, actual);
+        for (int id = 0; id < store.size(); id++) {
+            Assertions.assertEquals((long) Math.ceil(store.getInfected(id) * disease.getLethality()), actual[id]);
+        }
+    }
+
+    /**
+     * Test that the vector kernel rounds the deaths up like the scalar one,
+     * also when the product has no fractional part or the region is healthy.
+     */
+    @Test
+    void testVectorDeathsRounding() {
+        final RegionController regionController = new RegionControllerImpl();
+        final List<Region> regions = regionController.getRegions();
+        final RegionStateStore store = regionController.getStateStore();
+        final long[] infected = {0, 1, 2, 3, 10, 999, 1_000_000, 16_777_217, 123_456_789};
+        for (int id = 0; id < regions.size(); id++) {
+            regions.get(id).incOrDecInfectedPeople(Math.min(infected[id % infected.length],
+                    regions.get(id).getPopTot()));
+        }
+        final InfectionKernel scalar = InfectionKernels.create(InfectionKernelType.SCALAR).get();
+        final InfectionKernel vector = InfectionKernels.create(InfectionKernelType.VECTOR).get();
+        final long[] expected = new long[store.size()];
+        final long[] actual = new long[store.size()];
+        for (final float lethality : new float[] {0f, 0.05f, 0.5f, 1f, 0.3333f}) {
+            final Disease disease = new DiseaseFactoryImpl().createDisease("Virus", 0.1f, lethality, 0.1f, 0.1f,
+                    0.1f, 0.2f, 0.3f, 1f, 0.4f, 0.5f, 0.6f);
+            scalar.computeNewDeaths(store, disease, expected);
+            vector.computeNewDeaths(store, disease, actual);
+            Assertions.assertArrayEquals(expected, actual);
+        }
+    }
 }
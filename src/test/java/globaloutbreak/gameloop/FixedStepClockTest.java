@@ -0,0 +1,55 @@
+package globaloutbreak.gameloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.controller.loop.FixedStepClock;
+
+/**
+ * Test for the fixed timestep clock of the game loop.
+ */
+final class FixedStepClockTest {
+
+    private static final long STEP = 1_000;
+    private static final float DELTA = 1e-6f;
+
+    @Test
+    void testStepsAtFixedRate() {
+        final FixedStepClock clock = new FixedStepClock(5);
+        clock.reset(0);
+        assertEquals(0, clock.advance(400, STEP));
+        assertEquals(0.4f, clock.getAlpha(), DELTA);
+        assertEquals(600, clock.getNanosToNextStep());
+        assertEquals(1, clock.advance(1_100, STEP));
+        assertEquals(0.1f, clock.getAlpha(), DELTA);
+        assertEquals(2, clock.advance(3_000, STEP));
+        assertEquals(3, clock.getSteps());
+        assertEquals(0, clock.getDroppedSteps());
+        assertEquals(STEP, clock.getMaxLagNanos());
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        final FixedStepClock clock = new FixedStepClock(3);
+        clock.reset(0);
+        assertEquals(3, clock.advance(10_500, STEP));
+        assertEquals(7, clock.getDroppedSteps());
+        assertEquals(0.5f, clock.getAlpha(), DELTA);
+        assertEquals(9_500, clock.getLagNanos());
+        assertEquals(1, clock.advance(11_500, STEP));
+    }
+
+    @Test
+    void testResetForgetsPause() {
+        final FixedStepClock clock = new FixedStepClock(5);
+        clock.reset(0);
+        assertEquals(0, clock.advance(500, STEP));
+        clock.reset(1_000_000);
+        assertEquals(0, clock.advance(1_000_200, STEP));
+        assertEquals(0.2f, clock.getAlpha(), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepClock(0));
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(1_000_300, 0));
+    }
+}
@@ -0,0 +1,47 @@
+package globaloutbreak.gameloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.controller.loop.LoopState;
+import globaloutbreak.controller.loop.LoopStateMachine;
+
+/**
+ * Test for the state machine of the game loop.
+ */
+final class LoopStateMachineTest {
+
+    @Test
+    void testTransitions() {
+        final LoopStateMachine state = new LoopStateMachine();
+        assertEquals(LoopState.NEW, state.get());
+        assertFalse(state.transition(LoopState.RUNNING, LoopState.PAUSING));
+        assertTrue(state.transition(LoopState.NEW, LoopState.RUNNING));
+        assertFalse(state.transition(LoopState.NEW, LoopState.RUNNING));
+        assertEquals(LoopState.RUNNING, state.get());
+        state.moveTo(LoopState.STOPPED);
+        assertEquals(LoopState.STOPPED, state.get());
+    }
+
+    @Test
+    void testFuturesCompleteOnTransition() {
+        final LoopStateMachine state = new LoopStateMachine();
+        assertTrue(state.when(LoopState.NEW).isDone());
+        final CompletableFuture<LoopState> paused = state.when(LoopState.PAUSED, LoopState.STOPPED);
+        state.transition(LoopState.NEW, LoopState.RUNNING);
+        state.transition(LoopState.RUNNING, LoopState.PAUSING);
+        assertFalse(paused.isDone());
+        state.transition(LoopState.PAUSING, LoopState.PAUSED);
+        assertEquals(LoopState.PAUSED, paused.getNow(null));
+        final CompletableFuture<LoopState> stopped = state.when(LoopState.STOPPED);
+        state.transition(LoopState.PAUSED, LoopState.RUNNING);
+        assertFalse(stopped.isDone());
+        state.moveTo(LoopState.STOPPED);
+        assertEquals(LoopState.STOPPED, stopped.getNow(null));
+    }
+}
@@ -0,0 +1,126 @@
+package globaloutbreak.grid;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.model.disease.Disease;
+import globaloutbreak.model.disease.DiseaseFactoryImpl;
+import globaloutbreak.model.disease.GridInfectionKernel;
+import globaloutbreak.model.grid.GridDiffusion;
+import globaloutbreak.model.grid.RegionRaster;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionStateStore;
+
+/**
+ * Test for the spread of the infection over the cells of the map.
+ */
+final class GridDiffusionTest {
+
+    private static final int N = RegionRaster.NONE;
+    // two regions touching only in the middle row
+    private static final int[] CELLS = {
+        0, 0, 0, N, 1, 1,
+        0, 0, 0, 0, 1, 1,
+        0, 0, 0, N, 1, 1,
+    };
+    private static final int WIDTH = 6;
+    private static final int HEIGHT = 3;
+    private static final long[] ALIVE = {10_000, 10_000};
+    private static final float[] RATE = {0.5f, 0.5f};
+    private static final long SEED = 11;
+    private static final int STEPS = 30;
+
+    @Test
+    void testSpreadsAcrossBorderButNotOnSea() {
+        final GridDiffusion grid = new GridDiffusion(new RegionRaster(WIDTH, HEIGHT, CELLS), 2,
+                GridDiffusion.DEFAULT_DIFFUSION);
+        final long[] infected = {10, 0};
+        final long[] newInfected = new long[2];
+        final XoroshiroRandomSource random = new XoroshiroRandomSource(SEED);
+        for (int step = 0; step < STEPS; step++) {
+            grid.step(infected, ALIVE, RATE, random, newInfected);
+            for (int id = 0; id < infected.length; id++) {
+                infected[id] += newInfected[id];
+                double cells = 0;
+                for (int cell = 0; cell < CELLS.length; cell++) {
+                    if (CELLS[cell] == id) {
+                        cells += grid.getInfected(cell % WIDTH, cell / WIDTH);
+                    }
+                }
+                assertEquals(infected[id], cells, 0.5 + 1e-6);
+                assertTrue(infected[id] <= ALIVE[id]);
+            }
+            assertEquals(0, grid.getInfected(3, 0));
+            assertEquals(0, grid.getInfected(3, 2));
+        }
+        assertTrue(infected[1] > 0);
+        assertTrue(grid.getInfected(WIDTH - 1, 0) > 0);
+    }
+
+    @Test
+    void testSameSeedSameSpread() {
+        final long[] first = run();
+        assertArrayEquals(first, run());
+    }
+
+    @Test
+    void testRegionsFollowOutsideChanges() {
+        final GridDiffusion grid = new GridDiffusion(new RegionRaster(WIDTH, HEIGHT, CELLS), 2,
+                GridDiffusion.DEFAULT_DIFFUSION);
+        final long[] newInfected = new long[2];
+        final XoroshiroRandomSource random = new XoroshiroRandomSource(SEED);
+        grid.step(new long[] {100, 0}, ALIVE, RATE, random, newInfected);
+        grid.step(new long[] {0, 0}, ALIVE, RATE, random, newInfected);
+        assertArrayEquals(new long[] {0, 0}, newInfected);
+        for (int cell = 0; cell < CELLS.length; cell++) {
+            assertEquals(0, grid.getInfected(cell % WIDTH, cell / WIDTH));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new GridDiffusion(
+                new RegionRaster(WIDTH, HEIGHT, CELLS), 1, GridDiffusion.DEFAULT_DIFFUSION));
+        assertThrows(IllegalArgumentException.class, () -> new GridDiffusion(
+                new RegionRaster(WIDTH, HEIGHT, CELLS), 2, 1));
+    }
+
+    @Test
+    void testMapCoversEveryRegion() throws IOException {
+        final RegionController regionController = new RegionControllerImpl();
+        final List<Region> regions = regionController.getRegions();
+        final RegionStateStore store = regionController.getStateStore();
+        final RegionRaster raster = RegionRaster.load("configView/checkRegion.png", 8, store);
+        for (int id = 0; id < store.size(); id++) {
+            assertTrue(raster.countCells(id) > 0, regions.get(id).getName() + " has no cells");
+        }
+
+        final Disease disease = new DiseaseFactoryImpl().createDisease("Virus", 0.1f, 0.05f, 0.1f, 0.1f,
+                0.1f, 0.2f, 0.3f, 1f, 0.4f, 0.5f, 0.6f);
+        final GridInfectionKernel kernel = new GridInfectionKernel(raster);
+        final long[] newInfected = new long[store.size()];
+        regions.get(0).incOrDecInfectedPeople(1_000);
+        kernel.computeNewInfected(store, disease, new XoroshiroRandomSource(SEED), newInfected);
+        assertTrue(newInfected[0] > 0);
+    }
+
+    private static long[] run() {
+        final GridDiffusion grid = new GridDiffusion(new RegionRaster(WIDTH, HEIGHT, CELLS), 2,
+                GridDiffusion.DEFAULT_DIFFUSION);
+        final long[] infected = {10, 0};
+        final long[] newInfected = new long[2];
+        final XoroshiroRandomSource random = new XoroshiroRandomSource(SEED);
+        for (int step = 0; step < STEPS; step++) {
+            grid.step(infected, ALIVE, RATE, random, newInfected);
+            infected[0] += newInfected[0];
+            infected[1] += newInfected[1];
+        }
+        return infected;
+    }
+}
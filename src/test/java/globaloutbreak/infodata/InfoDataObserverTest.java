@@ -1,17 +1,21 @@
 package globaloutbreak.infodata;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.model.Model;
+import globaloutbreak.model.ModelImpl;
 import globaloutbreak.model.cure.RegionCureStatus;
 import globaloutbreak.model.infodata.InfoData;
 import globaloutbreak.model.infodata.InfoDataImpl;
 import globaloutbreak.model.observer.InfoDataRegionObserver;
+import globaloutbreak.model.observer.SimulationEventBus;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.Climate;
 import globaloutbreak.model.region.Region;
 import globaloutbreak.model.region.TransmissionMean;
@@ -31,7 +35,7 @@ final class InfoDataObserverTest {
         private static final long TOT_POP = 100_000_000;
         private long infected;
         private long deaths;
-        private PropertyChangeSupport support = new PropertyChangeSupport(this);
+        private SimulationEventBus bus = new SimulationEventBus();
 
         @Override
         public long getNumInfected() {
@@ -56,7 +60,7 @@ final class InfoDataObserverTest {
         @Override
         public void incOrDecInfectedPeople(final long calculateNewInfected) {
             this.infected += calculateNewInfected;
-            support.firePropertyChange("infectedRegion", this.infected - calculateNewInfected, this.infected);
+            bus.fireInfectedDelta(0, this.infected - calculateNewInfected, this.infected);
         }
 
         @Override
@@ -136,8 +140,8 @@ final class InfoDataObserverTest {
         }
 
         @Override
-        public void initializeObserver(final PropertyChangeListener listener) {
-            this.support.addPropertyChangeListener(listener);
+        public void setEventBus(final SimulationEventBus bus) {
+            this.bus = bus;
         }
 
         @Override
@@ -156,10 +160,11 @@ final class InfoDataObserverTest {
     @Test
     void infoDataTest() {
         final InfoData infodata = new InfoDataImpl(reg.getPopTot());
-        final PropertyChangeListener infodataObserver = new InfoDataRegionObserver(infodata);
+        final SimulationEventBus bus = new SimulationEventBus();
+        bus.addInfectedListener(new InfoDataRegionObserver(infodata));
         final List<Region> regionList = new ArrayList<>();
         regionList.add(reg);
-        reg.initializeObserver(infodataObserver);
+        reg.setEventBus(bus);
 
         Assertions.assertEquals(EXPECTED_INITIAL_POINTS, infodata.getPoints());
 
@@ -176,4 +181,35 @@ final class InfoDataObserverTest {
         Assertions.assertTrue(
                 expectedPointsFourth <= infodata.getPoints() && expectedPointsFifth >= infodata.getPoints());
     }
+
+    @Test
+    void eventBusOrderTest() {
+        final SimulationEventBus bus = new SimulationEventBus();
+        final StringBuilder calls = new StringBuilder();
+        bus.addInfectedListener((id, old, now) -> calls.append("first:").append(id).append(':').append(now - old));
+        bus.addInfectedListener((id, old, now) -> calls.append(",second"));
+        bus.fireInfectedDelta(3, 1, 5);
+        Assertions.assertEquals("first:3:4,second", calls.toString());
+    }
+
+    @Test
+    void setRegionsAgainTest() {
+        final RegionController first = new RegionControllerImpl();
+        final Model model = new ModelImpl(new XoroshiroRandomSource(1));
+        final List<Region> oldRegions = first.getRegions();
+        model.setRegions(oldRegions, first.getStateStore());
+        final InfoData old = model.getInfo();
+        final RegionController second = new RegionControllerImpl();
+        model.setRegions(second.getRegions(), second.getStateStore());
+        Assertions.assertEquals(oldRegions.size(), model.getRegions().size());
+        Assertions.assertEquals(first.getStateStore().getTotalPopulation(),
+                second.getStateStore().getTotalPopulation());
+        // the previous world no longer reaches any info data
+        oldRegions.get(0).incOrDecInfectedPeople(UPDATE_INFECTED);
+        Assertions.assertEquals(0, old.getTotalInfected());
+        Assertions.assertEquals(0, model.getInfo().getTotalInfected());
+        model.getRegions().get(0).incOrDecInfectedPeople(UPDATE_INFECTED);
+        Assertions.assertEquals(0, old.getTotalInfected());
+        Assertions.assertEquals(UPDATE_INFECTED, model.getInfo().getTotalInfected());
+    }
 }
@@ -0,0 +1,60 @@
+package globaloutbreak.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.model.message.AutoPausePolicy;
+import globaloutbreak.model.message.Message;
+import globaloutbreak.model.message.MessageQueue;
+import globaloutbreak.model.message.MessageQueueImpl;
+import globaloutbreak.model.message.MessageType;
+
+/**
+ * Test for the message queue.
+ */
+final class MessageQueueTest {
+
+    private static Message message(final MessageType type, final String text) {
+        return new Message() {
+            @Override
+            public MessageType getType() {
+                return type;
+            }
+
+            @Override
+            public String toString() {
+                return text;
+            }
+        };
+    }
+
+    @Test
+    void testBurstsAreCoalesced() {
+        final MessageQueue queue = new MessageQueueImpl();
+        final Message cure = message(MessageType.CURE, "cure");
+        queue.offer(message(MessageType.CATASTROPHE, "flood"));
+        queue.offer(cure);
+        queue.offer(message(MessageType.CATASTROPHE, "fire"));
+        final List<Message> drained = queue.drain();
+        assertTrue(queue.isEmpty());
+        assertEquals(2, drained.size());
+        assertEquals(MessageType.CATASTROPHE, drained.get(0).getType());
+        assertTrue(drained.get(0).toString().contains("flood\nfire"));
+        assertSame(cure, drained.get(1));
+        assertTrue(queue.drain().isEmpty());
+    }
+
+    @Test
+    void testAutoPausePolicy() {
+        final AutoPausePolicy policy = AutoPausePolicy.of(EnumSet.of(MessageType.CATASTROPHE));
+        assertTrue(policy.shouldPause(message(MessageType.CATASTROPHE, "")));
+        assertFalse(policy.shouldPause(message(MessageType.NEWS, "")));
+    }
+}
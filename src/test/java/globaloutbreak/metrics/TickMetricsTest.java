@@ -0,0 +1,64 @@
+package globaloutbreak.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.model.metrics.LogLinearHistogram;
+import globaloutbreak.model.metrics.TickMetrics;
+import globaloutbreak.model.metrics.TickMetricsImpl;
+import globaloutbreak.model.metrics.TickMetricsJmx;
+import globaloutbreak.model.metrics.TickPhase;
+
+/**
+ * Tests for the tick metrics.
+ */
+final class TickMetricsTest {
+
+    private static final int VALUES = 10_000;
+    private static final double ERROR = 0.07;
+
+    @Test
+    void testHistogramPercentiles() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 1; i <= VALUES; i++) {
+            histogram.record(i);
+        }
+        assertEquals(VALUES, histogram.getCount());
+        assertEquals(VALUES, histogram.getMax());
+        assertEquals((VALUES + 1) / 2.0, histogram.getMean(), 1e-9);
+        for (final double percentile : new double[] {1, 50, 90, 99}) {
+            final double expected = VALUES * percentile / 100;
+            final long actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(Math.abs(actual - expected) <= expected * ERROR, percentile + "th: " + actual);
+        }
+    }
+
+    @Test
+    void testPhasesAndJmx() throws JMException {
+        final TickMetrics metrics = new TickMetricsImpl(0);
+        for (int i = 0; i < 3; i++) {
+            metrics.tickStarted();
+            for (final TickPhase phase : TickPhase.values()) {
+                if (phase != TickPhase.TOTAL) {
+                    metrics.phaseCompleted(phase);
+                }
+            }
+            metrics.tickCompleted(2);
+        }
+        assertEquals(3, metrics.getTicks());
+        assertEquals(6, metrics.getVoyages());
+        for (final TickPhase phase : TickPhase.values()) {
+            assertEquals(3, metrics.getPhaseNanos(phase).getCount());
+        }
+        TickMetricsJmx.register("test", metrics);
+        assertEquals(3L, ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName("globaloutbreak:type=TickMetrics,name=\"test\""), "Ticks"));
+    }
+}
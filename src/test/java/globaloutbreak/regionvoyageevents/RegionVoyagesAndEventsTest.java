@@ -1,6 +1,8 @@
 package globaloutbreak.regionvoyageevents;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.HashMap;
 import java.util.List;
@@ -17,9 +19,18 @@ import globaloutbreak.model.cure.RegionCureStatus;
 import globaloutbreak.model.events.CauseEvent;
 import globaloutbreak.model.events.CauseEventsImpl;
 import globaloutbreak.model.events.Event;
+import globaloutbreak.model.events.EventImpl;
 import globaloutbreak.model.events.ExtractedEvent;
+import globaloutbreak.model.random.AliasTable;
+import globaloutbreak.model.random.RandomSource;
+import globaloutbreak.model.random.XoroshiroRandomSource;
 import globaloutbreak.model.region.MeansState;
 import globaloutbreak.model.region.Region;
+import globaloutbreak.model.region.RegionIndex;
+import globaloutbreak.model.region.RegionStateStore;
+import globaloutbreak.model.voyage.TransportGraph;
+import globaloutbreak.model.voyage.Voyage;
+import globaloutbreak.model.voyage.VoyageBatch;
 import globaloutbreak.model.voyage.Voyages;
 
 /**
@@ -92,6 +103,107 @@ final class RegionVoyagesAndEventsTest {
 
     }
 
+    @Test
+    void testRegionIndex() {
+        final RegionIndex index = RegionIndex.of(contr.getStateStore());
+        assertEquals(regions.size(), index.size());
+        for (int id = 0; id < regions.size(); id++) {
+            assertEquals(id, index.get(regions.get(id).getColor()));
+            assertSame(regions.get(id), contr.findRegionByColor(regions.get(id).getColor()));
+        }
+        assertEquals(RegionIndex.NOT_FOUND, index.get(0));
+    }
+
+    @Test
+    void testActiveSets() {
+        final RegionStateStore store = contr.getStateStore();
+        final int first = 3;
+        final int second = 7;
+        assertEquals(0, store.countInfected());
+        assertEquals(-1, store.nextInfected(0));
+        regions.get(second).incOrDecInfectedPeople(10);
+        regions.get(first).incOrDecInfectedPeople(10);
+        assertEquals(2, store.countInfected());
+        assertEquals(first, store.nextInfected(0));
+        assertEquals(second, store.nextInfected(first + 1));
+        assertEquals(-1, store.nextInfected(second + 1));
+        regions.get(first).incDeathPeople(10, false);
+        assertEquals(second, store.nextInfected(0));
+
+        final long version = store.getCureStatusVersion();
+        assertEquals(regions.size(), store.countWithStatus(RegionCureStatus.NONE));
+        regions.get(second).setCureStatus(RegionCureStatus.STARTED);
+        regions.get(second).setCureStatus(RegionCureStatus.STARTED);
+        assertEquals(version + 1, store.getCureStatusVersion());
+        assertEquals(second, store.nextWithStatus(RegionCureStatus.STARTED, 0));
+        assertEquals(regions.size() - 1, store.countWithStatus(RegionCureStatus.NONE));
+        regions.get(second).incDeathPeople(regions.get(second).getPopTot(), false);
+        assertEquals(0, store.countInfected());
+        assertEquals(0, store.countWithStatus(RegionCureStatus.STARTED));
+        assertEquals(second, store.nextWithStatus(RegionCureStatus.FINISHED, 0));
+    }
+
+    @Test
+    void testTransportGraph() {
+        final TransportGraph graph = TransportGraph.of(regions);
+        final RandomSource random = new XoroshiroRandomSource(1);
+        final long open = regions.stream()
+                .filter(r -> r.getTrasmissionMeans().stream().anyMatch(k -> "terra".equals(k.getType())))
+                .count();
+        assertEquals(open, graph.countOpen("terra"));
+        graph.close(0);
+        assertEquals(open - 1, graph.countOpen("terra"));
+        for (int i = 0; i < regions.size(); i++) {
+            assertNotEquals(0, graph.pickDeparture("terra", random));
+            final int dest = graph.pickDestination("aereoporti", 1, random);
+            assertNotEquals(0, dest);
+            assertNotEquals(1, dest);
+        }
+        final List<String> borders = regions.get(1).getTrasmissionMeans().stream()
+                .filter(k -> "terra".equals(k.getType()))
+                .findFirst().get()
+                .getReachableStates().get();
+        final int dest = graph.pickDestination("terra", 1, random);
+        assertTrue(dest == TransportGraph.NONE || borders.contains(regions.get(dest).getName()));
+    }
+
+    @Test
+    void testWeightedRoutes() {
+        final TransportGraph graph = TransportGraph.of(regions);
+        final RandomSource random = new XoroshiroRandomSource(2);
+        final String means = "aereoporti";
+        final int[] drawn = new int[regions.size()];
+        final int draws = 20_000;
+        for (int i = 0; i < draws; i++) {
+            drawn[graph.pickDeparture(means, random)]++;
+        }
+        // Stati Uniti has ten times the people of Canada, and an airport as well
+        assertTrue(drawn[1] > 5 * drawn[0]);
+        graph.close(1);
+        for (int i = 0; i < draws; i++) {
+            assertNotEquals(1, graph.pickDeparture(means, random));
+            assertNotEquals(1, graph.pickDestination(means, 0, random));
+        }
+    }
+
+    @Test
+    void testVoyageBatch() {
+        final Voyages means = vC.createVoyage();
+        final TransportGraph graph = TransportGraph.of(regions);
+        final VoyageBatch batch = new VoyageBatch();
+        final Map<String, Float> pot = Map.of("terra", 0f, "aereoporti", 0f, "porti", 0f);
+        means.extractMeans(graph, regions, pot, batch);
+        assertTrue(batch.size() > 0);
+        for (int i = 0; i < batch.size(); i++) {
+            assertNotEquals(batch.getDeparture(i), batch.getDestination(i));
+        }
+        final List<Voyage> voyages = batch.toList(regions);
+        assertEquals(batch.size(), voyages.size());
+        assertEquals(regions.get(batch.getDestination(0)).getColor(), voyages.get(0).getDest());
+        batch.clear();
+        assertEquals(0, batch.size());
+    }
+
     @Test
     void eventTest() {
         final List<Event> events = controller.createEvents();
@@ -107,4 +219,38 @@ final class RegionVoyagesAndEventsTest {
         cat.get().getRegion()
         + " Morti " + cat.get().getDeath());*/
     }
+
+    @Test
+    void testAliasTable() {
+        final RandomSource random = new XoroshiroRandomSource(3);
+        final AliasTable table = new AliasTable(new double[] {0, 1, 3, -2});
+        final int draws = 40_000;
+        final int[] counts = new int[table.size()];
+        for (int i = 0; i < draws; i++) {
+            counts[table.sample(random)]++;
+        }
+        assertEquals(0, counts[0]);
+        assertEquals(0, counts[3]);
+        assertEquals(draws / 4, counts[1], draws / 100);
+        assertEquals(AliasTable.NONE, new AliasTable(new double[] {0}).sample(random));
+    }
+
+    @Test
+    void testManyEventsPerTick() {
+        final List<Event> events = List.of(new EventImpl("a", 1, 0), new EventImpl("b", 1, 0),
+                new EventImpl("c", 0, 0));
+        final CauseEvent causeEvent = new CauseEventsImpl(events, new XoroshiroRandomSource(5));
+        final List<Region> weighted = regions.subList(0, 10);
+        final int ticks = 2_000;
+        int happened = 0;
+        for (int i = 0; i < ticks; i++) {
+            for (final ExtractedEvent event : causeEvent.causeEvents(weighted)) {
+                assertNotEquals("c", event.getEvent());
+                happened++;
+            }
+        }
+        // two events per tick on average
+        assertEquals(2 * ticks, happened, ticks / 10);
+        assertTrue(causeEvent.causeEvents(List.of()).isEmpty());
+    }
 }
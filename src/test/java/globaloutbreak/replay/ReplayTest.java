@@ -0,0 +1,116 @@
+package globaloutbreak.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.controller.disease.DiseaseController;
+import globaloutbreak.controller.disease.DiseaseControllerImpl;
+import globaloutbreak.controller.event.EventControllerImpl;
+import globaloutbreak.controller.mutation.MutationController;
+import globaloutbreak.controller.mutation.MutationControllerImpl;
+import globaloutbreak.controller.region.RegionController;
+import globaloutbreak.controller.region.RegionControllerImpl;
+import globaloutbreak.controller.voyage.VoyageControllerImpl;
+import globaloutbreak.diseasereader.DiseaseReaderImpl;
+import globaloutbreak.model.Model;
+import globaloutbreak.model.ModelImpl;
+import globaloutbreak.model.cure.SimpleCureReaderImpl;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.simulation.replay.InputJournal;
+import globaloutbreak.simulation.replay.InputJournalImpl;
+import globaloutbreak.simulation.replay.InputType;
+import globaloutbreak.simulation.replay.ReplayResult;
+import globaloutbreak.simulation.replay.ReplayRunner;
+
+/**
+ * Test for the input journal and the replay of a game.
+ */
+final class ReplayTest {
+
+    private static final String DISEASE = "Batteri";
+    private static final String MUTATION = "Follia";
+    private static final int TICKS = 200;
+    private static final int MUTATION_TICK = 120;
+    private static final int DESELECT_TICK = 150;
+
+    /**
+     * Plays a game the way the controller does, recording it.
+     */
+    private static InputJournal play(final long seed) {
+        final InputJournal journal = new InputJournalImpl(seed);
+        final Model model = new ModelImpl(new XoroshiroRandomSource(seed));
+        final RegionController regionController = new RegionControllerImpl();
+        model.setRegions(regionController.getRegions(), regionController.getStateStore());
+        model.setVoyages(new VoyageControllerImpl().createVoyage(model.getRandomSource().split()));
+        model.setEvents(new EventControllerImpl().createEvents());
+        final DiseaseController diseaseController = new DiseaseControllerImpl();
+        diseaseController.readFile(new DiseaseReaderImpl().getDiseases());
+        model.setDisease(diseaseController.createDisease(DISEASE, model.getRandomSource().split()));
+        journal.setDiseaseType(DISEASE);
+        model.setCure(new SimpleCureReaderImpl().getSimpleCure(model.getRegions()));
+        model.setDiseaseName("Replay");
+        journal.setDiseaseName("Replay");
+
+        final MutationController mutations = new MutationControllerImpl();
+        final Region start = model.getRegions().get(2);
+        model.selectedRegion(Optional.of(start));
+        journal.record(InputType.SELECT_REGION, Optional.of(start.getName()));
+        journal.record(InputType.START_STOP, Optional.empty());
+        for (int tick = 0; tick < TICKS && !model.isGameOver(); tick++) {
+            if (tick == MUTATION_TICK) {
+                mutations.update(MUTATION, model);
+                journal.record(InputType.MUTATION, Optional.of(MUTATION));
+            } else if (tick == DESELECT_TICK) {
+                model.selectedRegion(Optional.empty());
+                journal.record(InputType.SELECT_REGION, Optional.empty());
+            }
+            model.update();
+            journal.tickCompleted(model);
+        }
+        return journal;
+    }
+
+    @Test
+    void testReplayMatchesRecordedGame() throws IOException {
+        final InputJournal recorded = play(17);
+        final Path file = Files.createTempFile("outbreak", ".json");
+        try {
+            recorded.save(file);
+            final InputJournal loaded = InputJournalImpl.load(file);
+            assertEquals(recorded.getInputs(), loaded.getInputs());
+            assertEquals(recorded.getTicks(), loaded.getTicks());
+            assertEquals(Optional.of(DISEASE), loaded.getDiseaseType());
+
+            final ReplayResult result = new ReplayRunner.Builder(loaded).build().run();
+            assertTrue(result.isConsistent(), result.toString());
+            assertEquals(recorded.getTicks(), result.getTicks());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testReplayDetectsDivergence() throws IOException {
+        final InputJournal recorded = play(17);
+        final Path file = Files.createTempFile("outbreak", ".json");
+        try {
+            recorded.save(file);
+            final String json = Files.readString(file);
+            Files.writeString(file, json.replace("\"seed\":17", "\"seed\":18"));
+            final ReplayResult result = new ReplayRunner.Builder(InputJournalImpl.load(file)).build().run();
+            assertFalse(result.isConsistent());
+            assertEquals(result.getTicks() - 1, result.getFirstMismatch().get().intValue());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
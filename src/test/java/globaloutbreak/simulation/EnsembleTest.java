@@ -0,0 +1,38 @@
+package globaloutbreak.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the ensemble runner.
+ */
+final class EnsembleTest {
+
+    private static final int RUNS = 6;
+    private static final int MAX_TICKS = 40;
+
+    @Test
+    void testDistributions() {
+        final EnsembleResult result = new EnsembleRunner.Builder("Batteri")
+                .setRuns(RUNS)
+                .setMaxTicks(MAX_TICKS)
+                .setParallelism(2)
+                .build()
+                .run();
+        assertEquals(RUNS, result.getRuns());
+        assertTrue(result.getTicks() <= MAX_TICKS);
+        for (final EnsembleMetric metric : EnsembleMetric.values()) {
+            final double[] low = result.getSeries(metric, EnsembleStatistic.P5);
+            final double[] median = result.getSeries(metric, EnsembleStatistic.P50);
+            final double[] high = result.getSeries(metric, EnsembleStatistic.P95);
+            assertEquals(result.getTicks(), median.length);
+            for (int tick = 0; tick < result.getTicks(); tick++) {
+                final double mean = result.get(metric, EnsembleStatistic.MEAN, tick);
+                assertTrue(low[tick] <= median[tick] && median[tick] <= high[tick]);
+                assertTrue(low[tick] <= mean && mean <= high[tick]);
+            }
+        }
+    }
+}
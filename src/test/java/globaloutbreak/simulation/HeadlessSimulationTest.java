@@ -0,0 +1,90 @@
+package globaloutbreak.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import globaloutbreak.model.region.Region;
+
+/**
+ * Test for the headless simulation.
+ */
+final class HeadlessSimulationTest {
+
+    private static final String DISEASE = "Batteri";
+
+    @Test
+    void testRunStopsAtMaxTicks() {
+        final int maxTicks = 20;
+        final AtomicInteger calls = new AtomicInteger();
+        final SimulationResult result = new HeadlessSimulationRunner.Builder(DISEASE)
+                .setMaxTicks(maxTicks)
+                .addTickListener((tick, model) -> assertEquals(calls.getAndIncrement(), tick))
+                .build()
+                .run();
+        assertTrue(result.getTicks() <= maxTicks);
+        assertEquals(result.getTicks(), calls.get());
+        assertTrue(result.getTotalInfected() > 0 || result.getEndCause().isPresent());
+    }
+
+    @Test
+    void testStartRegion() {
+        final SimulationResult result = new HeadlessSimulationRunner.Builder(DISEASE)
+                .setStartRegion("Canada")
+                .setMaxTicks(1)
+                .build()
+                .run();
+        assertEquals(1, result.getTicks());
+        assertTrue(result.getTotalInfected() > 0);
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessSimulationRunner.Builder(DISEASE)
+                .setStartRegion("Atlantide")
+                .build()
+                .run());
+    }
+
+    @Test
+    void testSameSeedSameResult() {
+        final long seed = 42;
+        final int maxTicks = 300;
+        final SimulationResult first = new HeadlessSimulationRunner.Builder(DISEASE)
+                .setSeed(seed)
+                .setMaxTicks(maxTicks)
+                .build()
+                .run();
+        final SimulationResult second = new HeadlessSimulationRunner.Builder(DISEASE)
+                .setSeed(seed)
+                .setMaxTicks(maxTicks)
+                .build()
+                .run();
+        assertEquals(seed, first.getSeed());
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getTotalInfected(), second.getTotalInfected());
+        assertEquals(first.getTotalDeaths(), second.getTotalDeaths());
+        assertEquals(first.getCureProgress(), second.getCureProgress());
+        assertEquals(first.getMessages().size(), second.getMessages().size());
+    }
+
+    @Test
+    void testRunningTotalsMatchRegions() {
+        final int maxTicks = 200;
+        new HeadlessSimulationRunner.Builder(DISEASE)
+                .setSeed(7)
+                .setMaxTicks(maxTicks)
+                .addTickListener((tick, model) -> {
+                    long deaths = 0;
+                    long infected = 0;
+                    for (final Region region : model.getRegions()) {
+                        deaths += region.getNumDeath();
+                        infected += region.getNumInfected();
+                    }
+                    assertEquals(deaths, model.getInfo().getTotalDeaths());
+                    assertEquals(infected, model.getInfo().getTotalInfected());
+                })
+                .build()
+                .run();
+    }
+}
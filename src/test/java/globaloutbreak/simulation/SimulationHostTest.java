@@ -0,0 +1,79 @@
+package globaloutbreak.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the host running many sessions on a shared pool.
+ */
+final class SimulationHostTest {
+
+    private static final String DISEASE = "Batteri";
+    private static final int SESSIONS = 8;
+    private static final int MAX_TICKS = 150;
+    private static final long TIMEOUT = 60;
+
+    @Test
+    void testSessionsMatchHeadlessRuns() throws InterruptedException, ExecutionException, TimeoutException {
+        try (SimulationHost host = new SimulationHostImpl(2)) {
+            final List<Session> sessions = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; i++) {
+                sessions.add(host.open(new SessionSettings.Builder(DISEASE)
+                        .setSeed(i)
+                        .setMaxTicks(MAX_TICKS)
+                        .build()));
+            }
+            for (final Session session : sessions) {
+                final SimulationResult result = session.getResult().get(TIMEOUT, TimeUnit.SECONDS);
+                final SimulationResult expected = new HeadlessSimulationRunner.Builder(DISEASE)
+                        .setSeed(session.getSettings().getSeed())
+                        .setMaxTicks(MAX_TICKS)
+                        .build()
+                        .run();
+                assertEquals(expected.getTicks(), result.getTicks());
+                assertEquals(expected.getTotalInfected(), result.getTotalInfected());
+                assertEquals(expected.getTotalDeaths(), result.getTotalDeaths());
+                assertEquals(SessionState.ENDED, session.getState());
+                assertEquals(result.getTicks(), session.getStats().getTicks());
+                assertTrue(session.getStats().getTicksPerSecond() > 0);
+            }
+            assertTrue(host.getSessions().isEmpty());
+        }
+    }
+
+    @Test
+    void testPauseResumeAndClose() throws InterruptedException, ExecutionException, TimeoutException {
+        try (SimulationHost host = new SimulationHostImpl(1)) {
+            final Session session = host.open(new SessionSettings.Builder(DISEASE)
+                    .setSeed(1)
+                    .setTickPeriod(Duration.ofMillis(1))
+                    .build());
+            session.selectRegion("Canada");
+            assertEquals(session, host.getSession(session.getId()).get());
+            Thread.sleep(50);
+            session.pause();
+            Thread.sleep(20);
+            final int paused = session.getStats().getTicks();
+            Thread.sleep(50);
+            assertEquals(paused, session.getStats().getTicks());
+            assertEquals(SessionState.PAUSED, session.getState());
+
+            session.setTickPeriod(Duration.ZERO);
+            session.resume();
+            session.close();
+            final SimulationResult result = session.getResult().get(TIMEOUT, TimeUnit.SECONDS);
+            assertTrue(result.getTicks() >= paused);
+            assertEquals(SessionState.ENDED, session.getState());
+            assertTrue(host.getSession(session.getId()).isEmpty());
+        }
+    }
+}
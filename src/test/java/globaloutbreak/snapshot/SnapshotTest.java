@@ -0,0 +1,140 @@
+package globaloutbreak.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import globaloutbreak.model.Model;
+import globaloutbreak.model.random.XoroshiroRandomSource;
+import globaloutbreak.model.region.Region;
+import globaloutbreak.model.snapshot.ModelSnapshot;
+import globaloutbreak.model.snapshot.SnapshotReader;
+import globaloutbreak.model.snapshot.SnapshotWriter;
+import globaloutbreak.simulation.HeadlessSimulationRunner;
+import globaloutbreak.simulation.ModelBootstrap;
+
+/**
+ * Test for the binary snapshots of the model.
+ */
+final class SnapshotTest {
+
+    private static final int SAVE_TICK = 60;
+    private static final Set<String> MUTATIONS = Set.of("Resistenza ai farmaci 1");
+
+    private static List<Long> state(final Model model) {
+        final List<Long> state = new ArrayList<>();
+        state.add(model.getInfo().getTotalInfected());
+        state.add(model.getInfo().getTotalDeaths());
+        state.add((long) model.getInfo().getPoints());
+        state.add((long) model.getInfo().getCureData().getProgress());
+        for (final Region region : model.getRegions()) {
+            state.add(region.getNumInfected());
+            state.add(region.getNumDeath());
+        }
+        return state;
+    }
+
+    private static List<Long> save(final Path file) {
+        final List<List<Long>> saved = new ArrayList<>();
+        new HeadlessSimulationRunner.Builder("Batteri")
+                .setSeed(3)
+                .setMaxTicks(SAVE_TICK + 1)
+                .addTickListener((tick, model) -> {
+                    if (tick == SAVE_TICK) {
+                        try {
+                            ModelSnapshot.write(file, model, MUTATIONS);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        saved.add(state(model));
+                    }
+                })
+                .build()
+                .run();
+        assertEquals(1, saved.size());
+        return saved.get(0);
+    }
+
+    @Test
+    void testRestoreMatchesSavedState(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("outbreak.snapshot");
+        final List<Long> saved = save(file);
+        final ModelSnapshot snapshot = ModelSnapshot.read(file, new XoroshiroRandomSource(1));
+        assertEquals(saved, state(snapshot.getModel()));
+        assertEquals(MUTATIONS, snapshot.getActiveMutations());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void testRestoresEvolveTheSameWay(@TempDir final Path dir) throws IOException {
+        final int ticks = 100;
+        final Path file = dir.resolve("outbreak.snapshot");
+        save(file);
+        final Model first = ModelSnapshot.read(file, new XoroshiroRandomSource(5)).getModel();
+        final Model second = ModelSnapshot.read(file, new XoroshiroRandomSource(5)).getModel();
+        for (int i = 0; i < ticks; i++) {
+            first.update();
+            second.update();
+        }
+        assertEquals(state(first), state(second));
+    }
+
+    @Test
+    void testRejectsOtherFiles(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("outbreak.snapshot");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8 });
+        assertThrows(IOException.class, () -> ModelSnapshot.read(file, new XoroshiroRandomSource(1)));
+    }
+
+    @Test
+    void testFailedSaveKeepsOldSnapshot(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("outbreak.snapshot");
+        final byte[] old = {1, 2, 3, 4 };
+        Files.write(file, old);
+        final Model model = ModelBootstrap.create("Batteri", 3);
+        // the mutations are written after the model, so the save fails halfway
+        assertThrows(NullPointerException.class, () -> ModelSnapshot.write(file, model, null));
+        assertArrayEquals(old, Files.readAllBytes(file));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void testColumnsLargerThanTheStage(@TempDir final Path dir) throws IOException {
+        final int length = 100_000;
+        final long[] column = new long[length];
+        for (int i = 0; i < length; i++) {
+            column[i] = (long) i * i;
+        }
+        final Path file = dir.resolve("columns.snapshot");
+        try (SnapshotWriter out = new SnapshotWriter(file)) {
+            out.putInt(length);
+            out.putLongs(column, length);
+            out.putInt(-1);
+            out.commit();
+        }
+        assertEquals(Integer.BYTES * 2 + (long) length * Long.BYTES, Files.size(file));
+        final long[] read = new long[length];
+        try (SnapshotReader in = new SnapshotReader(file)) {
+            assertEquals(length, in.getInt());
+            in.getLongs(read, length);
+            assertEquals(-1, in.getInt());
+        }
+        assertArrayEquals(column, read);
+    }
+}
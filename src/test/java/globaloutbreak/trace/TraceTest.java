@@ -0,0 +1,81 @@
+package globaloutbreak.trace;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import globaloutbreak.model.region.Region;
+import globaloutbreak.simulation.HeadlessSimulationRunner;
+import globaloutbreak.simulation.SimulationResult;
+import globaloutbreak.simulation.trace.TraceReader;
+import globaloutbreak.simulation.trace.TraceRecorder;
+
+/**
+ * Test for the trace recorder and reader.
+ */
+final class TraceTest {
+
+    private static final int MAX_TICKS = 400;
+    private static final int REGION = 3;
+
+    @Test
+    void testTraceMatchesRun(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("outbreak.trace");
+        final List<long[]> infected = new ArrayList<>();
+        final List<Long> deaths = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final SimulationResult result;
+        try (TraceRecorder recorder = new TraceRecorder(file)) {
+            result = new HeadlessSimulationRunner.Builder("Batteri")
+                    .setSeed(11)
+                    .setMaxTicks(MAX_TICKS)
+                    .addTickListener(recorder)
+                    .addTickListener((tick, model) -> {
+                        if (names.isEmpty()) {
+                            model.getRegions().forEach(r -> names.add(r.getName()));
+                        }
+                        infected.add(model.getRegions().stream().mapToLong(Region::getNumInfected).toArray());
+                        deaths.add(model.getInfo().getTotalDeaths());
+                    })
+                    .build()
+                    .run();
+            assertEquals(result.getTicks(), recorder.getTicks());
+        }
+        try (TraceReader reader = new TraceReader(file)) {
+            assertEquals(result.getTicks(), reader.getTicks());
+            assertEquals(names, reader.getRegionNames());
+            final long[] row = new long[reader.getRegionCount()];
+            for (int tick = 0; tick < reader.getTicks(); tick++) {
+                reader.readInfected(tick, row);
+                assertArrayEquals(infected.get(tick), row);
+                assertEquals(deaths.get(tick).longValue(), reader.getTotalDeaths(tick));
+            }
+            final int last = reader.getTicks() - 1;
+            assertEquals(result.getTotalInfected(), reader.getTotalInfected(last));
+            assertEquals(result.getCureProgress(), reader.getCureProgress(last));
+
+            final long[] trajectory = new long[MAX_TICKS + 1];
+            assertEquals(reader.getTicks(), reader.readInfectedTrajectory(REGION, 0, trajectory));
+            assertEquals(infected.get(last)[REGION], trajectory[last]);
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getTotalInfected(last + 1));
+        }
+    }
+
+    @Test
+    void testEmptyTrace(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("outbreak.trace");
+        new TraceRecorder(file).close();
+        try (TraceReader reader = new TraceReader(file)) {
+            assertEquals(0, reader.getTicks());
+            assertEquals(0, reader.getRegionCount());
+        }
+    }
+}